@@ -0,0 +1,39 @@
+package com.email.common.config;
+
+import com.email.common.http.GzipRequestDecompressionFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * gzip 요청 본문 해제 필터 등록 설정 클래스입니다.
+ * 압축 요청을 받는 서비스 간 수신 엔드포인트에만 필터를 적용합니다.
+ * 공통 모듈은 모든 서비스가 스캔하므로 http.server.gzip-decompression.enabled=true인 서비스(mock)에서만 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "http.server.gzip-decompression", name = "enabled", havingValue = "true")
+public class GzipDecompressionConfig {
+
+    @Value("${http.server.gzip-decompression.url-patterns:/api/mock/deliver}")
+    private String[] urlPatterns;
+
+    @Value("${http.server.gzip-decompression.max-inflated-bytes:16777216}")
+    private long maxInflatedBytes;
+
+    /**
+     * gzip 요청 본문 해제 필터를 수신 엔드포인트에 등록합니다.
+     *
+     * @param objectMapper 오류 응답 직렬화에 사용할 ObjectMapper
+     * @return 필터 등록 정보
+     */
+    @Bean
+    public FilterRegistrationBean<GzipRequestDecompressionFilter> gzipRequestDecompressionFilter(ObjectMapper objectMapper) {
+        FilterRegistrationBean<GzipRequestDecompressionFilter> registration =
+                new FilterRegistrationBean<>(new GzipRequestDecompressionFilter(maxInflatedBytes, objectMapper));
+        registration.addUrlPatterns(urlPatterns);
+        return registration;
+    }
+}
@@ -0,0 +1,116 @@
+package com.email.common.config;
+
+import com.email.common.http.GzipRequestInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 서비스 간 호출용 HTTP 클라이언트 설정 클래스입니다.
+ * keep-alive 연결 풀, 라우트별 연결 한도, 연결/응답/풀 대기 타임아웃을 적용한
+ * RestTemplate을 등록하고, 연결 풀 사용량을 Micrometer 메트릭으로 노출합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "http.client", name = "enabled", havingValue = "true")
+public class HttpClientConfig {
+
+    @Value("${http.client.max-total:200}")
+    private int maxTotal;
+
+    @Value("${http.client.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${http.client.connect-timeout-ms:2000}")
+    private long connectTimeoutMillis;
+
+    @Value("${http.client.read-timeout-ms:10000}")
+    private long readTimeoutMillis;
+
+    @Value("${http.client.acquire-timeout-ms:1000}")
+    private long acquireTimeoutMillis;
+
+    @Value("${http.client.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    @Value("${http.client.gzip-requests:false}")
+    private boolean gzipRequests;
+
+    @Value("${http.client.gzip-min-bytes:2048}")
+    private int gzipMinBytes;
+
+    /**
+     * 연결 풀 관리자를 생성합니다.
+     *
+     * @return 연결 풀 관리자
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    /**
+     * 연결 풀을 사용하는 HTTP 클라이언트를 생성합니다.
+     *
+     * @param connectionManager 연결 풀 관리자
+     * @return HTTP 클라이언트
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pooledHttpClient(PoolingHttpClientConnectionManager connectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
+    }
+
+    /**
+     * 연결 풀 기반 RestTemplate을 생성합니다.
+     *
+     * @param pooledHttpClient HTTP 클라이언트
+     * @return RestTemplate
+     */
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient pooledHttpClient) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(pooledHttpClient));
+        if (gzipRequests) {
+            restTemplate.getInterceptors().add(new GzipRequestInterceptor(gzipMinBytes));
+        }
+        return restTemplate;
+    }
+
+    /**
+     * 연결 풀 사용량 메트릭(httpcomponents.httpclient.pool.*)을 등록합니다.
+     *
+     * @param connectionManager 연결 풀 관리자
+     * @return 메트릭 바인더
+     */
+    @Bean
+    public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "inter-service");
+    }
+}
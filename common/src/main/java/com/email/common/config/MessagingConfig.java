@@ -0,0 +1,54 @@
+package com.email.common.config;
+
+import com.email.common.messaging.EventPublisher;
+import com.email.common.messaging.InMemoryEventPublisher;
+import com.email.common.messaging.ServiceBusEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이벤트 발행 설정 클래스입니다.
+ * messaging.publisher.type 값에 따라 Service Bus 또는 인메모리 발행기를 등록하며,
+ * 값이 없으면 발행기를 등록하지 않습니다.
+ */
+@Configuration
+public class MessagingConfig {
+    
+    /**
+     * Service Bus 이벤트 발행기를 생성합니다.
+     *
+     * @param connectionString Service Bus 연결 문자열
+     * @param bufferCapacity 큐별 발행 버퍼 크기
+     * @param lingerMillis 배치를 채우기 위해 기다리는 최대 시간(ms)
+     * @param maxBatchMessages 배치당 최대 메시지 수
+     * @param enqueueTimeoutMillis 버퍼가 가득 찼을 때 기다리는 최대 시간(ms)
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 이벤트 발행기
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "messaging.publisher", name = "type", havingValue = "servicebus")
+    public EventPublisher serviceBusEventPublisher(
+            @Value("${azure.servicebus.connection-string}") String connectionString,
+            @Value("${messaging.publisher.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${messaging.publisher.linger-ms:10}") long lingerMillis,
+            @Value("${messaging.publisher.max-batch-messages:500}") int maxBatchMessages,
+            @Value("${messaging.publisher.enqueue-timeout-ms:100}") long enqueueTimeoutMillis,
+            MeterRegistry meterRegistry) {
+        return new ServiceBusEventPublisher(connectionString, bufferCapacity, lingerMillis,
+                maxBatchMessages, enqueueTimeoutMillis, meterRegistry);
+    }
+    
+    /**
+     * 인메모리 이벤트 발행기를 생성합니다.
+     *
+     * @return 이벤트 발행기
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "messaging.publisher", name = "type", havingValue = "in-memory")
+    public EventPublisher inMemoryEventPublisher() {
+        return new InMemoryEventPublisher();
+    }
+}
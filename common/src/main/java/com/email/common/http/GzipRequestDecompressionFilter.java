@@ -0,0 +1,201 @@
+package com.email.common.http;
+
+import com.email.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+* Content-Encoding: gzip 요청 본문을 해제하는 필터입니다.
+* 서비스 간 호출에서 {@link GzipRequestInterceptor}로 압축한 요청을 받기 위해 사용합니다.
+* 본문은 최대 해제 크기까지만 메모리에 풀어 두며, 초과하면 413, gzip 형식이 깨졌으면 400으로 응답합니다.
+* 등록은 {@link com.email.common.config.GzipDecompressionConfig}에서 수신 엔드포인트에만 합니다.
+*/
+@Slf4j
+public class GzipRequestDecompressionFilter extends OncePerRequestFilter {
+
+   private static final String GZIP = "gzip";
+   private static final int BUFFER_SIZE = 8192;
+   
+   private final long maxInflatedBytes;
+   private final ObjectMapper objectMapper;
+   
+   public GzipRequestDecompressionFilter(long maxInflatedBytes, ObjectMapper objectMapper) {
+       this.maxInflatedBytes = maxInflatedBytes;
+       this.objectMapper = objectMapper;
+   }
+   
+   @Override
+   protected boolean shouldNotFilter(HttpServletRequest request) {
+       return !GZIP.equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+   }
+   
+   @Override
+   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+           throws ServletException, IOException {
+       byte[] inflated;
+       try {
+           inflated = inflate(request.getInputStream());
+       } catch (InflatedSizeExceededException e) {
+           log.warn("gzip 요청 본문 해제 크기 초과: uri={}, limit={}", request.getRequestURI(), maxInflatedBytes);
+           writeError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                   "압축 해제된 요청 본문이 최대 크기(" + maxInflatedBytes + " bytes)를 초과합니다.");
+           return;
+       } catch (ZipException | EOFException e) {
+           log.warn("gzip 요청 본문 해제 실패: uri={}, error={}", request.getRequestURI(), e.getMessage());
+           writeError(response, HttpServletResponse.SC_BAD_REQUEST, "gzip 요청 본문이 올바르지 않습니다.");
+           return;
+       }
+       
+       filterChain.doFilter(new GzipRequestWrapper(request, inflated), response);
+   }
+   
+   /**
+    * 본문을 최대 해제 크기까지만 읽어 해제합니다.
+    *
+    * @param compressed 압축된 본문 스트림
+    * @return 해제된 본문
+    * @throws IOException 형식 오류 또는 최대 크기 초과 시
+    */
+   private byte[] inflate(InputStream compressed) throws IOException {
+       ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+       byte[] buffer = new byte[BUFFER_SIZE];
+       long total = 0;
+       
+       try (GZIPInputStream gzip = new GZIPInputStream(compressed, BUFFER_SIZE)) {
+           int n;
+           while ((n = gzip.read(buffer)) >= 0) {
+               total += n;
+               if (total > maxInflatedBytes) {
+                   throw new InflatedSizeExceededException();
+               }
+               out.write(buffer, 0, n);
+           }
+       }
+       return out.toByteArray();
+   }
+   
+   private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+       response.setStatus(status);
+       response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+       response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+       objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(status, message));
+   }
+   
+   /**
+    * 해제된 본문이 최대 크기를 초과했음을 나타내는 예외입니다.
+    */
+   private static class InflatedSizeExceededException extends IOException {
+   }
+   
+   /**
+    * 해제된 본문을 제공하는 요청 래퍼 클래스입니다.
+    * 본문이 이미 메모리에 있으므로 스트림은 항상 읽을 준비가 되어 있으며,
+    * 비동기 읽기 리스너를 등록하면 바로 데이터 도착과 읽기 완료를 알립니다.
+    */
+   private static class GzipRequestWrapper extends HttpServletRequestWrapper {
+       
+       private final byte[] body;
+       
+       GzipRequestWrapper(HttpServletRequest request, byte[] body) {
+           super(request);
+           this.body = body;
+       }
+       
+       @Override
+       public ServletInputStream getInputStream() {
+           ByteArrayInputStream source = new ByteArrayInputStream(body);
+           return new ServletInputStream() {
+               
+               @Override
+               public int read() {
+                   return source.read();
+               }
+               
+               @Override
+               public int read(byte[] buffer, int offset, int length) {
+                   return source.read(buffer, offset, length);
+               }
+               
+               @Override
+               public boolean isFinished() {
+                   return source.available() == 0;
+               }
+               
+               @Override
+               public boolean isReady() {
+                   return true;
+               }
+               
+               @Override
+               public void setReadListener(ReadListener readListener) {
+                   if (readListener == null) {
+                       throw new NullPointerException("readListener");
+                   }
+                   try {
+                       if (!isFinished()) {
+                           readListener.onDataAvailable();
+                       }
+                       if (isFinished()) {
+                           readListener.onAllDataRead();
+                       }
+                   } catch (IOException e) {
+                       readListener.onError(e);
+                   }
+               }
+           };
+       }
+       
+       @Override
+       public String getHeader(String name) {
+           if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)) {
+               return null;
+           }
+           if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+               return String.valueOf(body.length);
+           }
+           return super.getHeader(name);
+       }
+       
+       @Override
+       public Enumeration<String> getHeaders(String name) {
+           if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)) {
+               return Collections.emptyEnumeration();
+           }
+           if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+               return Collections.enumeration(Collections.singletonList(String.valueOf(body.length)));
+           }
+           return super.getHeaders(name);
+       }
+       
+       @Override
+       public int getContentLength() {
+           return body.length;
+       }
+       
+       @Override
+       public long getContentLengthLong() {
+           return body.length;
+       }
+   }
+}
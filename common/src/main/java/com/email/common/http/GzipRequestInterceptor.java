@@ -0,0 +1,53 @@
+package com.email.common.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+* 일정 크기 이상의 요청 본문을 gzip으로 압축하는 인터셉터입니다.
+* 수신 측은 {@link GzipRequestDecompressionFilter}로 본문을 해제합니다.
+*/
+public class GzipRequestInterceptor implements ClientHttpRequestInterceptor {
+
+   private static final String GZIP = "gzip";
+
+   private final int minBytes;
+   
+   public GzipRequestInterceptor(int minBytes) {
+       this.minBytes = minBytes;
+   }
+   
+   /**
+    * 요청 본문이 기준 크기 이상이면 압축하여 전송합니다.
+    *
+    * @param request 요청
+    * @param body 요청 본문
+    * @param execution 요청 실행기
+    * @return 응답
+    * @throws IOException 전송 실패 시
+    */
+   @Override
+   public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+           throws IOException {
+       if (body.length < minBytes || request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+           return execution.execute(request, body);
+       }
+       
+       ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+       try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+           gzip.write(body);
+       }
+       
+       byte[] compressedBody = compressed.toByteArray();
+       request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+       request.getHeaders().setContentLength(compressedBody.length);
+       return execution.execute(request, compressedBody);
+   }
+}
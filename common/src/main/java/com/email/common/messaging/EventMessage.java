@@ -0,0 +1,30 @@
+package com.email.common.messaging;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+* 발행할 이벤트 메시지 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventMessage {
+   
+   private String body;
+   private String messageId;
+   private String subject;
+   
+   /**
+    * 본문만 있는 메시지를 생성합니다.
+    *
+    * @param body 메시지 본문
+    * @return 이벤트 메시지
+    */
+   public static EventMessage of(String body) {
+       return EventMessage.builder().body(body).build();
+   }
+}
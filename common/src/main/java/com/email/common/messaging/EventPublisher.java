@@ -0,0 +1,20 @@
+package com.email.common.messaging;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+* 이벤트 발행 인터페이스입니다.
+*/
+public interface EventPublisher {
+   
+   /**
+    * 이벤트를 지정된 큐로 발행합니다.
+    * 큐별 순서가 보장되며, 반환된 Future는 브로커 전송이 끝나면 완료됩니다.
+    *
+    * @param queueName 큐 이름
+    * @param message 이벤트 메시지
+    * @return 전송 완료 Future
+    * @throws com.email.common.exception.InfraException 발행 버퍼가 가득 찬 경우
+    */
+   CompletableFuture<Void> publish(String queueName, EventMessage message);
+}
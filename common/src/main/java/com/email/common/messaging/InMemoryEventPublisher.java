@@ -0,0 +1,51 @@
+package com.email.common.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+* 메모리에 이벤트를 보관하는 발행 구현 클래스입니다.
+* Service Bus 없이 로컬 실행과 테스트에서 사용합니다.
+*/
+@Slf4j
+public class InMemoryEventPublisher implements EventPublisher {
+
+   private final Map<String, List<EventMessage>> published = new ConcurrentHashMap<>();
+   
+   /**
+    * 이벤트를 메모리에 보관합니다.
+    *
+    * @param queueName 큐 이름
+    * @param message 이벤트 메시지
+    * @return 완료된 Future
+    */
+   @Override
+   public CompletableFuture<Void> publish(String queueName, EventMessage message) {
+       published.computeIfAbsent(queueName, key -> new CopyOnWriteArrayList<>()).add(message);
+       log.debug("인메모리 이벤트 발행: queue={}, messageId={}", queueName, message.getMessageId());
+       return CompletableFuture.completedFuture(null);
+   }
+   
+   /**
+    * 큐에 발행된 이벤트 목록을 반환합니다.
+    *
+    * @param queueName 큐 이름
+    * @return 발행된 이벤트 목록
+    */
+   public List<EventMessage> getPublished(String queueName) {
+       return Collections.unmodifiableList(published.getOrDefault(queueName, Collections.emptyList()));
+   }
+   
+   /**
+    * 보관된 이벤트를 모두 삭제합니다.
+    */
+   public void clear() {
+       published.clear();
+   }
+}
@@ -0,0 +1,264 @@
+package com.email.common.messaging;
+
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import com.email.common.exception.InfraException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+* Azure Service Bus 이벤트 발행 구현 클래스입니다.
+* 큐마다 오래 유지되는 발신자 하나와 전송 스레드 하나를 두고, 버퍼에 쌓인 이벤트를
+* 최대 크기 또는 대기 시간(linger)에 도달할 때까지 {@link ServiceBusMessageBatch}로 묶어 전송합니다.
+* 버퍼가 가득 차면 발행 요청을 거부하여 호출자에게 배압을 전달합니다.
+*/
+@Slf4j
+public class ServiceBusEventPublisher implements EventPublisher, DisposableBean {
+
+   private final String connectionString;
+   private final int bufferCapacity;
+   private final long lingerNanos;
+   private final int maxBatchMessages;
+   private final long enqueueTimeoutMillis;
+   private final MeterRegistry meterRegistry;
+   
+   private final Map<String, QueueChannel> channels = new ConcurrentHashMap<>();
+   private volatile boolean closed;
+   
+   public ServiceBusEventPublisher(String connectionString,
+                                   int bufferCapacity,
+                                   long lingerMillis,
+                                   int maxBatchMessages,
+                                   long enqueueTimeoutMillis,
+                                   MeterRegistry meterRegistry) {
+       this.connectionString = connectionString;
+       this.bufferCapacity = bufferCapacity;
+       this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+       this.maxBatchMessages = maxBatchMessages;
+       this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+       this.meterRegistry = meterRegistry;
+   }
+   
+   /**
+    * 이벤트를 큐의 발행 버퍼에 넣습니다.
+    *
+    * @param queueName 큐 이름
+    * @param message 이벤트 메시지
+    * @return 전송 완료 Future
+    */
+   @Override
+   public CompletableFuture<Void> publish(String queueName, EventMessage message) {
+       if (closed) {
+           throw new InfraException(503, "이벤트 발행기가 종료되었습니다.");
+       }
+       
+       QueueChannel channel = channels.computeIfAbsent(queueName, QueueChannel::new);
+       PendingMessage pending = new PendingMessage(toServiceBusMessage(message));
+       
+       try {
+           if (!channel.buffer.offer(pending, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+               channel.rejected.increment();
+               throw new InfraException(503, "이벤트 발행 버퍼가 가득 찼습니다: queue=" + queueName);
+           }
+       } catch (InterruptedException e) {
+           Thread.currentThread().interrupt();
+           throw new InfraException(503, "이벤트 발행이 중단되었습니다: queue=" + queueName, e);
+       }
+       
+       return pending.future;
+   }
+   
+   /**
+    * 버퍼에 남은 이벤트를 전송한 뒤 발신자를 닫습니다.
+    */
+   @Override
+   public void destroy() {
+       closed = true;
+       for (QueueChannel channel : channels.values()) {
+           channel.shutdown();
+       }
+   }
+   
+   private static ServiceBusMessage toServiceBusMessage(EventMessage message) {
+       ServiceBusMessage serviceBusMessage = new ServiceBusMessage(message.getBody());
+       if (message.getMessageId() != null) {
+           serviceBusMessage.setMessageId(message.getMessageId());
+       }
+       if (message.getSubject() != null) {
+           serviceBusMessage.setSubject(message.getSubject());
+       }
+       return serviceBusMessage;
+   }
+   
+   /**
+    * 전송 대기 중인 메시지 클래스입니다.
+    */
+   private static class PendingMessage {
+       private final ServiceBusMessage message;
+       private final long enqueuedAt = System.nanoTime();
+       private final CompletableFuture<Void> future = new CompletableFuture<>();
+       
+       PendingMessage(ServiceBusMessage message) {
+           this.message = message;
+       }
+   }
+   
+   /**
+    * 큐 하나에 대한 발신자, 버퍼, 전송 스레드를 묶은 클래스입니다.
+    */
+   private class QueueChannel implements Runnable {
+       private final String queueName;
+       private final ServiceBusSenderClient sender;
+       private final BlockingQueue<PendingMessage> buffer;
+       private final Thread worker;
+       private final Timer publishLatency;
+       private final DistributionSummary batchFill;
+       private final DistributionSummary batchMessages;
+       private final Counter rejected;
+       private final Counter failed;
+       private volatile boolean running = true;
+       private PendingMessage carryOver;
+       
+       QueueChannel(String queueName) {
+           this.queueName = queueName;
+           this.sender = new ServiceBusClientBuilder()
+                   .connectionString(connectionString)
+                   .sender()
+                   .queueName(queueName)
+                   .buildClient();
+           this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+           
+           this.publishLatency = Timer.builder("servicebus.publish.latency")
+                   .description("발행 요청부터 브로커 전송 완료까지의 시간")
+                   .tag("queue", queueName)
+                   .publishPercentiles(0.5, 0.99)
+                   .register(meterRegistry);
+           this.batchFill = DistributionSummary.builder("servicebus.batch.fill")
+                   .description("전송한 배치의 최대 크기 대비 사용률")
+                   .tag("queue", queueName)
+                   .register(meterRegistry);
+           this.batchMessages = DistributionSummary.builder("servicebus.batch.messages")
+                   .description("전송한 배치당 메시지 수")
+                   .tag("queue", queueName)
+                   .register(meterRegistry);
+           this.rejected = Counter.builder("servicebus.publish.rejected")
+                   .description("버퍼가 가득 차 거부된 발행 요청 수")
+                   .tag("queue", queueName)
+                   .register(meterRegistry);
+           this.failed = Counter.builder("servicebus.publish.failed")
+                   .description("전송에 실패한 메시지 수")
+                   .tag("queue", queueName)
+                   .register(meterRegistry);
+           Gauge.builder("servicebus.publish.buffer.size", buffer, BlockingQueue::size)
+                   .description("전송 대기 중인 메시지 수")
+                   .tag("queue", queueName)
+                   .register(meterRegistry);
+           
+           this.worker = new Thread(this, "servicebus-publisher-" + queueName);
+           this.worker.setDaemon(true);
+           this.worker.start();
+           log.info("Service Bus 발행 채널 생성: queue={}", queueName);
+       }
+       
+       @Override
+       public void run() {
+           while (running || carryOver != null || !buffer.isEmpty()) {
+               try {
+                   PendingMessage first = carryOver != null ? carryOver : buffer.poll(100, TimeUnit.MILLISECONDS);
+                   carryOver = null;
+                   if (first != null) {
+                       sendBatchStartingWith(first);
+                   }
+               } catch (InterruptedException e) {
+                   running = false;
+               } catch (Exception e) {
+                   log.error("Service Bus 발행 채널 오류: queue={}", queueName, e);
+               }
+           }
+       }
+       
+       /**
+        * 첫 메시지부터 배치가 가득 차거나 linger 시간이 지날 때까지 메시지를 모아 전송합니다.
+        */
+       private void sendBatchStartingWith(PendingMessage first) throws InterruptedException {
+           // 배치 생성이나 수집 중에 실패해도 이미 꺼낸 메시지의 future는 반드시 완료합니다.
+           List<PendingMessage> inBatch = new ArrayList<>();
+           inBatch.add(first);
+           
+           try {
+               ServiceBusMessageBatch batch = sender.createMessageBatch();
+               if (!batch.tryAddMessage(first.message)) {
+                   failed.increment();
+                   first.future.completeExceptionally(
+                           new InfraException(413, "이벤트가 최대 메시지 크기를 초과합니다: queue=" + queueName));
+                   return;
+               }
+               
+               long deadline = System.nanoTime() + lingerNanos;
+               while (inBatch.size() < maxBatchMessages) {
+                   long remaining = deadline - System.nanoTime();
+                   PendingMessage next = remaining > 0 && running
+                           ? buffer.poll(remaining, TimeUnit.NANOSECONDS)
+                           : buffer.poll();
+                   if (next == null) {
+                       break;
+                   }
+                   if (!batch.tryAddMessage(next.message)) {
+                       carryOver = next;
+                       break;
+                   }
+                   inBatch.add(next);
+               }
+               
+               sender.sendMessages(batch);
+               long now = System.nanoTime();
+               for (PendingMessage pending : inBatch) {
+                   publishLatency.record(now - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+                   pending.future.complete(null);
+               }
+               batchMessages.record(inBatch.size());
+               batchFill.record((double) batch.getSizeInBytes() / batch.getMaxSizeInBytes());
+           } catch (InterruptedException e) {
+               failAll(inBatch, e);
+               throw e;
+           } catch (Exception e) {
+               log.error("Service Bus 배치 전송 실패: queue={}, count={}", queueName, inBatch.size(), e);
+               failAll(inBatch, e);
+           }
+       }
+       
+       private void failAll(List<PendingMessage> pendings, Exception cause) {
+           failed.increment(pendings.size());
+           for (PendingMessage pending : pendings) {
+               pending.future.completeExceptionally(cause);
+           }
+       }
+       
+       void shutdown() {
+           running = false;
+           try {
+               worker.join(TimeUnit.SECONDS.toMillis(10));
+           } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+           }
+           sender.close();
+           log.info("Service Bus 발행 채널 종료: queue={}", queueName);
+       }
+   }
+}
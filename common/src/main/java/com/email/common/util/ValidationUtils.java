@@ -1,15 +1,16 @@
 package com.email.common.util;
 
 import java.time.LocalDate;
-import java.util.regex.Pattern;
+import java.util.Collection;
+import java.util.List;
 
 /**
 * 유효성 검증 유틸리티 클래스입니다.
 */
 public class ValidationUtils {
    
-   private static final Pattern EMAIL_PATTERN = 
-           Pattern.compile("^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+   // 이 개수 이상이면 이메일 목록을 병렬로 검증합니다.
+   private static final int PARALLEL_VALIDATION_THRESHOLD = 2048;
    
    private ValidationUtils() {
        throw new IllegalStateException("Utility class");
@@ -17,6 +18,8 @@ public class ValidationUtils {
    
    /**
     * 이메일 형식을 검증합니다.
+    * 정규식 ^[a-zA-Z0-9_+&*-]+(?:\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\.)+[a-zA-Z]{2,7}$ 와
+    * 동일한 규칙을 Matcher 생성이나 역추적 없이 한 번의 순회로 검사합니다.
     *
     * @param email 이메일
     * @return 유효성 여부
@@ -25,7 +28,87 @@ public class ValidationUtils {
        if (email == null || email.isEmpty()) {
            return false;
        }
-       return EMAIL_PATTERN.matcher(email).matches();
+       
+       int length = email.length();
+       int i = 0;
+       
+       // 로컬 파트: 점으로 구분된 비어 있지 않은 토큰
+       boolean tokenStart = true;
+       for (; i < length; i++) {
+           char c = email.charAt(i);
+           if (c == '@') {
+               break;
+           }
+           if (c == '.') {
+               if (tokenStart) {
+                   return false;
+               }
+               tokenStart = true;
+           } else if (isLocalChar(c)) {
+               tokenStart = false;
+           } else {
+               return false;
+           }
+       }
+       if (i == length || tokenStart) {
+           return false;
+       }
+       
+       // 도메인: 하나 이상의 "라벨." 뒤에 영문자 2~7자의 최상위 도메인
+       int labelLength = 0;
+       int dotCount = 0;
+       boolean labelAlphabetic = true;
+       for (i++; i < length; i++) {
+           char c = email.charAt(i);
+           if (c == '.') {
+               if (labelLength == 0) {
+                   return false;
+               }
+               dotCount++;
+               labelLength = 0;
+               labelAlphabetic = true;
+           } else if (isAsciiLetter(c)) {
+               labelLength++;
+           } else if ((c >= '0' && c <= '9') || c == '-') {
+               labelLength++;
+               labelAlphabetic = false;
+           } else {
+               return false;
+           }
+       }
+       
+       return dotCount > 0 && labelAlphabetic && labelLength >= 2 && labelLength <= 7;
+   }
+   
+   /**
+    * 이메일 목록에서 형식이 올바르지 않은 주소를 모두 찾습니다.
+    * 목록이 크면 병렬로 검증하며, 결과는 입력 순서를 유지합니다.
+    *
+    * @param emails 이메일 목록
+    * @return 형식이 올바르지 않은 이메일 목록 (없으면 빈 목록)
+    */
+   public static List<String> findInvalidEmails(Collection<String> emails) {
+       if (emails == null || emails.isEmpty()) {
+           return List.of();
+       }
+       
+       if (emails.size() < PARALLEL_VALIDATION_THRESHOLD) {
+           return emails.stream()
+                   .filter(email -> !validateEmail(email))
+                   .toList();
+       }
+       return emails.parallelStream()
+               .filter(email -> !validateEmail(email))
+               .toList();
+   }
+   
+   private static boolean isLocalChar(char c) {
+       return isAsciiLetter(c) || (c >= '0' && c <= '9')
+               || c == '_' || c == '+' || c == '&' || c == '*' || c == '-';
+   }
+   
+   private static boolean isAsciiLetter(char c) {
+       return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
    }
    
    /**
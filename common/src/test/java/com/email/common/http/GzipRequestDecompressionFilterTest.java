@@ -0,0 +1,102 @@
+package com.email.common.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* gzip 요청 본문 해제 필터가 해제한 본문을 동기/비동기 읽기 모두에 제공하는지 확인하는 테스트 클래스입니다.
+*/
+class GzipRequestDecompressionFilterTest {
+
+   private static final String BODY = "{\"recipients\":[\"user@example.com\"]}";
+
+   private final GzipRequestDecompressionFilter filter =
+           new GzipRequestDecompressionFilter(1024, new ObjectMapper());
+
+   @Test
+   void providesInflatedBodyAndHeaders() throws Exception {
+       MockFilterChain chain = new MockFilterChain();
+       filter.doFilter(gzipRequest(BODY), new MockHttpServletResponse(), chain);
+
+       HttpServletRequest request = (HttpServletRequest) chain.getRequest();
+       assertThat(request.getContentLength()).isEqualTo(BODY.length());
+       assertThat(request.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+       assertThat(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+   }
+
+   @Test
+   void readListenerIsNotifiedImmediately() throws Exception {
+       MockFilterChain chain = new MockFilterChain();
+       filter.doFilter(gzipRequest(BODY), new MockHttpServletResponse(), chain);
+
+       ServletInputStream input = chain.getRequest().getInputStream();
+       ByteArrayOutputStream read = new ByteArrayOutputStream();
+       List<String> events = new ArrayList<>();
+
+       assertThat(input.isReady()).isTrue();
+       input.setReadListener(new ReadListener() {
+
+           @Override
+           public void onDataAvailable() throws IOException {
+               events.add("data");
+               byte[] buffer = new byte[8];
+               int n;
+               while (input.isReady() && (n = input.read(buffer)) >= 0) {
+                   read.write(buffer, 0, n);
+               }
+           }
+
+           @Override
+           public void onAllDataRead() {
+               events.add("done");
+           }
+
+           @Override
+           public void onError(Throwable t) {
+               events.add("error");
+           }
+       });
+
+       assertThat(events).containsExactly("data", "done");
+       assertThat(input.isFinished()).isTrue();
+       assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+   }
+
+   @Test
+   void rejectsBodyLargerThanLimit() throws Exception {
+       MockHttpServletResponse response = new MockHttpServletResponse();
+       MockFilterChain chain = new MockFilterChain();
+
+       filter.doFilter(gzipRequest("x".repeat(2048)), response, chain);
+
+       assertThat(response.getStatus()).isEqualTo(413);
+       assertThat(chain.getRequest()).isNull();
+   }
+
+   private static MockHttpServletRequest gzipRequest(String body) throws IOException {
+       ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+       try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+           gzip.write(body.getBytes(StandardCharsets.UTF_8));
+       }
+       MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/mock/deliver");
+       request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+       request.setContent(compressed.toByteArray());
+       return request;
+   }
+}
@@ -0,0 +1,150 @@
+package com.email.common.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* 단일 순회 이메일 검증기와 교체 전 정규식의 검증 시간과 할당량을 비교하는 벤치마크입니다.
+* 주소 1만 개(benchmark.validation.emails로 변경 가능)를 한 건씩 검증할 때와, findInvalidEmails가 순차로 검증하는
+* 병렬 기준 바로 아래 크기 및 병렬로 검증하는 전체 크기에서 중앙값 시간(ms)과 1회당 할당 바이트를 출력합니다.
+* 할당량은 병렬 스트림의 작업 스레드까지 포함하도록 모든 스레드의 할당 바이트 합계로 잽니다.
+* 기본 테스트에서는 제외되며 ./gradlew :common:benchmark로 실행합니다.
+*/
+@Tag("benchmark")
+class EmailValidationBenchmark {
+
+   private static final int EMAIL_COUNT = Integer.getInteger("benchmark.validation.emails", 10_000);
+   // ValidationUtils.PARALLEL_VALIDATION_THRESHOLD 바로 아래 크기로, findInvalidEmails가 순차 스트림을 씁니다.
+   private static final int SEQUENTIAL_COUNT = 2047;
+   private static final int WARMUP_ROUNDS = 200;
+   private static final int MEASURED_ROUNDS = 31;
+
+   // 단일 순회 검증기로 교체하기 전의 정규식
+   private static final Pattern LEGACY_EMAIL_PATTERN =
+           Pattern.compile("^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+
+   private static final com.sun.management.ThreadMXBean THREADS =
+           (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+   @Test
+   void compareValidatorWithLegacyRegex() {
+       assertThat(THREADS.isThreadAllocatedMemorySupported()).isTrue();
+       THREADS.setThreadAllocatedMemoryEnabled(true);
+
+       List<String> emails = sampleEmails(EMAIL_COUNT);
+       List<String> sequentialEmails = emails.subList(0, Math.min(SEQUENTIAL_COUNT, emails.size()));
+
+       System.out.printf("%-34s %12s %12s %16s %16s%n",
+               "case", "new (ms)", "regex (ms)", "new (B/op)", "regex (B/op)");
+
+       Result[] single = compare(
+               () -> countValid(emails),
+               () -> countLegacyValid(emails));
+       print("validateEmail x" + emails.size(), single);
+
+       print("findInvalidEmails " + sequentialEmails.size() + " (sequential)", compare(
+               () -> ValidationUtils.findInvalidEmails(sequentialEmails).size(),
+               () -> sequentialEmails.stream().filter(email -> !legacyValidate(email)).toList().size()));
+
+       print("findInvalidEmails " + emails.size() + " (parallel)", compare(
+               () -> ValidationUtils.findInvalidEmails(emails).size(),
+               () -> emails.parallelStream().filter(email -> !legacyValidate(email)).toList().size()));
+
+       // 정규식은 주소마다 Matcher를 만들므로 한 건씩 검증할 때의 할당량이 반드시 더 큽니다.
+       assertThat(single[0].bytesPerOp).isLessThan(single[1].bytesPerOp);
+   }
+
+   private static Result[] compare(Supplier<Integer> validator, Supplier<Integer> legacy) {
+       assertThat(validator.get()).isEqualTo(legacy.get());
+       return new Result[]{measure(validator), measure(legacy)};
+   }
+
+   private static Result measure(Supplier<Integer> run) {
+       for (int i = 0; i < WARMUP_ROUNDS; i++) {
+           run.get();
+       }
+
+       double[] samples = new double[MEASURED_ROUNDS];
+       long allocatedBefore = allocatedBytes();
+       for (int i = 0; i < MEASURED_ROUNDS; i++) {
+           long start = System.nanoTime();
+           run.get();
+           samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+       }
+       long allocated = allocatedBytes() - allocatedBefore;
+
+       Arrays.sort(samples);
+       return new Result(samples[MEASURED_ROUNDS / 2], allocated / MEASURED_ROUNDS);
+   }
+
+   /**
+    * 살아 있는 모든 스레드가 지금까지 할당한 바이트 합계를 반환합니다.
+    */
+   private static long allocatedBytes() {
+       long total = 0;
+       for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+           if (bytes > 0) {
+               total += bytes;
+           }
+       }
+       return total;
+   }
+
+   private static void print(String name, Result[] results) {
+       System.out.printf("%-34s %12.3f %12.3f %16d %16d%n", name,
+               results[0].millis, results[1].millis, results[0].bytesPerOp, results[1].bytesPerOp);
+   }
+
+   private static int countValid(List<String> emails) {
+       int valid = 0;
+       for (String email : emails) {
+           if (ValidationUtils.validateEmail(email)) {
+               valid++;
+           }
+       }
+       return valid;
+   }
+
+   private static int countLegacyValid(List<String> emails) {
+       int valid = 0;
+       for (String email : emails) {
+           if (legacyValidate(email)) {
+               valid++;
+           }
+       }
+       return valid;
+   }
+
+   private static boolean legacyValidate(String email) {
+       return email != null && !email.isEmpty() && LEGACY_EMAIL_PATTERN.matcher(email).matches();
+   }
+
+   /**
+    * 대량 발송 수신자 목록처럼 대부분 유효하고 열 건 중 한 건꼴로 형식이 틀린 주소 목록을 만듭니다.
+    */
+   private static List<String> sampleEmails(int count) {
+       Random random = new Random(10L);
+       List<String> emails = new ArrayList<>(count);
+       for (int n = 0; n < count; n++) {
+           String email = "user" + n + "." + Integer.toHexString(random.nextInt()) + "@mail" + (n % 50) + ".example.com";
+           if (n % 10 == 0) {
+               email = email.replace('@', random.nextBoolean() ? ' ' : '#');
+           }
+           emails.add(email);
+       }
+       return emails;
+   }
+
+   private record Result(double millis, long bytesPerOp) {
+   }
+}
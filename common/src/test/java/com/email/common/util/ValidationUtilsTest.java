@@ -0,0 +1,145 @@
+package com.email.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* 단일 순회 이메일 검증기가 기존 정규식과 같은 결과를 내는지 비교하는 테스트 클래스입니다.
+*/
+class ValidationUtilsTest {
+   
+   // 단일 순회 검증기로 교체하기 전의 정규식
+   private static final Pattern LEGACY_EMAIL_PATTERN =
+           Pattern.compile("^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+   
+   private static final List<String> HANDWRITTEN_CORPUS = List.of(
+           "user@example.com",
+           "first.last@example.co.kr",
+           "a@b.cd",
+           "a+tag@sub.domain.museum",
+           "x_y&z*w-v@host-1.example.io",
+           "123@456.com",
+           "user@example.c",
+           "user@example.abcdefgh",
+           "user@example.abcdefg",
+           "user@example.c0m",
+           "user@example",
+           "user@.com",
+           "user@example..com",
+           "user@-example.com",
+           "user@example-.com",
+           "user@example.com.",
+           ".user@example.com",
+           "user.@example.com",
+           "us..er@example.com",
+           "@example.com",
+           "user@",
+           "user",
+           "user@@example.com",
+           "user@exa@mple.com",
+           "user name@example.com",
+           "user@exam_ple.com",
+           "유저@example.com",
+           "user@예시.com",
+           "user@example.한국",
+           "user@example.com\n",
+           " user@example.com",
+           "user@example.com ",
+           "\"quoted\"@example.com",
+           "user@[127.0.0.1]",
+           "user@123.456",
+           "user@example.co-m",
+           "-@-.aa",
+           "*@1.AB",
+           "a.b.c.d@e.f.g.hi");
+   
+   // 이메일에 나올 법한 문자와 경계 문자를 섞어 무작위 입력을 만듭니다.
+   private static final char[] RANDOM_ALPHABET =
+           "abcXYZ019._+&*-@ @.\t\"[]()é한".toCharArray();
+   
+   @Test
+   void matchesLegacyRegexOnHandwrittenCorpus() {
+       for (String email : HANDWRITTEN_CORPUS) {
+           assertThat(ValidationUtils.validateEmail(email))
+                   .as("email=%s", email)
+                   .isEqualTo(legacyValidate(email));
+       }
+   }
+   
+   @Test
+   void matchesLegacyRegexOnRandomCorpus() {
+       Random random = new Random(20240601L);
+       for (int n = 0; n < 200_000; n++) {
+           String email = randomEmailLike(random);
+           assertThat(ValidationUtils.validateEmail(email))
+                   .as("email=%s", email)
+                   .isEqualTo(legacyValidate(email));
+       }
+   }
+   
+   @Test
+   void rejectsNullAndEmptyLikeLegacyValidator() {
+       assertThat(ValidationUtils.validateEmail(null)).isFalse();
+       assertThat(ValidationUtils.validateEmail("")).isFalse();
+   }
+   
+   @Test
+   void findInvalidEmailsKeepsInputOrderForParallelValidation() {
+       Random random = new Random(7L);
+       List<String> emails = new ArrayList<>();
+       for (int n = 0; n < 10_000; n++) {
+           emails.add(n % 3 == 0 ? randomEmailLike(random) : "user" + n + "@example.com");
+       }
+       
+       List<String> expected = emails.stream()
+               .filter(email -> !legacyValidate(email))
+               .toList();
+       
+       assertThat(ValidationUtils.findInvalidEmails(emails)).containsExactlyElementsOf(expected);
+   }
+   
+   private static boolean legacyValidate(String email) {
+       return email != null && !email.isEmpty() && LEGACY_EMAIL_PATTERN.matcher(email).matches();
+   }
+   
+   /**
+    * 유효한 주소와 비슷한 모양("로컬@라벨.라벨.tld")을 만든 뒤 일부 문자를 무작위로 바꿉니다.
+    */
+   private static String randomEmailLike(Random random) {
+       StringBuilder builder = new StringBuilder();
+       appendToken(builder, random, 1 + random.nextInt(8));
+       if (random.nextInt(4) == 0) {
+           builder.append('.');
+           appendToken(builder, random, random.nextInt(5));
+       }
+       builder.append('@');
+       int labels = 1 + random.nextInt(3);
+       for (int l = 0; l < labels; l++) {
+           appendToken(builder, random, random.nextInt(6));
+           builder.append('.');
+       }
+       int tldLength = random.nextInt(10);
+       for (int t = 0; t < tldLength; t++) {
+           builder.append((char) ('a' + random.nextInt(26)));
+       }
+       
+       int mutations = random.nextInt(3);
+       for (int m = 0; m < mutations && !builder.isEmpty(); m++) {
+           int position = random.nextInt(builder.length());
+           builder.setCharAt(position, RANDOM_ALPHABET[random.nextInt(RANDOM_ALPHABET.length)]);
+       }
+       return builder.toString();
+   }
+   
+   private static void appendToken(StringBuilder builder, Random random, int length) {
+       for (int t = 0; t < length; t++) {
+           builder.append(RANDOM_ALPHABET[random.nextInt(RANDOM_ALPHABET.length)]);
+       }
+   }
+}
@@ -2,7 +2,10 @@ package com.email.email.config;
 
 import javax.sql.DataSource;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
@@ -10,6 +13,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 데이터 소스 설정 클래스입니다.
  */
@@ -39,6 +45,55 @@ public class DataSourceConfig {
         return DataSourceBuilder.create().build();
     }
 
+    /**
+     * 조회 DB 복제본으로 읽기 전용 조회를 나누어 보내는 데이터 소스를 생성합니다.
+     * 복제본은 email.read-routing.replica-urls에 JDBC URL을 쉼표로 나열하며, 복제본을 늘릴 때 코드 변경은 필요 없습니다.
+     * 복제본이 없거나 모두 제외되면 조회 DB 기본 서버로 연결합니다.
+     *
+     * @param queryDataSource 쿼리 데이터 소스
+     * @param meterRegistry 메트릭 레지스트리
+     * @param replicaUrls 복제본 JDBC URL 목록
+     * @param username 복제본 사용자
+     * @param password 복제본 비밀번호
+     * @param poolSize 복제본별 최대 연결 수
+     * @param connectionTimeoutMillis 복제본 연결 대기 시간 (밀리초)
+     * @param maxLagMillis 허용하는 최대 복제 지연 (밀리초)
+     * @param checkTimeoutSeconds 상태 확인 쿼리 제한 시간 (초)
+     * @return 복제본 라우팅 데이터 소스
+     */
+    @Bean(name = "queryReadDataSource")
+    public ReadReplicaRoutingDataSource queryReadDataSource(
+            @Qualifier("queryDataSource") DataSource queryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${email.read-routing.replica-urls:}") String[] replicaUrls,
+            @Value("${email.read-routing.username:${spring.datasources.query.username:}}") String username,
+            @Value("${email.read-routing.password:${spring.datasources.query.password:}}") String password,
+            @Value("${email.read-routing.pool-size:5}") int poolSize,
+            @Value("${email.read-routing.connection-timeout-ms:2000}") long connectionTimeoutMillis,
+            @Value("${email.read-routing.max-lag-ms:5000}") long maxLagMillis,
+            @Value("${email.read-routing.check-timeout-seconds:2}") int checkTimeoutSeconds) {
+        List<ReadReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "query-replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setMinimumIdle(1);
+            replica.setConnectionTimeout(connectionTimeoutMillis);
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 시작하고, 상태 확인이 통과하면 사용합니다.
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(new ReadReplicaRoutingDataSource.Replica(name, replica));
+        }
+        return new ReadReplicaRoutingDataSource(replicas, queryDataSource, maxLagMillis, checkTimeoutSeconds, meterRegistry);
+    }
+
     /**
      * 커맨드 JDBC 템플릿을 생성합니다.
      *
@@ -61,4 +116,16 @@ public class DataSourceConfig {
     public JdbcTemplate queryJdbcTemplate(@Qualifier("queryDataSource") DataSource dataSource) {
         return new JdbcTemplate(dataSource);
     }
-}
\ No newline at end of file
+
+    /**
+     * 복제본으로 읽기 전용 조회를 보내는 쿼리 JDBC 템플릿을 생성합니다.
+     * 쓰기, LISTEN, 오래 걸리는 스트리밍 조회는 queryJdbcTemplate을 사용합니다.
+     *
+     * @param dataSource 복제본 라우팅 데이터 소스
+     * @return 읽기 전용 쿼리 JDBC 템플릿
+     */
+    @Bean(name = "queryReadJdbcTemplate")
+    public JdbcTemplate queryReadJdbcTemplate(@Qualifier("queryReadDataSource") DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+}
@@ -0,0 +1,37 @@
+package com.email.email.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+* 이메일 비동기 발송 설정 클래스입니다.
+*/
+@Configuration
+@EnableScheduling
+public class EmailDispatchConfig {
+
+   @Value("${email.dispatch.pool-size:4}")
+   private int poolSize;
+   
+   /**
+    * 발송 대기 이메일을 처리할 고정 크기 스레드 풀을 생성합니다.
+    * 디스패처가 빈 슬롯 수만큼만 선점하므로 큐는 풀 크기만큼만 둡니다.
+    *
+    * @return 발송 스레드 풀
+    */
+   @Bean(name = "emailDispatchExecutor")
+   public ThreadPoolTaskExecutor emailDispatchExecutor() {
+       ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+       executor.setCorePoolSize(poolSize);
+       executor.setMaxPoolSize(poolSize);
+       executor.setQueueCapacity(poolSize);
+       executor.setThreadNamePrefix("Email-Dispatch-");
+       executor.setWaitForTasksToCompleteOnShutdown(true);
+       executor.setAwaitTerminationSeconds(30);
+       executor.initialize();
+       return executor;
+   }
+}
@@ -0,0 +1,38 @@
+package com.email.email.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+* 발송 이력 내보내기 설정 클래스입니다.
+*/
+@Configuration
+public class HistoryExportConfig {
+
+   @Value("${email.export.pool-size:1}")
+   private int poolSize;
+   
+   @Value("${email.export.queue-capacity:20}")
+   private int queueCapacity;
+   
+   /**
+    * 내보내기 작업 전용 스레드 풀을 생성합니다.
+    * 대화형 요청과 경쟁하지 않도록 작은 풀과 최저 스레드 우선순위를 사용합니다.
+    *
+    * @return 내보내기 스레드 풀
+    */
+   @Bean(name = "historyExportExecutor")
+   public ThreadPoolTaskExecutor historyExportExecutor() {
+       ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+       executor.setCorePoolSize(poolSize);
+       executor.setMaxPoolSize(poolSize);
+       executor.setQueueCapacity(queueCapacity);
+       executor.setThreadPriority(Thread.MIN_PRIORITY);
+       executor.setThreadNamePrefix("Email-Export-");
+       executor.setWaitForTasksToCompleteOnShutdown(false);
+       executor.initialize();
+       return executor;
+   }
+}
@@ -0,0 +1,295 @@
+package com.email.email.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 조회를 여러 조회 DB 복제본에 나누어 보내는 라우팅 데이터 소스입니다.
+ * 연결을 요청할 때마다 사용 가능한 복제본 중 처리 중인 요청(반납되지 않은 연결)이 가장 적은 곳을 고르고,
+ * 상태 확인에 실패하거나, WAL 수신이 streaming 상태가 아니거나, 복제 지연이 max-lag를 넘은 복제본은 다시 확인될 때까지 제외합니다.
+ * 복제 지연은 대체 데이터 소스(기본 서버)의 WAL 위치를 기준으로 측정합니다. 상태 확인마다 기본 서버의 현재 WAL 위치와 시각을 기록하고,
+ * 복제본이 재생을 마친 가장 최근 기록 시각부터 지금까지를 지연으로 봅니다. 따라서 WAL 수신이 멈춘 복제본은 지연이 계속 늘어납니다.
+ * 사용 가능한 복제본이 없으면 대체 데이터 소스(조회 DB 기본 서버)로 연결합니다.
+ * 복제본별 처리 중 요청 수, 지연, 사용 가능 여부는 email.query.replica.* 메트릭으로 노출합니다.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String PRIMARY_WAL_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    // 복구 중 여부, WAL 수신 상태 (수신 프로세스가 없으면 NULL), 재생을 마친 WAL 위치
+    private static final String REPLICA_STATUS_SQL =
+            "SELECT pg_is_in_recovery(), (SELECT status FROM pg_stat_wal_receiver), pg_last_wal_replay_lsn()::text";
+
+    private static final String RECEIVER_STREAMING = "streaming";
+
+    private final List<Replica> replicas;
+    private final DataSource fallback;
+    private final long maxLagMillis;
+    private final int checkTimeoutSeconds;
+    private final AtomicInteger nextStart = new AtomicInteger();
+    private final Counter fallbackConnections;
+
+    public ReadReplicaRoutingDataSource(List<Replica> replicas, DataSource fallback, long maxLagMillis,
+                                        int checkTimeoutSeconds, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.fallback = fallback;
+        this.maxLagMillis = maxLagMillis;
+        this.checkTimeoutSeconds = checkTimeoutSeconds;
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("email.query.replica.outstanding", replica, r -> r.outstanding.get())
+                    .tag("replica", replica.name)
+                    .description("복제본에서 처리 중인 요청 수")
+                    .register(meterRegistry);
+            Gauge.builder("email.query.replica.lag", replica, r -> r.lagMillis >= 0 ? r.lagMillis / 1000.0 : Double.NaN)
+                    .tag("replica", replica.name)
+                    .description("복제본의 복제 지연 (초)")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("email.query.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .description("복제본 사용 가능 여부 (1=사용, 0=제외)")
+                    .register(meterRegistry);
+        }
+        this.fallbackConnections = Counter.builder("email.query.replica.fallback")
+                .description("사용 가능한 복제본이 없어 대체 데이터 소스로 보낸 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 중인 요청이 가장 적은 사용 가능한 복제본의 연결을 반환합니다.
+     * 연결에 실패한 복제본은 즉시 제외하고 다음 복제본을 시도합니다.
+     *
+     * @return 데이터베이스 연결
+     * @throws SQLException 대체 데이터 소스 연결도 실패한 경우
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = selectReplica();
+            if (replica == null) {
+                break;
+            }
+
+            replica.outstanding.incrementAndGet();
+            try {
+                return track(replica.dataSource.getConnection(), replica);
+            } catch (SQLException e) {
+                replica.outstanding.decrementAndGet();
+                replica.available = false;
+                log.warn("조회 DB 복제본 연결 실패로 제외합니다: replica={}, message={}", replica.name, e.getMessage());
+            }
+        }
+
+        fallbackConnections.increment();
+        return fallback.getConnection();
+    }
+
+    /**
+     * 복제본 풀은 설정된 계정으로만 연결하므로 다른 계정의 연결은 지원하지 않습니다.
+     *
+     * @throws SQLFeatureNotSupportedException 항상
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("읽기 라우팅 데이터 소스는 계정을 지정한 연결을 지원하지 않습니다.");
+    }
+
+    /**
+     * 모든 복제본의 상태와 복제 지연을 확인해 사용 가능 여부를 갱신합니다.
+     * 기본 서버의 WAL 위치를 읽지 못하면 지연을 잴 수 없으므로 복구 중인 복제본을 모두 제외합니다.
+     */
+    public void checkReplicas() {
+        long now = System.currentTimeMillis();
+        Long primaryLsn = readPrimaryLsn();
+
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.available;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(checkTimeoutSeconds);
+                try (ResultSet rs = statement.executeQuery(REPLICA_STATUS_SQL)) {
+                    rs.next();
+                    boolean inRecovery = rs.getBoolean(1);
+                    String receiverStatus = rs.getString(2);
+                    String replayLsn = rs.getString(3);
+
+                    if (!inRecovery) {
+                        // 복제본이 아닌 서버(승격된 서버 포함)는 지연이 없습니다.
+                        replica.lagMillis = 0;
+                        replica.available = true;
+                    } else if (!RECEIVER_STREAMING.equals(receiverStatus) || replayLsn == null || primaryLsn == null) {
+                        replica.available = false;
+                        if (wasAvailable) {
+                            log.warn("조회 DB 복제본 WAL 수신 상태 이상으로 제외합니다: replica={}, receiverStatus={}, primaryLsnKnown={}",
+                                    replica.name, receiverStatus, primaryLsn != null);
+                        }
+                        continue;
+                    } else {
+                        replica.lagMillis = replica.measureLag(parseLsn(replayLsn), primaryLsn, now);
+                        replica.available = replica.lagMillis >= 0 && replica.lagMillis <= maxLagMillis;
+                    }
+                }
+            } catch (SQLException e) {
+                replica.available = false;
+                if (wasAvailable) {
+                    log.warn("조회 DB 복제본 상태 확인 실패로 제외합니다: replica={}, message={}",
+                            replica.name, e.getMessage());
+                }
+                continue;
+            }
+
+            if (wasAvailable != replica.available) {
+                log.info("조회 DB 복제본 {}: replica={}, lagMs={}",
+                        replica.available ? "복귀" : "지연으로 제외", replica.name, replica.lagMillis);
+            }
+        }
+    }
+
+    /**
+     * 직접 만든 복제본 커넥션 풀을 닫습니다.
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+
+    /**
+     * 대체 데이터 소스(기본 서버)의 현재 WAL 위치를 읽습니다.
+     *
+     * @return WAL 위치 (읽지 못하면 null)
+     */
+    private Long readPrimaryLsn() {
+        try (Connection connection = fallback.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(checkTimeoutSeconds);
+            try (ResultSet rs = statement.executeQuery(PRIMARY_WAL_LSN_SQL)) {
+                return rs.next() ? parseLsn(rs.getString(1)) : null;
+            }
+        } catch (SQLException e) {
+            log.warn("조회 DB 기본 서버 WAL 위치 확인 실패: message={}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * "16/B374D848" 형식의 WAL 위치를 비교 가능한 숫자로 바꿉니다.
+     */
+    static long parseLsn(String lsn) {
+        int slash = lsn.indexOf('/');
+        return (Long.parseLong(lsn.substring(0, slash), 16) << 32) | Long.parseLong(lsn.substring(slash + 1), 16);
+    }
+
+    private Replica selectReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        // 처리 중인 요청 수가 같으면 시작 위치를 돌려가며 고르게 나눕니다.
+        int start = Math.floorMod(nextStart.getAndIncrement(), size);
+        Replica selected = null;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available && (selected == null || replica.outstanding.get() < selected.outstanding.get())) {
+                selected = replica;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 연결이 반납될 때 복제본의 처리 중인 요청 수를 줄이도록 감쌉니다.
+     */
+    private static Connection track(Connection connection, Replica replica) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ReadReplicaRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        replica.outstanding.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * 조회 DB 복제본입니다. 첫 상태 확인을 통과할 때까지는 사용하지 않습니다.
+     */
+    public static class Replica {
+
+        // 아직 재생하지 못한 기본 서버 WAL 기록을 이만큼만 보관합니다 (가장 오래된 기록부터 버립니다).
+        private static final int MAX_PENDING_SAMPLES = 64;
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile boolean available;
+        private volatile long lagMillis = -1;
+
+        // 상태 확인은 스케줄러 스레드 하나에서만 호출하므로 아래 필드는 동기화하지 않습니다.
+        private final Deque<long[]> pendingSamples = new ArrayDeque<>();
+        private long caughtUpAt;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * 기본 서버의 WAL 위치 기록과 복제본의 재생 위치로 복제 지연을 계산합니다.
+         * 복제본이 시각 T에 기록한 위치까지 재생했다면 T 이전에 커밋된 데이터는 모두 보이므로 지연은 지금 - T 이하입니다.
+         * 한 번도 기록 위치를 따라잡지 못한 복제본은 지연을 알 수 없으므로 -1을 반환합니다.
+         *
+         * @param replayLsn 복제본이 재생을 마친 WAL 위치
+         * @param primaryLsn 기본 서버의 현재 WAL 위치
+         * @param now 기본 서버 WAL 위치를 읽은 시각 (밀리초)
+         * @return 복제 지연 (밀리초, 알 수 없으면 -1)
+         */
+        long measureLag(long replayLsn, long primaryLsn, long now) {
+            if (replayLsn >= primaryLsn) {
+                pendingSamples.clear();
+                caughtUpAt = now;
+                return 0;
+            }
+
+            while (!pendingSamples.isEmpty() && pendingSamples.peekFirst()[0] <= replayLsn) {
+                caughtUpAt = pendingSamples.pollFirst()[1];
+            }
+            if (pendingSamples.size() >= MAX_PENDING_SAMPLES) {
+                pendingSamples.pollFirst();
+            }
+            pendingSamples.addLast(new long[]{primaryLsn, now});
+
+            return caughtUpAt > 0 ? now - caughtUpAt : -1;
+        }
+    }
+}
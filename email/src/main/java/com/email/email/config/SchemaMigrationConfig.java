@@ -0,0 +1,61 @@
+package com.email.email.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+* 커맨드 DB와 조회 DB의 버전별 스키마 마이그레이션 설정 클래스입니다.
+* 데이터베이스마다 별도의 마이그레이션 경로와 이력 테이블(flyway_schema_history)을 사용하며,
+* 애플리케이션 시작 시 저장소 빈이 사용되기 전에 마이그레이션을 적용합니다.
+*/
+@Configuration
+public class SchemaMigrationConfig {
+
+   private static final String COMMAND_LOCATION = "classpath:db/migration/command";
+   private static final String QUERY_LOCATION = "classpath:db/migration/query";
+   
+   @Value("${email.migration.enabled:true}")
+   private boolean enabled;
+   
+   /**
+    * 커맨드 DB 마이그레이션을 생성하고 적용합니다.
+    *
+    * @param dataSource 커맨드 DB 데이터소스
+    * @return 커맨드 DB 마이그레이션
+    */
+   @Bean(name = "commandFlyway")
+   public Flyway commandFlyway(@Qualifier("commandDataSource") DataSource dataSource) {
+       return migrate(dataSource, COMMAND_LOCATION);
+   }
+   
+   /**
+    * 조회 DB 마이그레이션을 생성하고 적용합니다.
+    *
+    * @param dataSource 조회 DB 데이터소스
+    * @return 조회 DB 마이그레이션
+    */
+   @Bean(name = "queryFlyway")
+   public Flyway queryFlyway(@Qualifier("queryDataSource") DataSource dataSource) {
+       return migrate(dataSource, QUERY_LOCATION);
+   }
+   
+   private Flyway migrate(DataSource dataSource, String location) {
+       // 마이그레이션 도입 전 스키마가 있는 데이터베이스는 버전 0으로 기준을 잡고 V1부터 적용합니다.
+       Flyway flyway = Flyway.configure()
+               .dataSource(dataSource)
+               .locations(location)
+               .baselineOnMigrate(true)
+               .baselineVersion("0")
+               .load();
+       
+       if (enabled) {
+           flyway.migrate();
+       }
+       return flyway;
+   }
+}
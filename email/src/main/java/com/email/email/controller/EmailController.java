@@ -1,20 +1,30 @@
 package com.email.email.controller;
 
 import com.email.common.dto.ApiResponse;
-import com.email.email.dto.EmailHistoryResponse;
+import com.email.email.domain.EmailStatus;
+import com.email.email.dto.EmailContentResponse;
+import com.email.email.dto.EmailHistoryPageResponse;
+import com.email.email.dto.EmailSearchPageResponse;
 import com.email.email.dto.EmailSendRequest;
 import com.email.email.dto.EmailSendResponse;
 import com.email.email.dto.RecentEmailListResponse;
+import com.email.email.dto.RecipientUploadResponse;
 import com.email.email.service.EmailService;
+import com.email.email.service.RecipientUploadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -28,6 +38,7 @@ import java.util.List;
 public class EmailController {
 
    private final EmailService emailService;
+   private final RecipientUploadService recipientUploadService;
    
    /**
     * 최근 발송 이메일 목록을 조회합니다.
@@ -48,14 +59,17 @@ public class EmailController {
     * 이메일 발송 요청을 처리합니다.
     *
     * @param request 이메일 발송 요청 정보
-    * @return 이메일 발송 응답 정보
+    * @return 이메일 발송 응답 정보 (대기열에 등록되면 202 Accepted)
     */
    @PostMapping("/send")
-   @Operation(summary = "이메일 발송", description = "이메일을 발송합니다.")
+   @Operation(summary = "이메일 발송", description = "이메일을 발송합니다. 비동기 발송 모드이거나 발송이 일시적으로 거절되면 대기열에 등록 후 202를 반환합니다.")
    public ResponseEntity<ApiResponse<EmailSendResponse>> sendEmail(
            @Valid @RequestBody EmailSendRequest request) {
        EmailSendResponse response = emailService.sendEmail(request);
-       return ResponseEntity.ok(ApiResponse.success(response));
+       HttpStatus httpStatus = EmailStatus.QUEUED.name().equals(response.getStatus())
+               ? HttpStatus.ACCEPTED
+               : HttpStatus.OK;
+       return ResponseEntity.status(httpStatus).body(ApiResponse.success(response));
    }
    
    /**
@@ -66,11 +80,97 @@ public class EmailController {
     * @param senderEmail 발신자 이메일
     * @param status 발송 상태
     * @param recipientEmail 수신자 이메일
-    * @return 이메일 발송 이력 목록
+    * @param cursor 다음 페이지 커서
+    * @param size 페이지 크기
+    * @return 이메일 발송 이력 페이지
     */
    @GetMapping("/history")
-   @Operation(summary = "이메일 발송 이력 상세 조회", description = "이메일 발송 이력을 상세 조회합니다.")
-   public ResponseEntity<ApiResponse<List<EmailHistoryResponse>>> getEmailHistory(
+   @Operation(summary = "이메일 발송 이력 상세 조회",
+           description = "이메일 발송 이력을 최근 순으로 페이지 단위 조회합니다. 다음 페이지는 응답의 nextCursor로 조회합니다.")
+   public ResponseEntity<ApiResponse<EmailHistoryPageResponse>> getEmailHistory(
+           @Parameter(description = "시작일", example = "2023-01-01")
+           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+           
+           @Parameter(description = "종료일", example = "2023-12-31")
+           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+           
+           @Parameter(description = "발신자 이메일", example = "sender@example.com")
+           @RequestParam(required = false) String senderEmail,
+           
+           @Parameter(description = "발송 상태", example = "SUCCESS")
+           @RequestParam(required = false) String status,
+           
+           @Parameter(description = "수신자 이메일", example = "recipient@example.com")
+           @RequestParam(required = false) String recipientEmail,
+           
+           @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+           @RequestParam(required = false) String cursor,
+           
+           @Parameter(description = "페이지 크기 (기본 100, 최대 1000)", example = "100")
+           @RequestParam(required = false) Integer size) {
+       
+       EmailHistoryPageResponse response = emailService.getEmailHistory(
+               startDate, endDate, senderEmail, status, recipientEmail, cursor, size);
+       return ResponseEntity.ok(ApiResponse.success(response));
+   }
+   
+   /**
+    * 제목과 본문에서 검색어로 이메일을 검색합니다.
+    *
+    * @param query 검색어
+    * @param startDate 시작일
+    * @param endDate 종료일
+    * @param senderEmail 발신자 이메일
+    * @param status 발송 상태
+    * @param cursor 다음 페이지 커서
+    * @param size 페이지 크기
+    * @return 이메일 검색 페이지
+    */
+   @GetMapping("/search")
+   @Operation(summary = "이메일 전문 검색",
+           description = "제목과 본문에서 검색어로 이메일을 관련도 순으로 검색합니다. 따옴표 구문, OR, -제외어를 지원하며 다음 페이지는 응답의 nextCursor로 조회합니다.")
+   public ResponseEntity<ApiResponse<EmailSearchPageResponse>> searchEmails(
+           @Parameter(description = "검색어", example = "\"정기 점검\" 안내")
+           @RequestParam String query,
+           
+           @Parameter(description = "시작일", example = "2023-01-01")
+           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+           
+           @Parameter(description = "종료일", example = "2023-12-31")
+           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+           
+           @Parameter(description = "발신자 이메일", example = "sender@example.com")
+           @RequestParam(required = false) String senderEmail,
+           
+           @Parameter(description = "발송 상태", example = "SUCCESS")
+           @RequestParam(required = false) String status,
+           
+           @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+           @RequestParam(required = false) String cursor,
+           
+           @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+           @RequestParam(required = false) Integer size) {
+       
+       EmailSearchPageResponse response = emailService.searchEmails(
+               query, startDate, endDate, senderEmail, status, cursor, size);
+       return ResponseEntity.ok(ApiResponse.success(response));
+   }
+   
+   /**
+    * 이메일 발송 이력을 JSON으로 스트리밍합니다.
+    * 페이지 없이 조건에 맞는 전체 이력을 조회 결과에서 바로 응답으로 씁니다.
+    *
+    * @param startDate 시작일
+    * @param endDate 종료일
+    * @param senderEmail 발신자 이메일
+    * @param status 발송 상태
+    * @param recipientEmail 수신자 이메일
+    * @return 스트리밍 응답 본문
+    */
+   @GetMapping(value = "/history/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+   @Operation(summary = "이메일 발송 이력 스트리밍 조회",
+           description = "조건에 맞는 발송 이력 전체를 /history와 같은 형식의 JSON으로 스트리밍합니다.")
+   public ResponseEntity<StreamingResponseBody> streamEmailHistory(
            @Parameter(description = "시작일", example = "2023-01-01")
            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
            
@@ -86,8 +186,60 @@ public class EmailController {
            @Parameter(description = "수신자 이메일", example = "recipient@example.com")
            @RequestParam(required = false) String recipientEmail) {
        
-       List<EmailHistoryResponse> response = emailService.getEmailHistory(
+       StreamingResponseBody body = emailService.streamEmailHistory(
                startDate, endDate, senderEmail, status, recipientEmail);
+       return ResponseEntity.ok()
+               .contentType(MediaType.APPLICATION_JSON)
+               .body(body);
+   }
+   
+   /**
+    * 이메일 본문을 조회합니다.
+    * 목록 응답에는 본문이 없으므로 상세 화면에서 이 API로 따로 조회합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 이메일 본문
+    */
+   @GetMapping("/{emailId}/content")
+   @Operation(summary = "이메일 본문 조회", description = "이메일의 제목과 본문을 조회합니다.")
+   public ResponseEntity<ApiResponse<EmailContentResponse>> getEmailContent(
+           @Parameter(description = "이메일 ID", example = "12345678-1234-1234-1234-123456789012")
+           @PathVariable String emailId) {
+       return ResponseEntity.ok(ApiResponse.success(emailService.getEmailContent(emailId)));
+   }
+   
+   /**
+    * 수신자를 CSV 또는 NDJSON 스트림으로 대량 업로드합니다.
+    *
+    * @param emailId 이메일 ID
+    * @param contentType 요청 콘텐츠 타입
+    * @param body 요청 본문 스트림
+    * @return 업로드 결과
+    */
+   @PostMapping(value = "/{emailId}/recipients:bulk", consumes = {"text/csv", "application/x-ndjson", "application/ndjson"})
+   @Operation(summary = "수신자 대량 업로드",
+           description = "CSV(첫 컬럼이 수신자 이메일) 또는 NDJSON({\"recipientEmail\": ...}) 본문을 스트리밍으로 적재합니다.")
+   public ResponseEntity<ApiResponse<RecipientUploadResponse>> uploadRecipients(
+           @Parameter(description = "이메일 ID", example = "12345678-1234-1234-1234-123456789012")
+           @PathVariable String emailId,
+           @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+           InputStream body) {
+       RecipientUploadResponse response = recipientUploadService.uploadRecipients(emailId, contentType, body);
+       return ResponseEntity.ok(ApiResponse.success(response));
+   }
+   
+   /**
+    * 이메일의 최근 수신자 대량 업로드 진행 상황을 조회합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 업로드 진행 상황
+    */
+   @GetMapping("/{emailId}/recipients:bulk")
+   @Operation(summary = "수신자 대량 업로드 진행 상황 조회", description = "수신자 대량 업로드의 처리 건수를 조회합니다. 다른 인스턴스에서 진행 중인 업로드와 끝난 업로드도 조회할 수 있습니다.")
+   public ResponseEntity<ApiResponse<RecipientUploadResponse>> getRecipientUploadProgress(
+           @Parameter(description = "이메일 ID", example = "12345678-1234-1234-1234-123456789012")
+           @PathVariable String emailId) {
+       RecipientUploadResponse response = recipientUploadService.getUploadProgress(emailId);
        return ResponseEntity.ok(ApiResponse.success(response));
    }
 }
@@ -0,0 +1,88 @@
+package com.email.email.controller;
+
+import com.email.common.dto.ApiResponse;
+import com.email.email.dto.HistoryExportRequest;
+import com.email.email.dto.HistoryExportResponse;
+import com.email.email.service.HistoryExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+* 발송 이력 내보내기 API 컨트롤러입니다.
+*/
+@RestController
+@RequestMapping("/api/emails/exports")
+@RequiredArgsConstructor
+@Tag(name = "발송 이력 내보내기 API", description = "발송 이력 비동기 내보내기 관련 API")
+public class HistoryExportController {
+
+   private final HistoryExportService historyExportService;
+   
+   /**
+    * 발송 이력 내보내기 작업을 등록합니다.
+    *
+    * @param request 내보내기 요청
+    * @return 등록된 작업 정보
+    */
+   @PostMapping
+   @Operation(summary = "발송 이력 내보내기 요청",
+           description = "조건에 맞는 발송 이력을 gzip 압축 CSV 또는 NDJSON 파일로 내보내는 작업을 등록합니다.")
+   public ResponseEntity<ApiResponse<HistoryExportResponse>> submitExport(@Valid @RequestBody HistoryExportRequest request) {
+       HistoryExportResponse response = historyExportService.submitExport(request);
+       return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
+   }
+   
+   /**
+    * 내보내기 작업 상태를 조회합니다.
+    *
+    * @param jobId 작업 ID
+    * @return 작업 정보
+    */
+   @GetMapping("/{jobId}")
+   @Operation(summary = "발송 이력 내보내기 상태 조회", description = "내보내기 작업의 상태와 진행 행 수를 조회합니다.")
+   public ResponseEntity<ApiResponse<HistoryExportResponse>> getExport(
+           @Parameter(description = "작업 ID", example = "12345678-1234-1234-1234-123456789012")
+           @PathVariable String jobId) {
+       return ResponseEntity.ok(ApiResponse.success(historyExportService.getExport(jobId)));
+   }
+   
+   /**
+    * 완료된 내보내기 파일을 다운로드합니다.
+    * Blob 저장소를 사용하면 읽기 전용 SAS URL로 리다이렉트합니다.
+    *
+    * @param jobId 작업 ID
+    * @return 내보내기 파일
+    */
+   @GetMapping("/{jobId}/download")
+   @Operation(summary = "발송 이력 내보내기 파일 다운로드", description = "완료된 내보내기 파일(gzip)을 다운로드합니다.")
+   public ResponseEntity<Resource> downloadExport(
+           @Parameter(description = "작업 ID", example = "12345678-1234-1234-1234-123456789012")
+           @PathVariable String jobId) {
+       HistoryExportService.ExportDownload download = historyExportService.getExportDownload(jobId);
+       
+       if (download.getRedirectUrl() != null) {
+           return ResponseEntity.status(HttpStatus.FOUND)
+                   .location(URI.create(download.getRedirectUrl()))
+                   .build();
+       }
+       
+       return ResponseEntity.ok()
+               .contentType(MediaType.parseMediaType("application/gzip"))
+               .header(HttpHeaders.CONTENT_DISPOSITION,
+                       ContentDisposition.attachment().filename(download.getFileName()).build().toString())
+               .body(new FileSystemResource(download.getLocalFile()));
+   }
+}
@@ -0,0 +1,30 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+* 커맨드 DB 변경 로그 도메인 클래스입니다.
+* 변경 내용 대신 변경된 이메일 또는 첨부파일의 ID만 기록하며, 프로젝터는 그 ID의 현재 상태를 조회 DB에 반영합니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailChange {
+   
+   public static final String ENTITY_EMAIL = "EMAIL";
+   public static final String ENTITY_ATTACHMENT = "ATTACHMENT";
+   
+   // 프로젝터가 이메일을 조회 DB에 반영한 사용자 ID를 알리는 LISTEN/NOTIFY 채널
+   public static final String USER_CHANGED_CHANNEL = "email_user_changed";
+   
+   private Long id;
+   private String entity;
+   private String entityId;
+   private LocalDateTime changedAt;
+}
@@ -0,0 +1,69 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+* 발송 이력 키셋 페이지네이션 커서 도메인 클래스입니다.
+* 마지막으로 반환한 행의 (요청 시간, 이메일 ID, 수신자 ID)를 불투명 토큰으로 표현합니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailHistoryCursor {
+   
+   private static final String TOKEN_VERSION = "v1";
+   private static final String SEPARATOR = "|";
+   
+   private LocalDateTime requestTime;
+   private String emailId;
+   private String recipientId;
+   
+   /**
+    * 발송 이력 행의 위치로 커서를 생성합니다.
+    *
+    * @param row 발송 이력 행
+    * @return 커서
+    */
+   public static EmailHistoryCursor of(EmailHistoryRow row) {
+       return new EmailHistoryCursor(row.getRequestTime(), row.getEmailId(), row.getRecipientId());
+   }
+   
+   /**
+    * 커서를 URL에 안전한 토큰으로 인코딩합니다.
+    *
+    * @return 커서 토큰
+    */
+   public String toToken() {
+       String raw = TOKEN_VERSION + SEPARATOR + requestTime + SEPARATOR + emailId + SEPARATOR + recipientId;
+       return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+   }
+   
+   /**
+    * 커서 토큰을 해석합니다.
+    *
+    * @param token 커서 토큰
+    * @return 커서
+    * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+    */
+   public static EmailHistoryCursor fromToken(String token) {
+       try {
+           String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+           String[] parts = raw.split("\\|", -1);
+           if (parts.length != 4 || !TOKEN_VERSION.equals(parts[0]) || parts[2].isEmpty() || parts[3].isEmpty()) {
+               throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+           }
+           return new EmailHistoryCursor(LocalDateTime.parse(parts[1]), parts[2], parts[3]);
+       } catch (DateTimeParseException e) {
+           throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.", e);
+       }
+   }
+}
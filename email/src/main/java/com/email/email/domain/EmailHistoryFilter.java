@@ -16,6 +16,11 @@ import java.time.LocalDate;
 @Builder
 public class EmailHistoryFilter {
    
+   /**
+    * 발송 이력 조회, 검색, 내보내기에 공통으로 적용하는 최대 조회 기간(시작일부터의 일수)입니다.
+    */
+   public static final int MAX_HISTORY_DAYS = 365;
+   
    private LocalDate startDate;
    private LocalDate endDate;
    private String senderEmail;
@@ -0,0 +1,29 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+* 이메일과 수신자를 조인한 발송 이력 행 도메인 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailHistoryRow {
+   
+   private String emailId;
+   private String senderEmail;
+   private String subject;
+   private LocalDateTime requestTime;
+   private EmailStatus status;
+   private String recipientId;
+   private String recipientEmail;
+   private RecipientStatus recipientStatus;
+   private LocalDateTime receiveTime;
+   private String failReason;
+}
@@ -0,0 +1,70 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+* 이메일 전문 검색 키셋 페이지네이션 커서 도메인 클래스입니다.
+* 마지막으로 반환한 결과의 (검색 순위, 요청 시간, 이메일 ID)를 불투명 토큰으로 표현합니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailSearchCursor {
+   
+   private static final String TOKEN_VERSION = "v1";
+   private static final String SEPARATOR = "|";
+   
+   private float rank;
+   private LocalDateTime requestTime;
+   private String emailId;
+   
+   /**
+    * 검색 결과의 위치로 커서를 생성합니다.
+    *
+    * @param result 검색 결과
+    * @return 커서
+    */
+   public static EmailSearchCursor of(EmailSearchResult result) {
+       return new EmailSearchCursor(result.getRank(), result.getRequestTime(), result.getEmailId());
+   }
+   
+   /**
+    * 커서를 URL에 안전한 토큰으로 인코딩합니다.
+    * 순위는 데이터베이스의 real 값과 정확히 같게 비교되도록 float 문자열로 기록합니다.
+    *
+    * @return 커서 토큰
+    */
+   public String toToken() {
+       String raw = TOKEN_VERSION + SEPARATOR + rank + SEPARATOR + requestTime + SEPARATOR + emailId;
+       return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+   }
+   
+   /**
+    * 커서 토큰을 해석합니다.
+    *
+    * @param token 커서 토큰
+    * @return 커서
+    * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+    */
+   public static EmailSearchCursor fromToken(String token) {
+       try {
+           String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+           String[] parts = raw.split("\\|", -1);
+           if (parts.length != 4 || !TOKEN_VERSION.equals(parts[0]) || parts[3].isEmpty()) {
+               throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+           }
+           return new EmailSearchCursor(Float.parseFloat(parts[1]), LocalDateTime.parse(parts[2]), parts[3]);
+       } catch (DateTimeParseException e) {
+           throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.", e);
+       }
+   }
+}
@@ -0,0 +1,25 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+* 이메일 전문 검색 결과 도메인 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailSearchResult {
+   
+   private String emailId;
+   private String senderEmail;
+   private String subject;
+   private LocalDateTime requestTime;
+   private EmailStatus status;
+   private float rank;
+}
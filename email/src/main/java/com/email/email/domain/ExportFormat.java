@@ -0,0 +1,19 @@
+package com.email.email.domain;
+
+/**
+* 발송 이력 내보내기 파일 형식을 정의하는 열거형입니다.
+*/
+public enum ExportFormat {
+   CSV("csv.gz"),
+   NDJSON("ndjson.gz");
+   
+   private final String extension;
+   
+   ExportFormat(String extension) {
+       this.extension = extension;
+   }
+   
+   public String getExtension() {
+       return extension;
+   }
+}
@@ -0,0 +1,11 @@
+package com.email.email.domain;
+
+/**
+* 발송 이력 내보내기 작업 상태를 정의하는 열거형입니다.
+*/
+public enum ExportJobStatus {
+   QUEUED,
+   RUNNING,
+   COMPLETED,
+   FAILED
+}
@@ -0,0 +1,41 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+* 월별 발송 이력 아카이브 파일 도메인 클래스입니다.
+* 파일에 담긴 행의 요청 시간 최소/최대값을 함께 보관하여 조회 시 관련 없는 파일을 건너뜁니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HistoryArchive {
+   
+   private LocalDate month;
+   private String storage;
+   private String location;
+   private LocalDateTime minRequestTime;
+   private LocalDateTime maxRequestTime;
+   private long rowCount;
+   private long fileSize;
+   private LocalDateTime createdAt;
+   
+   /**
+    * 아카이브 파일이 요청 시간 [from, to) 범위와 겹치는지 확인합니다.
+    *
+    * @param from 시작 시각 (포함)
+    * @param to 종료 시각 (제외)
+    * @return 겹침 여부
+    */
+   public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+       return minRequestTime != null && maxRequestTime != null
+               && !maxRequestTime.isBefore(from) && minRequestTime.isBefore(to);
+   }
+}
@@ -0,0 +1,33 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+* 발송 이력 내보내기 작업 도메인 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HistoryExportJob {
+   
+   private String id;
+   private ExportFormat format;
+   private ExportJobStatus status;
+   private long rowCount;
+   private String owner;
+   private String localPath;
+   private String blobName;
+   private String errorMessage;
+   private LocalDateTime requestedTime;
+   private LocalDateTime completedTime;
+   
+   public String getFileName() {
+       return "email-history-" + id + "." + format.getExtension();
+   }
+}
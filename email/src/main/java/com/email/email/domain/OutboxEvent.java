@@ -0,0 +1,24 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+* 아웃박스 이벤트 도메인 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+   
+   private long id;
+   private String aggregateId;
+   private String eventType;
+   private String payload;
+   private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+* 최근 발송 이메일 요약 도메인 클래스입니다.
+* 첫 번째 수신자와 전체 수신자 수를 함께 담습니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecentEmailSummary {
+   
+   private String emailId;
+   private String senderEmail;
+   private String subject;
+   private LocalDateTime requestTime;
+   private EmailStatus status;
+   private String firstRecipientEmail;
+   private int recipientCount;
+}
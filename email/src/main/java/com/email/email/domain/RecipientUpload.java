@@ -0,0 +1,28 @@
+package com.email.email.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+* 수신자 대량 업로드 진행 상황 도메인 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipientUpload {
+   
+   private String emailId;
+   private RecipientUploadStatus status;
+   private long acceptedCount;
+   private long rejectedCount;
+   private List<String> rejectedSamples;
+   private String errorMessage;
+   private LocalDateTime startedTime;
+   private LocalDateTime completedTime;
+}
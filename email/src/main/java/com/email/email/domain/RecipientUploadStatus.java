@@ -0,0 +1,10 @@
+package com.email.email.domain;
+
+/**
+* 수신자 대량 업로드 상태를 정의하는 열거형입니다.
+*/
+public enum RecipientUploadStatus {
+   IN_PROGRESS,
+   COMPLETED,
+   FAILED
+}
@@ -0,0 +1,27 @@
+package com.email.email.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+* 이메일 본문 응답 DTO 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "이메일 본문 응답")
+public class EmailContentResponse {
+   
+   @Schema(description = "이메일 ID", example = "12345678-1234-1234-1234-123456789012")
+   private String emailId;
+   
+   @Schema(description = "제목", example = "안녕하세요, 이메일 제목입니다.")
+   private String subject;
+   
+   @Schema(description = "본문", example = "이메일 본문 내용입니다.")
+   private String content;
+}
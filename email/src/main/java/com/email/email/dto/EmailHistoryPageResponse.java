@@ -0,0 +1,32 @@
+package com.email.email.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+* 이메일 발송 이력 페이지 응답 DTO 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "이메일 발송 이력 페이지 응답")
+public class EmailHistoryPageResponse {
+   
+   @Schema(description = "발송 이력 목록")
+   private List<EmailHistoryResponse> items;
+   
+   @Schema(description = "페이지 크기", example = "100")
+   private int size;
+   
+   @Schema(description = "다음 페이지 존재 여부", example = "true")
+   private boolean hasNext;
+   
+   @Schema(description = "다음 페이지 커서 (마지막 페이지이면 null)", example = "djF8MjAyMy0wNi0wMVQxMjozNDo1Nnw...")
+   private String nextCursor;
+}
@@ -0,0 +1,32 @@
+package com.email.email.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+* 이메일 검색 페이지 응답 DTO 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "이메일 검색 페이지 응답")
+public class EmailSearchPageResponse {
+   
+   @Schema(description = "검색 결과 목록 (관련도 순)")
+   private List<EmailSearchResponse> items;
+   
+   @Schema(description = "페이지 크기", example = "20")
+   private int size;
+   
+   @Schema(description = "다음 페이지 존재 여부", example = "true")
+   private boolean hasNext;
+   
+   @Schema(description = "다음 페이지 커서 (마지막 페이지이면 null)", example = "djF8MC42MDc5MjcxfDIwMjMtMDYtMDFUMTI6MzQ6NTZ8...")
+   private String nextCursor;
+}
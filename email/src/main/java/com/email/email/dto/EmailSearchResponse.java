@@ -0,0 +1,36 @@
+package com.email.email.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+* 이메일 검색 결과 응답 DTO 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "이메일 검색 결과 응답")
+public class EmailSearchResponse {
+   
+   @Schema(description = "이메일 ID", example = "12345678-1234-1234-1234-123456789012")
+   private String emailId;
+   
+   @Schema(description = "발신자 이메일", example = "sender@example.com")
+   private String senderEmail;
+   
+   @Schema(description = "제목", example = "안녕하세요, 이메일 제목입니다.")
+   private String subject;
+   
+   @Schema(description = "요청시간", example = "2023-06-01 12:34:56")
+   private String requestTime;
+   
+   @Schema(description = "상태", example = "SUCCESS")
+   private String status;
+   
+   @Schema(description = "검색 순위 점수 (클수록 관련도가 높음)", example = "0.6079271")
+   private float rank;
+}
@@ -0,0 +1,42 @@
+package com.email.email.dto;
+
+import com.email.email.domain.ExportFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+* 발송 이력 내보내기 요청 DTO 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "발송 이력 내보내기 요청")
+public class HistoryExportRequest {
+   
+   @NotNull(message = "시작일은 필수입니다.")
+   @Schema(description = "시작일", example = "2023-01-01")
+   private LocalDate startDate;
+   
+   @NotNull(message = "종료일은 필수입니다.")
+   @Schema(description = "종료일", example = "2023-12-31")
+   private LocalDate endDate;
+   
+   @Schema(description = "발신자 이메일", example = "sender@example.com")
+   private String senderEmail;
+   
+   @Schema(description = "발송 상태", example = "SENT")
+   private String status;
+   
+   @Schema(description = "수신자 이메일", example = "recipient@example.com")
+   private String recipientEmail;
+   
+   @Schema(description = "파일 형식 (기본 CSV)", example = "CSV")
+   private ExportFormat format;
+}
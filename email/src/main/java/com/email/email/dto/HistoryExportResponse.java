@@ -0,0 +1,42 @@
+package com.email.email.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+* 발송 이력 내보내기 작업 응답 DTO 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "발송 이력 내보내기 작업 응답")
+public class HistoryExportResponse {
+   
+   @Schema(description = "작업 ID", example = "12345678-1234-1234-1234-123456789012")
+   private String jobId;
+   
+   @Schema(description = "작업 상태", example = "RUNNING")
+   private String status;
+   
+   @Schema(description = "파일 형식", example = "CSV")
+   private String format;
+   
+   @Schema(description = "기록한 행 수", example = "1250000")
+   private long rowCount;
+   
+   @Schema(description = "요청 시간", example = "2023-06-01 12:34:56")
+   private String requestedTime;
+   
+   @Schema(description = "완료 시간", example = "2023-06-01 12:40:12")
+   private String completedTime;
+   
+   @Schema(description = "다운로드 경로 (완료 시)", example = "/api/emails/exports/12345678-1234-1234-1234-123456789012/download")
+   private String downloadPath;
+   
+   @Schema(description = "실패 사유", example = "이력 조회 실패")
+   private String errorMessage;
+}
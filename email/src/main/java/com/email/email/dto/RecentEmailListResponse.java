@@ -25,6 +25,9 @@ public class RecentEmailListResponse {
    @Schema(description = "수신자", example = "recipient@example.com")
    private String recipient;
    
+   @Schema(description = "전체 수신자 수", example = "3")
+   private int recipientCount;
+   
    @Schema(description = "발송시간", example = "2023-06-01 12:34:56")
    private String sentTime;
    
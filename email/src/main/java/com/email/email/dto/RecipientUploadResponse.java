@@ -0,0 +1,38 @@
+package com.email.email.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+* 수신자 대량 업로드 응답 DTO 클래스입니다.
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "수신자 대량 업로드 응답")
+public class RecipientUploadResponse {
+   
+   @Schema(description = "이메일 ID", example = "12345678-1234-1234-1234-123456789012")
+   private String emailId;
+   
+   @Schema(description = "업로드 상태", example = "COMPLETED")
+   private String status;
+   
+   @Schema(description = "적재된 수신자 수", example = "100000")
+   private long acceptedCount;
+   
+   @Schema(description = "형식 오류로 제외된 행 수", example = "12")
+   private long rejectedCount;
+   
+   @Schema(description = "제외된 행 예시 (줄 번호와 사유 포함)", example = "[\"line 3: 이메일 형식 오류: invalid-address\"]")
+   private List<String> rejectedSamples;
+   
+   @Schema(description = "경과 시간(ms)", example = "5230")
+   private long elapsedMillis;
+}
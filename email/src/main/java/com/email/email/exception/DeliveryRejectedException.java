@@ -0,0 +1,12 @@
+package com.email.email.exception;
+
+/**
+ * 동시성 한도 초과나 회로 차단으로 발송 요청이 거절되었을 때 발생하는 예외입니다.
+ * 거절된 이메일은 실패 처리하지 않고 QUEUED 상태로 남겨 디스패처가 나중에 발송합니다.
+ * 동기 발송에서는 이메일을 QUEUED로 남기고 202를 응답하며, 디스패처가 선점한 발송은 QUEUED로 되돌립니다.
+ */
+public class DeliveryRejectedException extends RuntimeException {
+    public DeliveryRejectedException(String message) {
+        super(message);
+    }
+}
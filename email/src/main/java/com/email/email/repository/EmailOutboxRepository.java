@@ -0,0 +1,63 @@
+package com.email.email.repository;
+
+import com.email.email.domain.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+* 이메일 이벤트 아웃박스 저장소 인터페이스입니다.
+*/
+public interface EmailOutboxRepository {
+   
+   /**
+    * 아웃박스에 이벤트를 추가합니다. 호출자의 트랜잭션에 참여합니다.
+    *
+    * @param aggregateId 이벤트 대상 ID (이메일 ID)
+    * @param eventType 이벤트 유형
+    * @param payload 이벤트 본문(JSON)
+    */
+   void append(String aggregateId, String eventType, String payload);
+   
+   /**
+    * 릴레이 잠금을 시도합니다. 현재 트랜잭션이 끝나면 자동으로 해제됩니다.
+    *
+    * @return 잠금 획득 여부
+    */
+   boolean tryAcquireRelayLock();
+   
+   /**
+    * 발행되지 않은 이벤트를 등록 순서대로 선점합니다.
+    * 선점 시간이 남은 이벤트가 있으면 순서가 섞이지 않도록 아무것도 선점하지 않습니다.
+    * 릴레이 잠금을 잡은 트랜잭션 안에서 호출해야 합니다.
+    *
+    * @param limit 최대 선점 개수
+    * @param leaseSeconds 선점 유지 시간 (초)
+    * @return 선점한 이벤트 목록 (ID 순)
+    */
+   List<OutboxEvent> claimUnpublished(int limit, long leaseSeconds);
+   
+   /**
+    * 전송하지 못한 이벤트의 선점을 해제하여 다음 주기에 다시 선점되게 합니다.
+    *
+    * @param ids 이벤트 ID 목록
+    * @return 변경된 행 수
+    */
+   int releaseClaims(List<Long> ids);
+   
+   /**
+    * 이벤트를 발행 완료로 표시합니다.
+    *
+    * @param ids 이벤트 ID 목록
+    * @return 변경된 행 수
+    */
+   int markPublished(List<Long> ids);
+   
+   /**
+    * 보관 기간이 지난 발행 완료 이벤트를 삭제합니다.
+    *
+    * @param publishedBefore 기준 시각
+    * @return 삭제된 행 수
+    */
+   int deletePublishedBefore(LocalDateTime publishedBefore);
+}
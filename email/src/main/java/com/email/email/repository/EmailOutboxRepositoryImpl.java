@@ -0,0 +1,183 @@
+package com.email.email.repository;
+
+import com.email.email.domain.OutboxEvent;
+import com.email.email.exception.EmailRepositoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 이메일 이벤트 아웃박스 저장소 구현 클래스입니다.
+ */
+@Slf4j
+@Repository
+public class EmailOutboxRepositoryImpl implements EmailOutboxRepository {
+
+    private final JdbcTemplate commandDb;
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO email_outbox (aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    // 선점 시간이 남은 이벤트가 없을 때만 가장 오래된 미발행 이벤트부터 선점합니다.
+    private static final String CLAIM_UNPUBLISHED_SQL =
+            "UPDATE email_outbox SET claimed_until = now() + make_interval(secs => ?) " +
+                    "WHERE id IN (" +
+                    "SELECT id FROM email_outbox WHERE published_at IS NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM email_outbox c " +
+                    "WHERE c.published_at IS NULL AND c.claimed_until > now()) " +
+                    "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED" +
+                    ") RETURNING id, aggregate_id, event_type, payload, created_at";
+
+    // 여러 인스턴스 중 하나만 릴레이하도록 사용하는 advisory lock 키
+    private static final long RELAY_LOCK_KEY = 0x656D61696C6F7574L; // "emailout"
+
+    public EmailOutboxRepositoryImpl(@Qualifier("commandJdbcTemplate") JdbcTemplate commandDb) {
+        this.commandDb = commandDb;
+    }
+
+    /**
+     * 아웃박스에 이벤트를 추가합니다.
+     *
+     * @param aggregateId 이벤트 대상 ID (이메일 ID)
+     * @param eventType 이벤트 유형
+     * @param payload 이벤트 본문(JSON)
+     */
+    @Override
+    public void append(String aggregateId, String eventType, String payload) {
+        try {
+            commandDb.update(INSERT_OUTBOX_SQL, aggregateId, eventType, payload, LocalDateTime.now());
+            log.debug("아웃박스 이벤트 추가: aggregateId={}, eventType={}", aggregateId, eventType);
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 추가 오류: aggregateId={}, eventType={}", aggregateId, eventType, e);
+            throw new EmailRepositoryException("아웃박스 이벤트 저장 실패", e);
+        }
+    }
+
+    /**
+     * 릴레이 잠금을 시도합니다.
+     *
+     * @return 잠금 획득 여부
+     */
+    @Override
+    public boolean tryAcquireRelayLock() {
+        return Boolean.TRUE.equals(
+                commandDb.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY));
+    }
+
+    /**
+     * 발행되지 않은 이벤트를 등록 순서대로 선점합니다.
+     *
+     * @param limit 최대 선점 개수
+     * @param leaseSeconds 선점 유지 시간 (초)
+     * @return 선점한 이벤트 목록 (ID 순)
+     */
+    @Override
+    public List<OutboxEvent> claimUnpublished(int limit, long leaseSeconds) {
+        try {
+            List<OutboxEvent> events = new ArrayList<>(
+                    commandDb.query(CLAIM_UNPUBLISHED_SQL, new OutboxEventRowMapper(), leaseSeconds, limit));
+            // RETURNING은 순서를 보장하지 않으므로 등록 순서로 다시 정렬합니다.
+            events.sort(Comparator.comparingLong(OutboxEvent::getId));
+            return events;
+        } catch (Exception e) {
+            log.error("미발행 아웃박스 이벤트 선점 오류", e);
+            throw new EmailRepositoryException("아웃박스 이벤트 선점 실패", e);
+        }
+    }
+
+    /**
+     * 전송하지 못한 이벤트의 선점을 해제합니다.
+     *
+     * @param ids 이벤트 ID 목록
+     * @return 변경된 행 수
+     */
+    @Override
+    public int releaseClaims(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE email_outbox SET claimed_until = NULL WHERE published_at IS NULL AND id IN ("
+                + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+        try {
+            return commandDb.update(sql, ids.toArray());
+        } catch (Exception e) {
+            log.error("아웃박스 선점 해제 오류: count={}", ids.size(), e);
+            throw new EmailRepositoryException("아웃박스 선점 해제 실패", e);
+        }
+    }
+
+    /**
+     * 이벤트를 발행 완료로 표시합니다.
+     *
+     * @param ids 이벤트 ID 목록
+     * @return 변경된 행 수
+     */
+    @Override
+    public int markPublished(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) placeholders.append(",");
+            placeholders.append("?");
+        }
+
+        String sql = "UPDATE email_outbox SET published_at = ?, claimed_until = NULL WHERE id IN (" + placeholders + ")";
+
+        List<Object> params = new ArrayList<>(ids.size() + 1);
+        params.add(LocalDateTime.now());
+        params.addAll(ids);
+
+        try {
+            return commandDb.update(sql, params.toArray());
+        } catch (Exception e) {
+            log.error("아웃박스 발행 완료 표시 오류: count={}", ids.size(), e);
+            throw new EmailRepositoryException("아웃박스 발행 완료 표시 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 삭제합니다.
+     *
+     * @param publishedBefore 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Override
+    public int deletePublishedBefore(LocalDateTime publishedBefore) {
+        try {
+            return commandDb.update("DELETE FROM email_outbox WHERE published_at < ?", publishedBefore);
+        } catch (Exception e) {
+            log.error("아웃박스 정리 오류: publishedBefore={}", publishedBefore, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 아웃박스 이벤트 로우 매퍼 클래스입니다.
+     */
+    private static class OutboxEventRowMapper implements RowMapper<OutboxEvent> {
+        @Override
+        public OutboxEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return OutboxEvent.builder()
+                    .id(rs.getLong("id"))
+                    .aggregateId(rs.getString("aggregate_id"))
+                    .eventType(rs.getString("event_type"))
+                    .payload(rs.getString("payload"))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .build();
+        }
+    }
+}
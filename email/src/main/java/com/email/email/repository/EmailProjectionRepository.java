@@ -0,0 +1,55 @@
+package com.email.email.repository;
+
+import com.email.email.domain.EmailChange;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+* 커맨드 DB의 변경을 조회 DB로 반영하는 프로젝션 저장소 인터페이스입니다.
+*/
+public interface EmailProjectionRepository {
+   
+   /**
+    * 프로젝터 잠금을 시도합니다. 현재 트랜잭션이 끝나면 자동으로 해제됩니다.
+    *
+    * @return 잠금 획득 여부
+    */
+   boolean tryAcquireProjectorLock();
+   
+   /**
+    * 처리되지 않은 변경 로그를 기록 순서대로 조회합니다.
+    *
+    * @param limit 최대 조회 개수
+    * @return 변경 로그 목록
+    */
+   List<EmailChange> findPendingChanges(int limit);
+   
+   /**
+    * 이메일(수신자, 첨부파일 연결 포함)과 첨부파일 메타데이터의 커맨드 DB 현재 상태를 조회 DB에 반영합니다.
+    * 커맨드 DB에 없는 이메일은 조회 DB에서도 삭제합니다. 같은 ID를 여러 번 반영해도 결과는 같습니다.
+    * 반영한 이메일의 사용자 ID는 커밋 시 {@link EmailChange#USER_CHANGED_CHANNEL} 채널로 알립니다.
+    *
+    * @param emailIds 이메일 ID 목록
+    * @param attachmentIds 첨부파일 ID 목록
+    * @return 반영한 행 수
+    */
+   int project(Collection<String> emailIds, Collection<String> attachmentIds);
+   
+   /**
+    * 처리한 변경 로그를 삭제합니다.
+    *
+    * @param ids 변경 로그 ID 목록
+    * @return 삭제된 행 수
+    */
+   int deleteChanges(List<Long> ids);
+   
+   /**
+    * 처리되지 않은 가장 오래된 변경 로그의 기록 시각을 조회합니다.
+    *
+    * @return 기록 시각 (처리할 변경이 없으면 empty)
+    */
+   Optional<LocalDateTime> findOldestPendingChangeTime();
+}
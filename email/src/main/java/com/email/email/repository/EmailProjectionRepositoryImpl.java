@@ -0,0 +1,417 @@
+package com.email.email.repository;
+
+import com.email.email.domain.EmailChange;
+import com.email.email.exception.EmailRepositoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 프로젝션 저장소 구현 클래스입니다.
+ * 변경 로그의 ID로 커맨드 DB의 현재 행을 읽어 조회 DB에 UPSERT하는 상태 기반 프로젝션이므로,
+ * 같은 변경을 다시 처리하거나 여러 변경을 한 번에 처리해도 결과가 같습니다.
+ * 수신자별 발송 이력 읽기 모델(email_history_view)도 같은 트랜잭션에서 이메일 단위로 다시 만듭니다.
+ * 파티션 테이블의 기본 키는 (id, 파티션 키)라 id 단독 유일성을 데이터베이스가 보장하지 않으므로,
+ * UPSERT 전에 같은 id의 다른 파티션 키 행을 지워 조회 DB에 id당 한 행만 남깁니다.
+ */
+@Slf4j
+@Repository
+public class EmailProjectionRepositoryImpl implements EmailProjectionRepository {
+
+    private final JdbcTemplate commandDb;
+    private final JdbcTemplate queryDb;
+
+    private static final List<String> EMAIL_COLUMNS = List.of(
+            "id", "user_id", "subject", "sender_email", "sender_name", "content",
+            "request_time", "status", "created_at", "updated_at");
+
+    private static final List<String> RECIPIENT_COLUMNS = List.of(
+            "id", "email_id", "recipient_email", "status", "receive_time", "fail_reason", "created_at", "updated_at");
+
+    private static final List<String> EMAIL_ATTACHMENT_COLUMNS = List.of("email_id", "attachment_id", "created_at");
+
+    private static final List<String> ATTACHMENT_METADATA_COLUMNS = List.of(
+            "id", "file_name", "content_type", "file_size", "blob_name", "container_name",
+            "upload_time", "status", "created_at", "updated_at");
+
+    // 수신자별 발송 이력 읽기 모델을 조회 DB의 이메일/수신자 행으로 다시 만듭니다.
+    private static final String INSERT_HISTORY_VIEW_PREFIX =
+            "INSERT INTO email_history_view (recipient_id, email_id, sender_email, subject, request_time, status, " +
+                    "recipient_email, recipient_status, receive_time, fail_reason) " +
+                    "SELECT r.id, e.id, e.sender_email, e.subject, e.request_time, e.status, " +
+                    "r.recipient_email, r.status, r.receive_time, r.fail_reason " +
+                    "FROM emails e JOIN email_recipients r ON r.email_id = e.id AND r.created_at >= e.request_time " +
+                    "WHERE e.id IN (";
+
+    private static final String SELECT_PENDING_CHANGES_SQL =
+            "SELECT id, entity, entity_id, changed_at FROM email_changes ORDER BY id LIMIT ?";
+
+    private static final String SELECT_OLDEST_PENDING_CHANGE_SQL =
+            "SELECT changed_at FROM email_changes ORDER BY id LIMIT 1";
+
+    // 여러 인스턴스 중 하나만 프로젝션하도록 사용하는 advisory lock 키
+    private static final long PROJECTOR_LOCK_KEY = 0x656D61696C70726FL; // "emailpro"
+
+    // IN 목록과 배치 한 번에 담을 최대 개수
+    private static final int CHUNK_SIZE = 1000;
+
+    public EmailProjectionRepositoryImpl(@Qualifier("commandJdbcTemplate") JdbcTemplate commandDb,
+                                         @Qualifier("queryJdbcTemplate") JdbcTemplate queryDb) {
+        this.commandDb = commandDb;
+        this.queryDb = queryDb;
+    }
+
+    /**
+     * 프로젝터 잠금을 시도합니다.
+     *
+     * @return 잠금 획득 여부
+     */
+    @Override
+    public boolean tryAcquireProjectorLock() {
+        return Boolean.TRUE.equals(
+                commandDb.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, PROJECTOR_LOCK_KEY));
+    }
+
+    /**
+     * 처리되지 않은 변경 로그를 기록 순서대로 조회합니다.
+     *
+     * @param limit 최대 조회 개수
+     * @return 변경 로그 목록
+     */
+    @Override
+    public List<EmailChange> findPendingChanges(int limit) {
+        try {
+            return commandDb.query(SELECT_PENDING_CHANGES_SQL, new EmailChangeRowMapper(), limit);
+        } catch (Exception e) {
+            log.error("변경 로그 조회 오류", e);
+            throw new EmailRepositoryException("변경 로그 조회 실패", e);
+        }
+    }
+
+    /**
+     * 커맨드 DB의 현재 상태를 조회 DB에 반영합니다.
+     * 조회 DB 쓰기는 한 트랜잭션으로 처리하여 이메일과 수신자가 부분적으로 반영되지 않게 합니다.
+     *
+     * @param emailIds 이메일 ID 목록
+     * @param attachmentIds 첨부파일 ID 목록
+     * @return 반영한 행 수
+     */
+    @Override
+    public int project(Collection<String> emailIds, Collection<String> attachmentIds) {
+        try {
+            List<Object[]> emails = selectByKeys("emails", EMAIL_COLUMNS, "id", emailIds);
+            List<Object[]> recipients = selectByKeys("email_recipients", RECIPIENT_COLUMNS, "email_id", emailIds);
+            List<Object[]> emailAttachments =
+                    selectByKeys("email_attachments", EMAIL_ATTACHMENT_COLUMNS, "email_id", emailIds);
+            List<Object[]> attachments =
+                    selectByKeys("attachment_metadata", ATTACHMENT_METADATA_COLUMNS, "id", attachmentIds);
+
+            // 커맨드 DB에서 사라진 이메일은 조회 DB에서도 삭제합니다.
+            Set<String> removedEmailIds = new HashSet<>(emailIds);
+            for (Object[] email : emails) {
+                removedEmailIds.remove((String) email[0]);
+            }
+
+            // 최근 이메일 캐시를 무효화할 사용자 (이메일의 사용자 ID는 바뀌지 않습니다)
+            Set<String> userIds = new HashSet<>();
+            for (Object[] email : emails) {
+                userIds.add((String) email[1]);
+            }
+
+            Integer projected = queryDb.execute((ConnectionCallback<Integer>) connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    userIds.addAll(selectUserIds(connection, removedEmailIds));
+                    deleteByKeys(connection, "email_history_view", "email_id", emailIds);
+                    deleteByKeys(connection, "email_recipients", "email_id", removedEmailIds);
+                    deleteByKeys(connection, "email_attachments", "email_id", removedEmailIds);
+                    deleteByKeys(connection, "emails", "id", removedEmailIds);
+                    // 첨부파일 연결은 키만 있는 행이므로 지우고 다시 넣어 연결 해제도 반영합니다.
+                    deleteByKeys(connection, "email_attachments", "email_id", emailIds);
+
+                    deleteOtherPartitionKeys(connection, "emails", EMAIL_COLUMNS, "request_time", emails);
+                    deleteOtherPartitionKeys(connection, "email_recipients", RECIPIENT_COLUMNS, "created_at", recipients);
+
+                    int rows = upsert(connection, "emails", EMAIL_COLUMNS, List.of("id", "request_time"), emails);
+                    rows += upsert(connection, "email_recipients", RECIPIENT_COLUMNS,
+                            List.of("id", "created_at"), recipients);
+                    rows += upsert(connection, "email_attachments", EMAIL_ATTACHMENT_COLUMNS,
+                            EMAIL_ATTACHMENT_COLUMNS.subList(0, 2), emailAttachments);
+                    rows += upsert(connection, "attachment_metadata", ATTACHMENT_METADATA_COLUMNS,
+                            List.of("id"), attachments);
+                    rows += rebuildHistoryView(connection, emailIds);
+                    notifyUsers(connection, userIds);
+                    connection.commit();
+                    return rows;
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            });
+            return projected != null ? projected : 0;
+        } catch (Exception e) {
+            log.error("조회 DB 프로젝션 오류: emails={}, attachments={}", emailIds.size(), attachmentIds.size(), e);
+            throw new EmailRepositoryException("조회 DB 프로젝션 실패", e);
+        }
+    }
+
+    /**
+     * 처리한 변경 로그를 삭제합니다.
+     *
+     * @param ids 변경 로그 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Override
+    public int deleteChanges(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            int deleted = 0;
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+                deleted += commandDb.update(
+                        "DELETE FROM email_changes WHERE id IN (" + placeholders(chunk.size()) + ")", chunk.toArray());
+            }
+            return deleted;
+        } catch (Exception e) {
+            log.error("변경 로그 삭제 오류: count={}", ids.size(), e);
+            throw new EmailRepositoryException("변경 로그 삭제 실패", e);
+        }
+    }
+
+    /**
+     * 처리되지 않은 가장 오래된 변경 로그의 기록 시각을 조회합니다.
+     *
+     * @return 기록 시각
+     */
+    @Override
+    public Optional<LocalDateTime> findOldestPendingChangeTime() {
+        try {
+            List<Timestamp> times = commandDb.queryForList(SELECT_OLDEST_PENDING_CHANGE_SQL, Timestamp.class);
+            return times.isEmpty() ? Optional.empty() : Optional.of(times.get(0).toLocalDateTime());
+        } catch (Exception e) {
+            log.warn("변경 로그 지연 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 키 목록에 해당하는 행을 커맨드 DB에서 컬럼 순서대로 읽습니다.
+     */
+    private List<Object[]> selectByKeys(String table, List<String> columns, String keyColumn, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        List<Object[]> rows = new ArrayList<>();
+        String prefix = "SELECT " + String.join(", ", columns) + " FROM " + table + " WHERE " + keyColumn + " IN (";
+
+        for (int from = 0; from < keyList.size(); from += CHUNK_SIZE) {
+            List<String> chunk = keyList.subList(from, Math.min(from + CHUNK_SIZE, keyList.size()));
+            rows.addAll(commandDb.query(prefix + placeholders(chunk.size()) + ")",
+                    (rs, rowNum) -> readRow(rs, columns.size()), chunk.toArray()));
+        }
+        return rows;
+    }
+
+    private static void deleteByKeys(Connection connection, String table, String keyColumn,
+                                     Collection<String> keys) throws SQLException {
+        List<String> keyList = new ArrayList<>(keys);
+        for (int from = 0; from < keyList.size(); from += CHUNK_SIZE) {
+            List<String> chunk = keyList.subList(from, Math.min(from + CHUNK_SIZE, keyList.size()));
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "DELETE FROM " + table + " WHERE " + keyColumn + " IN (" + placeholders(chunk.size()) + ")")) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setString(i + 1, chunk.get(i));
+                }
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * 반영할 행과 id는 같지만 파티션 키가 다른 행을 조회 DB에서 삭제합니다.
+     * (id, 파티션 키) 충돌만으로 UPSERT하면 파티션 키가 바뀐 행이 중복으로 남기 때문입니다.
+     */
+    private static void deleteOtherPartitionKeys(Connection connection, String table, List<String> columns,
+                                                 String partitionColumn, List<Object[]> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        int idIndex = columns.indexOf("id");
+        int partitionIndex = columns.indexOf(partitionColumn);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "DELETE FROM " + table + " WHERE id = ? AND " + partitionColumn + " <> ?")) {
+            int pending = 0;
+            for (Object[] row : rows) {
+                ps.setObject(1, row[idIndex]);
+                ps.setObject(2, row[partitionIndex]);
+                ps.addBatch();
+                if (++pending == CHUNK_SIZE) {
+                    ps.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * 행을 조회 DB에 UPSERT합니다. 충돌 키 외의 컬럼은 커맨드 DB 값으로 덮어씁니다.
+     */
+    private static int upsert(Connection connection, String table, List<String> columns,
+                              List<String> conflictColumns, List<Object[]> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES (")
+                .append(placeholders(columns.size())).append(") ON CONFLICT (")
+                .append(String.join(", ", conflictColumns)).append(")");
+
+        List<String> updateColumns = columns.stream().filter(column -> !conflictColumns.contains(column)).toList();
+        if (updateColumns.isEmpty()) {
+            sql.append(" DO NOTHING");
+        } else {
+            sql.append(" DO UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(updateColumns.get(i)).append(" = EXCLUDED.").append(updateColumns.get(i));
+            }
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            int pending = 0;
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    ps.setObject(i + 1, row[i]);
+                }
+                ps.addBatch();
+                if (++pending == CHUNK_SIZE) {
+                    ps.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                ps.executeBatch();
+            }
+        }
+        return rows.size();
+    }
+
+    /**
+     * 반영한 이메일의 발송 이력 읽기 모델 행을 조회 DB의 현재 이메일/수신자로 다시 만듭니다.
+     * 기존 행은 호출 전에 삭제되어 있어야 합니다.
+     */
+    private static int rebuildHistoryView(Connection connection, Collection<String> emailIds) throws SQLException {
+        List<String> keyList = new ArrayList<>(emailIds);
+        int rows = 0;
+        for (int from = 0; from < keyList.size(); from += CHUNK_SIZE) {
+            List<String> chunk = keyList.subList(from, Math.min(from + CHUNK_SIZE, keyList.size()));
+            try (PreparedStatement ps = connection.prepareStatement(
+                    INSERT_HISTORY_VIEW_PREFIX + placeholders(chunk.size()) + ")")) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setString(i + 1, chunk.get(i));
+                }
+                rows += ps.executeUpdate();
+            }
+        }
+        return rows;
+    }
+
+    private static Set<String> selectUserIds(Connection connection, Collection<String> emailIds) throws SQLException {
+        Set<String> userIds = new HashSet<>();
+        List<String> keyList = new ArrayList<>(emailIds);
+        for (int from = 0; from < keyList.size(); from += CHUNK_SIZE) {
+            List<String> chunk = keyList.subList(from, Math.min(from + CHUNK_SIZE, keyList.size()));
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "SELECT DISTINCT user_id FROM emails WHERE id IN (" + placeholders(chunk.size()) + ")")) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setString(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        userIds.add(rs.getString(1));
+                    }
+                }
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 이메일이 바뀐 사용자 ID를 알립니다.
+     * NOTIFY는 트랜잭션이 커밋될 때 전달되므로, 받는 쪽은 조회 DB에 반영된 뒤에만 캐시를 무효화합니다.
+     */
+    private static void notifyUsers(Connection connection, Set<String> userIds) throws SQLException {
+        userIds.remove(null);
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT pg_notify(?, u) FROM unnest(?::text[]) AS u")) {
+            ps.setString(1, EmailChange.USER_CHANGED_CHANNEL);
+            ps.setArray(2, connection.createArrayOf("text", userIds.toArray()));
+            ps.execute();
+        }
+    }
+
+    private static Object[] readRow(ResultSet rs, int columnCount) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = rs.getObject(i + 1);
+        }
+        return row;
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder placeholders = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) placeholders.append(",");
+            placeholders.append("?");
+        }
+        return placeholders.toString();
+    }
+
+    /**
+     * 변경 로그 행 매퍼 클래스입니다.
+     */
+    private static class EmailChangeRowMapper implements RowMapper<EmailChange> {
+        @Override
+        public EmailChange mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return EmailChange.builder()
+                    .id(rs.getLong("id"))
+                    .entity(rs.getString("entity"))
+                    .entityId(rs.getString("entity_id"))
+                    .changedAt(rs.getTimestamp("changed_at").toLocalDateTime())
+                    .build();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.email.email.repository;
 
 import com.email.email.domain.*;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,13 +13,13 @@ import java.util.Optional;
 public interface EmailRepository {
    
    /**
-    * 사용자 ID로 최근 이메일을 조회합니다.
+    * 사용자 ID로 최근 이메일을 첫 번째 수신자, 수신자 수와 함께 한 번에 조회합니다.
     *
     * @param userId 사용자 ID
     * @param limit 조회 개수 제한
-    * @return 최근 이메일 목록
+    * @return 최근 이메일 요약 목록
     */
-   List<Email> findRecentByUserId(String userId, int limit);
+   List<RecentEmailSummary> findRecentSummariesByUserId(String userId, int limit);
    
    /**
     * 이메일을 저장합니다.
@@ -35,6 +37,25 @@ public interface EmailRepository {
     */
    EmailRecipient saveRecipient(EmailRecipient recipient);
    
+   /**
+    * 수신자 목록을 일괄 저장합니다.
+    * 청크 단위의 다중 행 INSERT로 저장하여 수신자 수만큼 왕복하지 않습니다.
+    *
+    * @param recipients 수신자 객체 목록
+    * @return 저장된 수신자 수
+    */
+   int saveRecipients(List<EmailRecipient> recipients);
+   
+   /**
+    * 수신자 이메일 스트림을 PostgreSQL COPY로 적재합니다.
+    * 이터레이터를 소비하면서 바로 전송하므로 전체 목록을 메모리에 올리지 않습니다.
+    *
+    * @param emailId 이메일 ID
+    * @param recipientEmails 수신자 이메일 이터레이터
+    * @return 적재된 수신자 수
+    */
+   long copyRecipients(String emailId, Iterator<String> recipientEmails);
+   
    /**
     * 첨부파일 메타데이터를 저장합니다.
     *
@@ -52,12 +73,122 @@ public interface EmailRepository {
    EmailAttachment saveEmailAttachment(EmailAttachment emailAttachment);
    
    /**
-    * 필터 조건에 맞는 이메일을 조회합니다.
+    * 이메일-첨부파일 연결 정보 목록을 일괄 저장합니다.
+    *
+    * @param emailAttachments 이메일-첨부파일 연결 객체 목록
+    * @return 저장된 연결 정보 수
+    */
+   int saveEmailAttachments(List<EmailAttachment> emailAttachments);
+   
+   /**
+    * 발송 대기 중인 이메일을 선점합니다.
+    * {@code FOR UPDATE SKIP LOCKED}로 다른 인스턴스가 잡은 행은 건너뛰고,
+    * 선점한 이메일은 PROCESSING 상태로 변경됩니다.
+    * 처리 중 상태로 leaseTimeoutSeconds 이상 방치된 이메일도 다시 선점합니다.
+    *
+    * @param limit 최대 선점 개수
+    * @param leaseTimeoutSeconds 처리 중 상태의 최대 유지 시간(초)
+    * @return 선점한 이메일 목록
+    */
+   List<Email> claimQueuedEmails(int limit, long leaseTimeoutSeconds);
+   
+   /**
+    * 이메일 상태를 변경합니다.
+    *
+    * @param emailId 이메일 ID
+    * @param status 변경할 상태
+    */
+   void updateEmailStatus(String emailId, EmailStatus status);
+   
+   /**
+    * 수신자별 발송 결과를 일괄 반영합니다.
+    * 수신자 이메일 주소로 대상 행을 찾아 상태, 수신 시간, 실패 사유를 변경합니다.
+    *
+    * @param emailId 이메일 ID
+    * @param results 수신자별 발송 결과 (recipientEmail, status, receiveTime, failReason 사용)
+    * @return 변경된 수신자 수
+    */
+   int applyDeliveryResults(String emailId, List<EmailRecipient> results);
+   
+   /**
+    * 수신자 상태를 집계하여 이메일 상태를 다시 계산합니다.
+    * 한 명이라도 수신에 성공하면 SENT, 모든 수신자의 결과가 확정되었는데 성공한 수신자가 없으면 FAILED입니다.
+    * 결과를 받지 못한 수신자(PENDING)가 남아 있고 성공한 수신자가 없으면 현재 상태를 유지합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 변경된 이메일 상태 (수신자가 없으면 null)
+    */
+   EmailStatus recomputeEmailStatus(String emailId);
+   
+   /**
+    * 발송용 수신자 이메일 목록을 커맨드 DB에서 조회합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 수신자 이메일 목록
+    */
+   List<String> findRecipientEmailsForDelivery(String emailId);
+   
+   /**
+    * 이메일에 연결된 첨부파일 ID 목록을 커맨드 DB에서 조회합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 첨부파일 ID 목록
+    */
+   List<String> findAttachmentIdsByEmailId(String emailId);
+   
+   /**
+    * 이메일 제목과 본문을 조회합니다.
+    * 목록 조회는 본문 컬럼을 읽지 않으므로 본문은 이 메서드로 따로 조회합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 제목과 본문만 채운 이메일 (없으면 빈 값)
+    */
+   Optional<Email> findEmailContent(String emailId);
+   
+   /**
+    * 이메일 존재 여부를 확인합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 존재 여부
+    */
+   boolean existsEmailById(String emailId);
+   
+   /**
+    * 필터 조건에 맞는 발송 이력을 수신자별 행으로 조회합니다.
+    * 수신자 필터와 정렬(요청 시간 역순)은 데이터베이스에서 처리하고,
+    * 커서가 있으면 (요청 시간, 이메일 ID, 수신자 ID) 키셋으로 커서 다음 행부터 조회합니다.
     *
     * @param filters 이메일 필터 조건
-    * @return 필터 조건에 맞는 이메일 목록
+    * @param after 이전 페이지의 마지막 행 커서 (첫 페이지이면 null)
+    * @param limit 최대 조회 행 수
+    * @return 발송 이력 행 목록
     */
-   List<Email> findEmailsByFilters(EmailHistoryFilter filters);
+   List<EmailHistoryRow> findEmailHistory(EmailHistoryFilter filters, EmailHistoryCursor after, int limit);
+   
+   /**
+    * 제목과 본문에서 검색어에 맞는 이메일을 관련도 순으로 조회합니다.
+    * 커서가 있으면 (검색 순위, 요청 시간, 이메일 ID) 키셋으로 커서 다음 결과부터 조회합니다.
+    * 필터 조건 중 기간, 발신자, 상태만 적용합니다.
+    *
+    * @param query 검색어 (웹 검색 문법: 따옴표 구문, OR, -제외어)
+    * @param filters 이메일 필터 조건
+    * @param after 이전 페이지의 마지막 결과 커서 (첫 페이지이면 null)
+    * @param limit 최대 조회 개수
+    * @return 검색 결과 목록
+    */
+   List<EmailSearchResult> searchEmails(String query, EmailHistoryFilter filters, EmailSearchCursor after, int limit);
+   
+   /**
+    * 필터 조건에 맞는 발송 이력을 전진 전용 커서로 읽어 행마다 처리기에 넘깁니다.
+    * 조회 DB에 남아 있는 달만 읽으므로 아카이브된 달은 {@link com.email.email.service.HistoryArchiveService}로 이어서 읽어야 합니다.
+    * 컬럼 순서는 발신자 이메일, 요청 시간, 상태, 수신자 이메일, 수신 시간, 수신 상태, 실패 사유, 제목이며
+    * 시간 컬럼은 "yyyy-MM-dd HH:mm:ss" 문자열입니다.
+    *
+    * @param filters 이메일 필터 조건
+    * @param fetchSize 한 번에 가져올 행 수
+    * @param rowHandler 행 처리기
+    */
+   void streamEmailHistory(EmailHistoryFilter filters, int fetchSize, RowCallbackHandler rowHandler);
    
    /**
     * 첨부파일 ID로 첨부파일 메타데이터를 조회합니다.
@@ -82,13 +213,4 @@ public interface EmailRepository {
     * @return 수신자 목록
     */
    List<EmailRecipient> findRecipientsByEmailId(String emailId);
-   
-   /**
-    * 이메일 ID와 수신자 이메일로 수신자를 조회합니다.
-    *
-    * @param emailId 이메일 ID
-    * @param recipientEmail 수신자 이메일
-    * @return 수신자 목록
-    */
-   List<EmailRecipient> findRecipientsByEmailIdAndEmail(String emailId, String recipientEmail);
 }
@@ -4,20 +4,29 @@ package com.email.email.repository;
 import com.email.email.domain.*;
 import com.email.email.exception.EmailRepositoryException;
 import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * 이메일 저장소 구현 클래스입니다.
@@ -28,6 +37,8 @@ public class EmailRepositoryImpl implements EmailRepository {
 
     private final JdbcTemplate commandDb;
     private final JdbcTemplate queryDb;
+    // 조회 DB 복제본으로 라우팅되는 읽기 전용 템플릿 (페이지 단위 조회에 사용합니다)
+    private final JdbcTemplate queryReadDb;
 
     private static final String INSERT_EMAIL_SQL =
             "INSERT INTO emails (id, user_id, subject, sender_email, sender_name, content, request_time, status, created_at, updated_at) " +
@@ -37,6 +48,9 @@ public class EmailRepositoryImpl implements EmailRepository {
             "INSERT INTO email_recipients (id, email_id, recipient_email, status, created_at) " +
                     "VALUES (?, ?, ?, ?, ?)";
 
+    private static final String INSERT_RECIPIENTS_PREFIX =
+            "INSERT INTO email_recipients (id, email_id, recipient_email, status, created_at) VALUES ";
+
     private static final String INSERT_ATTACHMENT_METADATA_SQL =
             "INSERT INTO attachment_metadata (id, file_name, content_type, file_size, blob_name, container_name, upload_time, status, created_at) " +
                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
@@ -45,28 +59,106 @@ public class EmailRepositoryImpl implements EmailRepository {
             "INSERT INTO email_attachments (email_id, attachment_id, created_at) " +
                     "VALUES (?, ?, ?)";
 
+    private static final String INSERT_EMAIL_ATTACHMENTS_PREFIX =
+            "INSERT INTO email_attachments (email_id, attachment_id, created_at) VALUES ";
+
+    // 다중 행 INSERT 한 번에 담을 최대 행 수 (PostgreSQL 바인드 파라미터 한도 65535 이내)
+    private static final int BATCH_CHUNK_SIZE = 1000;
+
+    private static final String APPLY_DELIVERY_RESULTS_PREFIX =
+            "UPDATE email_recipients r SET status = v.status, receive_time = v.receive_time, " +
+                    "fail_reason = v.fail_reason, updated_at = ? FROM (VALUES ";
+
+    private static final String APPLY_DELIVERY_RESULTS_ROW = "(?, ?, CAST(? AS TIMESTAMP), ?)";
+
+    private static final String APPLY_DELIVERY_RESULTS_SUFFIX =
+            ") AS v (recipient_email, status, receive_time, fail_reason) " +
+                    "WHERE r.email_id = ? AND r.recipient_email = v.recipient_email";
+
+    // 결과를 받지 못한 수신자(PENDING)가 남아 있으면 아직 실패로 확정하지 않고 현재 상태를 유지합니다.
+    private static final String RECOMPUTE_EMAIL_STATUS_SQL =
+            "UPDATE emails e SET status = CASE WHEN s.delivered > 0 THEN 'SENT' " +
+                    "WHEN s.pending > 0 THEN e.status ELSE 'FAILED' END, updated_at = ? " +
+                    "FROM (SELECT COUNT(*) AS total, " +
+                    "COUNT(*) FILTER (WHERE status IN ('DELIVERED', 'OPENED')) AS delivered, " +
+                    "COUNT(*) FILTER (WHERE status = 'PENDING') AS pending " +
+                    "FROM email_recipients WHERE email_id = ?) s " +
+                    "WHERE e.id = ? AND s.total > 0 " +
+                    "RETURNING e.status";
+
+    // 목록 조회는 content(TOAST) 컬럼을 읽지 않도록 필요한 컬럼만 지정합니다.
+    // 수신자는 이메일 요청 이후에 저장되므로 r.created_at >= e.request_time 조건으로 이전 월 파티션을 건너뜁니다.
+    private static final String SELECT_RECENT_SUMMARIES_SQL =
+            "SELECT e.id, e.sender_email, e.subject, e.request_time, e.status, " +
+                    "fr.recipient_email AS first_recipient_email, rc.recipient_count " +
+                    "FROM (SELECT id, sender_email, subject, request_time, status FROM emails " +
+                    "WHERE user_id = ? ORDER BY request_time DESC LIMIT ?) e " +
+                    "LEFT JOIN LATERAL (SELECT recipient_email FROM email_recipients r " +
+                    "WHERE r.email_id = e.id AND r.created_at >= e.request_time ORDER BY r.created_at, r.id LIMIT 1) fr ON TRUE " +
+                    "LEFT JOIN LATERAL (SELECT COUNT(*) AS recipient_count FROM email_recipients r " +
+                    "WHERE r.email_id = e.id AND r.created_at >= e.request_time) rc ON TRUE " +
+                    "ORDER BY e.request_time DESC";
+
+    // 전문 검색은 search_vector의 GIN 인덱스로 후보를 찾고, 순위는 바깥 쿼리의 키셋 조건과 정렬에 함께 씁니다.
+    private static final String SEARCH_EMAILS_SQL =
+            "SELECT s.id, s.sender_email, s.subject, s.request_time, s.status, s.rank FROM (" +
+                    "SELECT e.id, e.sender_email, e.subject, e.request_time, e.status, " +
+                    "ts_rank(e.search_vector, q) AS rank " +
+                    "FROM emails e, websearch_to_tsquery('simple', ?) q " +
+                    "WHERE e.search_vector @@ q AND e.request_time >= ? AND e.request_time < ?";
+
+    // 발송 이력은 수신자별로 비정규화한 email_history_view 한 테이블에서 인덱스 순서대로 읽습니다.
+    private static final String SELECT_EMAIL_HISTORY_SQL =
+            "SELECT h.email_id, h.sender_email, h.subject, h.request_time, h.status, " +
+                    "h.recipient_id, h.recipient_email, h.recipient_status, h.receive_time, h.fail_reason " +
+                    "FROM email_history_view h WHERE 1=1";
+
+    // 스트리밍 조회는 시간 포맷을 데이터베이스에서 처리하여 행마다 문자열만 읽습니다.
+    private static final String STREAM_EMAIL_HISTORY_SQL =
+            "SELECT h.sender_email, to_char(h.request_time, 'YYYY-MM-DD HH24:MI:SS'), h.status, " +
+                    "h.recipient_email, to_char(h.receive_time, 'YYYY-MM-DD HH24:MI:SS'), h.recipient_status, h.fail_reason, h.subject " +
+                    "FROM email_history_view h WHERE 1=1";
+
+    private static final String SELECT_EMAIL_CONTENT_SQL = "SELECT id, subject, content FROM emails WHERE id = ?";
+
+    private static final String CLAIM_QUEUED_EMAILS_SQL =
+            "UPDATE emails SET status = 'PROCESSING', updated_at = ? " +
+                    "WHERE id IN (" +
+                    "SELECT id FROM emails " +
+                    "WHERE status = 'QUEUED' OR (status = 'PROCESSING' AND updated_at < ?) " +
+                    "ORDER BY request_time " +
+                    "LIMIT ? " +
+                    "FOR UPDATE SKIP LOCKED" +
+                    ") RETURNING *";
+
+    private static final String COPY_RECIPIENTS_SQL =
+            "COPY email_recipients (id, email_id, recipient_email, status, created_at) FROM STDIN WITH (FORMAT csv)";
+
+    // COPY 스트림으로 한 번에 흘려보낼 버퍼 크기
+    private static final int COPY_FLUSH_THRESHOLD = 64 * 1024;
+
     public EmailRepositoryImpl(@Qualifier("commandJdbcTemplate") JdbcTemplate commandDb,
-                               @Qualifier("queryJdbcTemplate") JdbcTemplate queryDb) {
+                               @Qualifier("queryJdbcTemplate") JdbcTemplate queryDb,
+                               @Qualifier("queryReadJdbcTemplate") JdbcTemplate queryReadDb) {
         this.commandDb = commandDb;
         this.queryDb = queryDb;
+        this.queryReadDb = queryReadDb;
     }
 
     /**
-     * 사용자 ID로 최근 이메일을 조회합니다.
+     * 사용자 ID로 최근 이메일을 첫 번째 수신자, 수신자 수와 함께 조회합니다.
+     * 수신자는 LATERAL 서브쿼리로 이메일마다 한 행과 개수만 읽습니다.
      *
      * @param userId 사용자 ID
      * @param limit 조회 개수 제한
-     * @return 최근 이메일 목록
+     * @return 최근 이메일 요약 목록
      */
     @Override
-    public List<Email> findRecentByUserId(String userId, int limit) {
+    public List<RecentEmailSummary> findRecentSummariesByUserId(String userId, int limit) {
         log.debug("최근 이메일 조회: userId={}, limit={}", userId, limit);
 
-        String sql = "SELECT * FROM emails WHERE user_id = ? ORDER BY request_time DESC LIMIT ?";
-
         try {
-            // limit 파라미터도 함께 전달해야 합니다
-            return queryDb.query(sql, new EmailRowMapper(), userId, limit);
+            return queryDb.query(SELECT_RECENT_SUMMARIES_SQL, new RecentEmailSummaryRowMapper(), userId, limit);
         } catch (Exception e) {
             log.error("최근 이메일 조회 오류: userId={}", userId, e);
             return Collections.emptyList();
@@ -135,6 +227,96 @@ public class EmailRepositoryImpl implements EmailRepository {
         }
     }
 
+    /**
+     * 수신자 목록을 일괄 저장합니다.
+     *
+     * @param recipients 수신자 객체 목록
+     * @return 저장된 수신자 수
+     */
+    @Override
+    public int saveRecipients(List<EmailRecipient> recipients) {
+        if (recipients == null || recipients.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        log.debug("수신자 일괄 저장 시작: emailId={}, count={}", recipients.get(0).getEmailId(), recipients.size());
+
+        try {
+            int rowsAffected = 0;
+
+            for (int from = 0; from < recipients.size(); from += BATCH_CHUNK_SIZE) {
+                List<EmailRecipient> chunk = recipients.subList(from, Math.min(from + BATCH_CHUNK_SIZE, recipients.size()));
+                Object[] params = new Object[chunk.size() * 5];
+                int i = 0;
+
+                for (EmailRecipient recipient : chunk) {
+                    params[i++] = recipient.getId();
+                    params[i++] = recipient.getEmailId();
+                    params[i++] = recipient.getRecipientEmail();
+                    params[i++] = recipient.getStatus().name();
+                    params[i++] = now;
+                }
+
+                rowsAffected += commandDb.update(buildMultiRowInsert(INSERT_RECIPIENTS_PREFIX, 5, chunk.size()), params);
+            }
+
+            log.debug("수신자 일괄 저장 완료: count={}, rowsAffected={}", recipients.size(), rowsAffected);
+
+            return rowsAffected;
+        } catch (Exception e) {
+            log.error("수신자 일괄 저장 오류: emailId={}", recipients.get(0).getEmailId(), e);
+            throw new EmailRepositoryException("수신자 일괄 저장 실패", e);
+        }
+    }
+
+    /**
+     * 수신자 이메일 스트림을 PostgreSQL COPY로 적재합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param recipientEmails 수신자 이메일 이터레이터
+     * @return 적재된 수신자 수
+     */
+    @Override
+    public long copyRecipients(String emailId, Iterator<String> recipientEmails) {
+        log.debug("수신자 COPY 적재 시작: emailId={}", emailId);
+
+        try {
+            Long rowsCopied = commandDb.execute((ConnectionCallback<Long>) connection -> {
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_RECIPIENTS_SQL);
+                String createdAt = Timestamp.valueOf(LocalDateTime.now()).toString();
+                StringBuilder buffer = new StringBuilder(COPY_FLUSH_THRESHOLD + 256);
+
+                try {
+                    while (recipientEmails.hasNext()) {
+                        buffer.append(UUID.randomUUID()).append(',')
+                                .append(emailId).append(',')
+                                .append(recipientEmails.next()).append(',')
+                                .append(RecipientStatus.PENDING.name()).append(',')
+                                .append(createdAt).append('\n');
+
+                        if (buffer.length() >= COPY_FLUSH_THRESHOLD) {
+                            flushCopyBuffer(copyIn, buffer);
+                        }
+                    }
+                    flushCopyBuffer(copyIn, buffer);
+                    return copyIn.endCopy();
+                } finally {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                }
+            });
+
+            log.debug("수신자 COPY 적재 완료: emailId={}, rowsCopied={}", emailId, rowsCopied);
+
+            return rowsCopied != null ? rowsCopied : 0L;
+        } catch (Exception e) {
+            log.error("수신자 COPY 적재 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("수신자 대량 적재 실패", e);
+        }
+    }
+
     /**
      * 첨부파일 메타데이터를 저장합니다.
      *
@@ -161,24 +343,7 @@ public class EmailRepositoryImpl implements EmailRepository {
 
             log.debug("첨부파일 메타데이터 저장 완료: id={}, rowsAffected={}", metadata.getId(), rowsAffected);
 
-            // Query DB에도 동일한 데이터 저장 (View 동기화)
-            try {
-                queryDb.update(INSERT_ATTACHMENT_METADATA_SQL,
-                        metadata.getId(),
-                        metadata.getFileName(),
-                        metadata.getContentType(),
-                        metadata.getFileSize(),
-                        metadata.getBlobName(),
-                        metadata.getContainerName(),
-                        metadata.getUploadTime(),
-                        metadata.getStatus().name(),
-                        now);  // created_at만 사용
-                log.debug("Query DB에 첨부파일 메타데이터 복제 완료: id={}", metadata.getId());
-            } catch (Exception e) {
-                log.warn("Query DB에 첨부파일 메타데이터 복제 실패: id={}, error={}", metadata.getId(), e.getMessage());
-                // 실패해도 진행 (Command DB에만 성공해도 기능상 문제 없음)
-            }
-
+            // 조회 DB에는 EmailQueryProjector가 변경 로그를 통해 반영합니다.
             return metadata;
         } catch (Exception e) {
             log.error("첨부파일 메타데이터 저장 오류: attachmentId={}", metadata.getId(), e);
@@ -216,43 +381,402 @@ public class EmailRepositoryImpl implements EmailRepository {
     }
 
     /**
-     * 필터 조건에 맞는 이메일을 조회합니다.
+     * 이메일-첨부파일 연결 정보 목록을 일괄 저장합니다.
+     *
+     * @param emailAttachments 이메일-첨부파일 연결 객체 목록
+     * @return 저장된 연결 정보 수
+     */
+    @Override
+    public int saveEmailAttachments(List<EmailAttachment> emailAttachments) {
+        if (emailAttachments == null || emailAttachments.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        log.debug("이메일-첨부파일 연결 일괄 저장 시작: emailId={}, count={}",
+                emailAttachments.get(0).getEmailId(), emailAttachments.size());
+
+        try {
+            int rowsAffected = 0;
+
+            for (int from = 0; from < emailAttachments.size(); from += BATCH_CHUNK_SIZE) {
+                List<EmailAttachment> chunk = emailAttachments.subList(from, Math.min(from + BATCH_CHUNK_SIZE, emailAttachments.size()));
+                Object[] params = new Object[chunk.size() * 3];
+                int i = 0;
+
+                for (EmailAttachment emailAttachment : chunk) {
+                    params[i++] = emailAttachment.getEmailId();
+                    params[i++] = emailAttachment.getAttachmentId();
+                    params[i++] = now;
+                }
+
+                rowsAffected += commandDb.update(buildMultiRowInsert(INSERT_EMAIL_ATTACHMENTS_PREFIX, 3, chunk.size()), params);
+            }
+
+            log.debug("이메일-첨부파일 연결 일괄 저장 완료: count={}, rowsAffected={}", emailAttachments.size(), rowsAffected);
+
+            return rowsAffected;
+        } catch (Exception e) {
+            log.error("이메일-첨부파일 연결 일괄 저장 오류: emailId={}", emailAttachments.get(0).getEmailId(), e);
+            throw new EmailRepositoryException("이메일-첨부파일 연결 일괄 저장 실패", e);
+        }
+    }
+
+    /**
+     * 발송 대기 중인 이메일을 선점합니다.
+     *
+     * @param limit 최대 선점 개수
+     * @param leaseTimeoutSeconds 처리 중 상태의 최대 유지 시간(초)
+     * @return 선점한 이메일 목록
+     */
+    @Override
+    public List<Email> claimQueuedEmails(int limit, long leaseTimeoutSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            List<Email> claimed = commandDb.query(CLAIM_QUEUED_EMAILS_SQL, new EmailRowMapper(),
+                    now, now.minusSeconds(leaseTimeoutSeconds), limit);
+
+            if (!claimed.isEmpty()) {
+                log.debug("발송 대기 이메일 선점: count={}", claimed.size());
+            }
+
+            return claimed;
+        } catch (Exception e) {
+            log.error("발송 대기 이메일 선점 오류: limit={}", limit, e);
+            throw new EmailRepositoryException("발송 대기 이메일 선점 실패", e);
+        }
+    }
+
+    /**
+     * 이메일 상태를 변경합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param status 변경할 상태
+     */
+    @Override
+    public void updateEmailStatus(String emailId, EmailStatus status) {
+        String sql = "UPDATE emails SET status = ?, updated_at = ? WHERE id = ?";
+
+        try {
+            int rowsAffected = commandDb.update(sql, status.name(), LocalDateTime.now(), emailId);
+            log.debug("이메일 상태 변경: emailId={}, status={}, rowsAffected={}", emailId, status, rowsAffected);
+        } catch (Exception e) {
+            log.error("이메일 상태 변경 오류: emailId={}, status={}", emailId, status, e);
+            throw new EmailRepositoryException("이메일 상태 변경 실패", e);
+        }
+    }
+
+    /**
+     * 수신자별 발송 결과를 UPDATE ... FROM (VALUES ...) 로 청크 단위 일괄 반영합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param results 수신자별 발송 결과
+     * @return 변경된 수신자 수
+     */
+    @Override
+    public int applyDeliveryResults(String emailId, List<EmailRecipient> results) {
+        if (results == null || results.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        log.debug("발송 결과 일괄 반영 시작: emailId={}, count={}", emailId, results.size());
+
+        try {
+            int rowsAffected = 0;
+
+            for (int from = 0; from < results.size(); from += BATCH_CHUNK_SIZE) {
+                List<EmailRecipient> chunk = results.subList(from, Math.min(from + BATCH_CHUNK_SIZE, results.size()));
+                Object[] params = new Object[chunk.size() * 4 + 2];
+                int i = 0;
+
+                params[i++] = now;
+                for (EmailRecipient result : chunk) {
+                    params[i++] = result.getRecipientEmail();
+                    params[i++] = result.getStatus().name();
+                    params[i++] = result.getReceiveTime();
+                    params[i++] = result.getFailReason();
+                }
+                params[i] = emailId;
+
+                String sql = APPLY_DELIVERY_RESULTS_PREFIX
+                        + buildValuesRows(APPLY_DELIVERY_RESULTS_ROW, chunk.size())
+                        + APPLY_DELIVERY_RESULTS_SUFFIX;
+                rowsAffected += commandDb.update(sql, params);
+            }
+
+            log.debug("발송 결과 일괄 반영 완료: emailId={}, count={}, rowsAffected={}", emailId, results.size(), rowsAffected);
+
+            return rowsAffected;
+        } catch (Exception e) {
+            log.error("발송 결과 일괄 반영 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("발송 결과 일괄 반영 실패", e);
+        }
+    }
+
+    /**
+     * 수신자 상태를 집계하여 이메일 상태를 다시 계산합니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 변경된 이메일 상태 (수신자가 없으면 null)
+     */
+    @Override
+    public EmailStatus recomputeEmailStatus(String emailId) {
+        try {
+            List<String> statuses = commandDb.queryForList(
+                    RECOMPUTE_EMAIL_STATUS_SQL, String.class, LocalDateTime.now(), emailId, emailId);
+            EmailStatus status = statuses.isEmpty() ? null : EmailStatus.valueOf(statuses.get(0));
+            log.debug("이메일 상태 재계산: emailId={}, status={}", emailId, status);
+
+            return status;
+        } catch (Exception e) {
+            log.error("이메일 상태 재계산 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("이메일 상태 재계산 실패", e);
+        }
+    }
+
+    /**
+     * 이메일 제목과 본문을 조회합니다.
+     * 조회 DB에 아직 반영되지 않은 이메일은 커맨드 DB에서 조회합니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 제목과 본문만 채운 이메일 (없으면 빈 값)
+     */
+    @Override
+    public Optional<Email> findEmailContent(String emailId) {
+        RowMapper<Email> contentMapper = new EmailContentRowMapper();
+
+        try {
+            List<Email> fromQuery = queryReadDb.query(SELECT_EMAIL_CONTENT_SQL, contentMapper, emailId);
+            if (!fromQuery.isEmpty()) {
+                return Optional.of(fromQuery.get(0));
+            }
+
+            List<Email> fromCommand = commandDb.query(SELECT_EMAIL_CONTENT_SQL, contentMapper, emailId);
+            return fromCommand.isEmpty() ? Optional.empty() : Optional.of(fromCommand.get(0));
+        } catch (Exception e) {
+            log.error("이메일 본문 조회 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("이메일 본문 조회 실패", e);
+        }
+    }
+
+    /**
+     * 발송용 수신자 이메일 목록을 커맨드 DB에서 조회합니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 수신자 이메일 목록
+     */
+    @Override
+    public List<String> findRecipientEmailsForDelivery(String emailId) {
+        String sql = "SELECT recipient_email FROM email_recipients WHERE email_id = ?";
+
+        try {
+            return commandDb.queryForList(sql, String.class, emailId);
+        } catch (Exception e) {
+            log.error("발송용 수신자 조회 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("발송용 수신자 조회 실패", e);
+        }
+    }
+
+    /**
+     * 이메일에 연결된 첨부파일 ID 목록을 커맨드 DB에서 조회합니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 첨부파일 ID 목록
+     */
+    @Override
+    public List<String> findAttachmentIdsByEmailId(String emailId) {
+        String sql = "SELECT attachment_id FROM email_attachments WHERE email_id = ?";
+
+        try {
+            return commandDb.queryForList(sql, String.class, emailId);
+        } catch (Exception e) {
+            log.error("첨부파일 연결 조회 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("첨부파일 연결 조회 실패", e);
+        }
+    }
+
+    /**
+     * 이메일 존재 여부를 확인합니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 존재 여부
+     */
+    @Override
+    public boolean existsEmailById(String emailId) {
+        String sql = "SELECT EXISTS (SELECT 1 FROM emails WHERE id = ?)";
+
+        try {
+            return Boolean.TRUE.equals(commandDb.queryForObject(sql, Boolean.class, emailId));
+        } catch (Exception e) {
+            log.error("이메일 존재 여부 조회 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("이메일 조회 실패", e);
+        }
+    }
+
+    /**
+     * 필터 조건에 맞는 발송 이력을 수신자별 비정규화 테이블(email_history_view)에서 조회합니다.
+     * OFFSET 대신 키셋 조건을 사용하므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회합니다.
      *
      * @param filters 이메일 필터 조건
-     * @return 필터 조건에 맞는 이메일 목록
+     * @param after 이전 페이지의 마지막 행 커서 (첫 페이지이면 null)
+     * @param limit 최대 조회 행 수
+     * @return 발송 이력 행 목록
      */
     @Override
-    public List<Email> findEmailsByFilters(EmailHistoryFilter filters) {
-        StringBuilder sql = new StringBuilder("SELECT * FROM emails WHERE 1=1");
+    public List<EmailHistoryRow> findEmailHistory(EmailHistoryFilter filters, EmailHistoryCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_EMAIL_HISTORY_SQL);
         List<Object> params = new ArrayList<>();
+        appendHistoryFilters(sql, params, filters);
 
+        // 키셋 조건: 이전 페이지 마지막 행 다음부터
+        // 행 비교식만으로는 파티션을 제외할 수 없으므로 request_time 상한을 따로 붙입니다.
+        if (after != null) {
+            sql.append(" AND h.request_time <= ? AND (h.request_time, h.email_id, h.recipient_id) < (?, ?, ?)");
+            params.add(after.getRequestTime());
+            params.add(after.getRequestTime());
+            params.add(after.getEmailId());
+            params.add(after.getRecipientId());
+        }
+
+        // 최근 순으로 정렬 (같은 시간은 이메일 ID, 수신자 ID 순)
+        sql.append(" ORDER BY h.request_time DESC, h.email_id DESC, h.recipient_id DESC LIMIT ?");
+        params.add(limit);
+
+        try {
+            return queryReadDb.query(sql.toString(), new EmailHistoryRowMapper(), params.toArray());
+        } catch (Exception e) {
+            // 빈 목록을 돌려주면 아카이브 행만으로 페이지가 채워져 커서가 조회 DB 행을 건너뛰게 됩니다.
+            log.error("이메일 발송 이력 조회 오류: filters={}", filters, e);
+            throw new EmailRepositoryException("이메일 발송 이력 조회 실패", e);
+        }
+    }
+
+    /**
+     * 필터 조건에 맞는 발송 이력을 전진 전용 커서로 읽어 행마다 처리기에 넘깁니다.
+     * PostgreSQL 드라이버는 자동 커밋이 꺼져 있을 때만 fetchSize 단위로 행을 가져오므로
+     * 조회 동안 자동 커밋을 끄고 끝나면 원래대로 돌려놓습니다.
+     *
+     * @param filters 이메일 필터 조건
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param rowHandler 행 처리기
+     */
+    @Override
+    public void streamEmailHistory(EmailHistoryFilter filters, int fetchSize, RowCallbackHandler rowHandler) {
+        StringBuilder sql = new StringBuilder(STREAM_EMAIL_HISTORY_SQL);
+        List<Object> params = new ArrayList<>();
+        appendHistoryFilters(sql, params, filters);
+        sql.append(" ORDER BY h.request_time DESC, h.email_id DESC, h.recipient_id DESC");
+
+        try {
+            queryDb.execute((ConnectionCallback<Void>) connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try (PreparedStatement ps = connection.prepareStatement(
+                        sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    ps.setFetchSize(fetchSize);
+                    for (int i = 0; i < params.size(); i++) {
+                        ps.setObject(i + 1, params.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            rowHandler.processRow(rs);
+                        }
+                    }
+                } finally {
+                    connection.rollback();
+                    connection.setAutoCommit(autoCommit);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("이메일 발송 이력 스트리밍 오류: filters={}", filters, e);
+            throw new EmailRepositoryException("이메일 발송 이력 스트리밍 실패", e);
+        }
+    }
+
+    /**
+     * 발송 이력 필터 조건을 WHERE 절에 추가합니다.
+     *
+     * @param sql SQL 문
+     * @param params 바인드 파라미터 목록
+     * @param filters 이메일 필터 조건
+     */
+    private static void appendHistoryFilters(StringBuilder sql, List<Object> params, EmailHistoryFilter filters) {
         // 시작일, 종료일 필터
+        // 파티션 키 컬럼에 변환 없이 범위 조건을 걸어 기간 밖의 월 파티션을 제외합니다.
         if (filters.getStartDate() != null && filters.getEndDate() != null) {
-            sql.append(" AND request_time BETWEEN ? AND ?");
+            sql.append(" AND h.request_time >= ? AND h.request_time < ?");
             params.add(filters.getStartDate().atStartOfDay());
             params.add(filters.getEndDate().plusDays(1).atStartOfDay());
         }
 
         // 발신자 이메일 필터
         if (filters.getSenderEmail() != null && !filters.getSenderEmail().isEmpty()) {
-            sql.append(" AND sender_email = ?");
+            sql.append(" AND h.sender_email = ?");
             params.add(filters.getSenderEmail());
         }
 
         // 상태 필터
         if (filters.getStatus() != null && !filters.getStatus().isEmpty()) {
-            sql.append(" AND status = ?");
+            sql.append(" AND h.status = ?");
             params.add(filters.getStatus());
         }
 
-        // 최근 순으로 정렬
-        sql.append(" ORDER BY request_time DESC");
+        // 수신자 이메일 필터 (정규화한 수신자 주소의 역방향 인덱스를 사용합니다)
+        if (filters.getRecipientEmail() != null && !filters.getRecipientEmail().isEmpty()) {
+            sql.append(" AND h.recipient_key = lower(btrim(?))");
+            params.add(filters.getRecipientEmail());
+        }
+    }
+
+    /**
+     * 제목과 본문에서 검색어에 맞는 이메일을 관련도 순으로 조회합니다.
+     * 기간 조건으로 파티션을 좁힌 뒤 GIN 인덱스로 찾은 후보만 순위를 계산합니다.
+     *
+     * @param query 검색어
+     * @param filters 이메일 필터 조건 (기간, 발신자, 상태)
+     * @param after 이전 페이지의 마지막 결과 커서 (첫 페이지이면 null)
+     * @param limit 최대 조회 개수
+     * @return 검색 결과 목록
+     */
+    @Override
+    public List<EmailSearchResult> searchEmails(String query, EmailHistoryFilter filters, EmailSearchCursor after,
+                                                int limit) {
+        StringBuilder sql = new StringBuilder(SEARCH_EMAILS_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(query);
+        params.add(filters.getStartDate().atStartOfDay());
+        params.add(filters.getEndDate().plusDays(1).atStartOfDay());
+
+        if (filters.getSenderEmail() != null && !filters.getSenderEmail().isEmpty()) {
+            sql.append(" AND e.sender_email = ?");
+            params.add(filters.getSenderEmail());
+        }
+        if (filters.getStatus() != null && !filters.getStatus().isEmpty()) {
+            sql.append(" AND e.status = ?");
+            params.add(filters.getStatus());
+        }
+        sql.append(") s");
+
+        // 키셋 조건: 이전 페이지 마지막 결과 다음부터 (순위는 real 값 그대로 비교합니다)
+        if (after != null) {
+            sql.append(" WHERE (s.rank, s.request_time, s.id) < (?, ?, ?)");
+            params.add(after.getRank());
+            params.add(after.getRequestTime());
+            params.add(after.getEmailId());
+        }
+
+        // 관련도 순으로 정렬 (같은 순위는 최근 순, 이메일 ID 순)
+        sql.append(" ORDER BY s.rank DESC, s.request_time DESC, s.id DESC LIMIT ?");
+        params.add(limit);
 
         try {
-            return queryDb.query(sql.toString(), new EmailRowMapper(), params.toArray());
+            return queryReadDb.query(sql.toString(), new EmailSearchResultRowMapper(), params.toArray());
         } catch (Exception e) {
-            log.error("이메일 필터 조회 오류: filters={}", filters, e);
-            return Collections.emptyList();
+            log.error("이메일 검색 오류: query={}, filters={}", query, filters, e);
+            throw new EmailRepositoryException("이메일 검색 실패", e);
         }
     }
 
@@ -303,7 +827,8 @@ public class EmailRepositoryImpl implements EmailRepository {
         String sql = "SELECT * FROM attachment_metadata WHERE id IN (" + placeholders.toString() + ")";
 
         try {
-            return queryDb.query(sql, new AttachmentMetadataRowMapper(), attachmentIds.toArray());
+            // 발송 요청 검증에 쓰이므로 방금 업로드한 첨부파일도 보이도록 Command DB에서 조회합니다.
+            return commandDb.query(sql, new AttachmentMetadataRowMapper(), attachmentIds.toArray());
         } catch (Exception e) {
             log.error("첨부파일 목록 조회 오류: attachmentIds={}", attachmentIds, e);
             return Collections.emptyList();
@@ -321,7 +846,7 @@ public class EmailRepositoryImpl implements EmailRepository {
         String sql = "SELECT * FROM email_recipients WHERE email_id = ?";
 
         try {
-            return queryDb.query(sql, new EmailRecipientRowMapper(), emailId);
+            return queryReadDb.query(sql, new EmailRecipientRowMapper(), emailId);
         } catch (Exception e) {
             log.error("수신자 조회 오류: emailId={}", emailId, e);
             return Collections.emptyList();
@@ -329,22 +854,54 @@ public class EmailRepositoryImpl implements EmailRepository {
     }
 
     /**
-     * 이메일 ID와 수신자 이메일로 수신자를 조회합니다.
+     * COPY 버퍼의 내용을 서버로 전송하고 버퍼를 비웁니다.
      *
-     * @param emailId 이메일 ID
-     * @param recipientEmail 수신자 이메일
-     * @return 수신자 목록
+     * @param copyIn COPY 스트림
+     * @param buffer 전송할 CSV 행 버퍼
+     * @throws SQLException 전송 실패 시
      */
-    @Override
-    public List<EmailRecipient> findRecipientsByEmailIdAndEmail(String emailId, String recipientEmail) {
-        String sql = "SELECT * FROM email_recipients WHERE email_id = ? AND recipient_email = ?";
+    private static void flushCopyBuffer(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() == 0) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
 
-        try {
-            return queryDb.query(sql, new EmailRecipientRowMapper(), emailId, recipientEmail);
-        } catch (Exception e) {
-            log.error("수신자 조회 오류: emailId={}, recipientEmail={}", emailId, recipientEmail, e);
-            return Collections.emptyList();
+    /**
+     * 다중 행 INSERT 문을 생성합니다.
+     *
+     * @param prefix "INSERT INTO ... VALUES " 형태의 접두 문장
+     * @param columnCount 행당 컬럼 수
+     * @param rowCount 행 수
+     * @return 다중 행 INSERT 문
+     */
+    private static String buildMultiRowInsert(String prefix, int columnCount, int rowCount) {
+        StringBuilder row = new StringBuilder("(");
+        for (int i = 0; i < columnCount; i++) {
+            if (i > 0) row.append(", ");
+            row.append("?");
         }
+        row.append(")");
+
+        return prefix + buildValuesRows(row.toString(), rowCount);
+    }
+
+    /**
+     * 같은 행 템플릿을 쉼표로 이어 붙인 VALUES 목록을 생성합니다.
+     *
+     * @param row 행 템플릿 (예: "(?, ?)")
+     * @param rowCount 행 수
+     * @return VALUES 목록 문자열
+     */
+    private static String buildValuesRows(String row, int rowCount) {
+        StringBuilder values = new StringBuilder(rowCount * (row.length() + 2));
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) values.append(", ");
+            values.append(row);
+        }
+        return values.toString();
     }
 
     /**
@@ -366,6 +923,78 @@ public class EmailRepositoryImpl implements EmailRepository {
         }
     }
 
+    /**
+     * 이메일 본문 로우 매퍼 클래스입니다.
+     */
+    private static class EmailContentRowMapper implements RowMapper<Email> {
+        @Override
+        public Email mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return Email.builder()
+                    .id(rs.getString("id"))
+                    .subject(rs.getString("subject"))
+                    .content(rs.getString("content"))
+                    .build();
+        }
+    }
+
+    /**
+     * 최근 이메일 요약 로우 매퍼 클래스입니다.
+     */
+    private static class RecentEmailSummaryRowMapper implements RowMapper<RecentEmailSummary> {
+        @Override
+        public RecentEmailSummary mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return RecentEmailSummary.builder()
+                    .emailId(rs.getString("id"))
+                    .senderEmail(rs.getString("sender_email"))
+                    .subject(rs.getString("subject"))
+                    .requestTime(rs.getTimestamp("request_time").toLocalDateTime())
+                    .status(EmailStatus.valueOf(rs.getString("status")))
+                    .firstRecipientEmail(rs.getString("first_recipient_email"))
+                    .recipientCount(rs.getInt("recipient_count"))
+                    .build();
+        }
+    }
+
+    /**
+     * 이메일 검색 결과 로우 매퍼 클래스입니다.
+     */
+    private static class EmailSearchResultRowMapper implements RowMapper<EmailSearchResult> {
+        @Override
+        public EmailSearchResult mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return EmailSearchResult.builder()
+                    .emailId(rs.getString("id"))
+                    .senderEmail(rs.getString("sender_email"))
+                    .subject(rs.getString("subject"))
+                    .requestTime(rs.getTimestamp("request_time").toLocalDateTime())
+                    .status(EmailStatus.valueOf(rs.getString("status")))
+                    .rank(rs.getFloat("rank"))
+                    .build();
+        }
+    }
+
+    /**
+     * 발송 이력 행 로우 매퍼 클래스입니다.
+     */
+    private static class EmailHistoryRowMapper implements RowMapper<EmailHistoryRow> {
+        @Override
+        public EmailHistoryRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Timestamp receiveTime = rs.getTimestamp("receive_time");
+
+            return EmailHistoryRow.builder()
+                    .emailId(rs.getString("email_id"))
+                    .senderEmail(rs.getString("sender_email"))
+                    .subject(rs.getString("subject"))
+                    .requestTime(rs.getTimestamp("request_time").toLocalDateTime())
+                    .status(EmailStatus.valueOf(rs.getString("status")))
+                    .recipientId(rs.getString("recipient_id"))
+                    .recipientEmail(rs.getString("recipient_email"))
+                    .recipientStatus(RecipientStatus.valueOf(rs.getString("recipient_status")))
+                    .receiveTime(receiveTime != null ? receiveTime.toLocalDateTime() : null)
+                    .failReason(rs.getString("fail_reason"))
+                    .build();
+        }
+    }
+
     /**
      * 이메일 수신자 로우 매퍼 클래스입니다.
      */
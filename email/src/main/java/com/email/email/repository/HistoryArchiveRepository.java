@@ -0,0 +1,95 @@
+package com.email.email.repository;
+
+import com.email.email.domain.HistoryArchive;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+* 발송 이력 아카이브 저장소 인터페이스입니다.
+*/
+public interface HistoryArchiveRepository {
+   
+   /**
+    * 커맨드 DB에 emails 월 파티션이 남아 있는 달 중 cutoff 이전의 달을 오래된 순으로 조회합니다.
+    *
+    * @param cutoff 기준 날짜 (이 날짜가 속한 달 이전)
+    * @return 월 시작 날짜 목록
+    */
+   List<LocalDate> findPartitionMonthsBefore(LocalDate cutoff);
+   
+   /**
+    * 조회 DB에 emails 월 파티션이 남아 있는 달 중 cutoff 이전의 달을 오래된 순으로 조회합니다.
+    * 커맨드 DB 정리 후 파일 등록 전에 중단된 달을 찾는 데 사용합니다.
+    *
+    * @param cutoff 기준 날짜 (이 날짜가 속한 달 이전)
+    * @return 월 시작 날짜 목록
+    */
+   List<LocalDate> findQueryPartitionMonthsBefore(LocalDate cutoff);
+   
+   /**
+    * 한 달 동안 요청된 이메일과 그 수신자를 원본인 커맨드 DB에서 전진 전용 커서로 읽어 행마다 처리기에 넘깁니다.
+    * 행은 발송 이력 순서(요청 시간, 이메일 ID, 수신자 ID 내림차순)로 전달되며, 수신자가 없는 이메일은 수신자 컬럼이 null입니다.
+    *
+    * @param month 월 시작 날짜
+    * @param fetchSize 한 번에 가져올 행 수
+    * @param rowHandler 행 처리기
+    */
+   void streamMonth(LocalDate month, int fetchSize, RowCallbackHandler rowHandler);
+   
+   /**
+    * 한 달 동안 요청된 이메일-수신자 행 수를 커맨드 DB에서 셉니다. {@link #streamMonth}가 넘기는 행 수와 같습니다.
+    *
+    * @param month 월 시작 날짜
+    * @return 행 수
+    */
+   long countMonthRows(LocalDate month);
+   
+   /**
+    * 한 달 동안 요청된 이메일에 조회 DB로 아직 반영되지 않은 변경 로그가 있는지 확인합니다.
+    *
+    * @param month 월 시작 날짜
+    * @return 미반영 변경 존재 여부
+    */
+   boolean hasPendingChanges(LocalDate month);
+   
+   /**
+    * 해당 달의 등록된 아카이브 파일을 조회합니다.
+    *
+    * @param month 월 시작 날짜
+    * @return 아카이브 파일 정보
+    */
+   Optional<HistoryArchive> findArchive(LocalDate month);
+   
+   /**
+    * 아카이브 파일을 등록하고 해당 달의 행을 조회 DB에서 제거합니다.
+    * 등록과 제거는 한 트랜잭션에서 수행하므로 같은 행이 DB와 아카이브에 동시에 보이지 않습니다.
+    * 커맨드 DB에서 해당 달을 제거한 뒤에 호출해야 프로젝터가 제거된 달의 행을 조회 DB에 다시 쓰지 않습니다.
+    *
+    * @param archive 아카이브 파일 정보
+    */
+   void saveArchiveAndPurgeMonth(HistoryArchive archive);
+   
+   /**
+    * 아카이브 파일에 기록한 달의 행을 커맨드 DB에서 제거합니다.
+    * 쓰기를 막는 잠금을 잡은 뒤 행 수가 아카이브 행 수와 같고 미반영 변경이 없는지 다시 확인하며,
+    * 하나라도 어긋나면 아무것도 삭제하지 않고 예외를 던집니다.
+    *
+    * @param month 월 시작 날짜
+    * @param archivedRows 아카이브 파일의 행 수
+    */
+   void purgeCommandMonth(LocalDate month, long archivedRows);
+   
+   /**
+    * 요청 시간 [from, to) 범위와 겹치는 아카이브 파일을 최근 순으로 조회합니다.
+    *
+    * @param from 시작 시각 (포함)
+    * @param to 종료 시각 (제외)
+    * @return 아카이브 파일 목록
+    * @throws com.email.email.exception.EmailRepositoryException 조회에 실패한 경우
+    */
+   List<HistoryArchive> findArchivesOverlapping(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,407 @@
+package com.email.email.repository;
+
+import com.email.email.domain.HistoryArchive;
+import com.email.email.exception.EmailRepositoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 발송 이력 아카이브 저장소 구현 클래스입니다.
+ * 한 달치 행은 월 파티션 단위로 분리 후 삭제하므로 대량 DELETE가 발생하지 않습니다.
+ * 아카이브 원본은 커맨드 DB이며, 조회 DB는 아카이브 파일 목록과 읽기 모델 정리에만 사용합니다.
+ */
+@Slf4j
+@Repository
+public class HistoryArchiveRepositoryImpl implements HistoryArchiveRepository {
+
+    private final JdbcTemplate commandDb;
+    private final JdbcTemplate queryDb;
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String SELECT_PARTITION_MONTHS_SQL =
+            "SELECT to_date(right(c.relname, 6), 'YYYYMM') AS month " +
+                    "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                    "WHERE i.inhparent = 'emails'::regclass AND c.relname ~ '^emails_p[0-9]{6}$' " +
+                    "AND to_date(right(c.relname, 6), 'YYYYMM') < ? " +
+                    "ORDER BY month";
+
+    private static final String MONTH_ROWS_FROM =
+            "FROM emails e LEFT JOIN email_recipients r ON r.email_id = e.id AND r.created_at >= e.request_time " +
+                    "WHERE e.request_time >= ? AND e.request_time < ?";
+
+    // 아카이브 파일은 본문을 포함한 모든 컬럼을 보관합니다.
+    private static final String STREAM_MONTH_SQL =
+            "SELECT e.id AS email_id, e.user_id, e.subject, e.sender_email, e.sender_name, e.content, " +
+                    "e.request_time, e.status, e.created_at AS email_created_at, e.updated_at AS email_updated_at, " +
+                    "r.id AS recipient_id, r.recipient_email, r.status AS recipient_status, r.receive_time, " +
+                    "r.fail_reason, r.created_at AS recipient_created_at, r.updated_at AS recipient_updated_at " +
+                    MONTH_ROWS_FROM + " ORDER BY e.request_time DESC, e.id DESC, r.id DESC";
+
+    private static final String COUNT_MONTH_ROWS_SQL = "SELECT count(*) " + MONTH_ROWS_FROM;
+
+    // 변경 로그는 이메일 ID 단위(entity = 'EMAIL')로 기록됩니다.
+    private static final String PENDING_CHANGES_SQL =
+            "SELECT EXISTS (SELECT 1 FROM email_changes c JOIN emails e ON e.id = c.entity_id " +
+                    "WHERE c.entity = 'EMAIL' AND e.request_time >= ? AND e.request_time < ?)";
+
+    // 아카이브 확인부터 파티션 삭제까지 해당 테이블 쓰기를 막습니다 (읽기는 허용).
+    private static final String LOCK_COMMAND_TABLES_SQL = "LOCK TABLE emails, email_recipients IN SHARE MODE";
+
+    private static final String INSERT_ARCHIVE_SQL =
+            "INSERT INTO email_history_archives (month, storage, location, min_request_time, max_request_time, " +
+                    "row_count, file_size, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_ARCHIVE_COLUMNS =
+            "SELECT month, storage, location, min_request_time, max_request_time, row_count, file_size, created_at " +
+                    "FROM email_history_archives";
+
+    private static final String SELECT_ARCHIVES_OVERLAPPING_SQL = SELECT_ARCHIVE_COLUMNS +
+            " WHERE max_request_time >= ? AND min_request_time < ? ORDER BY max_request_time DESC";
+
+    // 다음 달 파티션에 저장된 이 달 이메일의 수신자를 삭제합니다 (수신자 파티션 키는 created_at).
+    private static final String DELETE_SPILLED_RECIPIENTS_SQL =
+            "DELETE FROM email_recipients r USING emails e " +
+                    "WHERE r.email_id = e.id AND e.request_time >= ? AND e.request_time < ? AND r.created_at >= ?";
+
+    public HistoryArchiveRepositoryImpl(@Qualifier("commandJdbcTemplate") JdbcTemplate commandDb,
+                                        @Qualifier("queryJdbcTemplate") JdbcTemplate queryDb) {
+        this.commandDb = commandDb;
+        this.queryDb = queryDb;
+    }
+
+    /**
+     * 커맨드 DB에 남아 있는 cutoff 이전의 월 파티션을 조회합니다.
+     *
+     * @param cutoff 기준 날짜
+     * @return 월 시작 날짜 목록
+     */
+    @Override
+    public List<LocalDate> findPartitionMonthsBefore(LocalDate cutoff) {
+        try {
+            return commandDb.query(SELECT_PARTITION_MONTHS_SQL,
+                    (rs, rowNum) -> rs.getDate("month").toLocalDate(),
+                    Date.valueOf(cutoff.withDayOfMonth(1)));
+        } catch (Exception e) {
+            log.error("월 파티션 목록 조회 오류: cutoff={}", cutoff, e);
+            throw new EmailRepositoryException("월 파티션 목록 조회 실패", e);
+        }
+    }
+
+    /**
+     * 조회 DB에 남아 있는 cutoff 이전의 월 파티션을 조회합니다.
+     *
+     * @param cutoff 기준 날짜
+     * @return 월 시작 날짜 목록
+     */
+    @Override
+    public List<LocalDate> findQueryPartitionMonthsBefore(LocalDate cutoff) {
+        try {
+            return queryDb.query(SELECT_PARTITION_MONTHS_SQL,
+                    (rs, rowNum) -> rs.getDate("month").toLocalDate(),
+                    Date.valueOf(cutoff.withDayOfMonth(1)));
+        } catch (Exception e) {
+            log.error("조회 DB 월 파티션 목록 조회 오류: cutoff={}", cutoff, e);
+            throw new EmailRepositoryException("조회 DB 월 파티션 목록 조회 실패", e);
+        }
+    }
+
+    /**
+     * 한 달치 이메일과 수신자를 커맨드 DB에서 전진 전용 커서로 읽어 행마다 처리기에 넘깁니다.
+     *
+     * @param month 월 시작 날짜
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param rowHandler 행 처리기
+     */
+    @Override
+    public void streamMonth(LocalDate month, int fetchSize, RowCallbackHandler rowHandler) {
+        try {
+            commandDb.execute((ConnectionCallback<Void>) connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try (PreparedStatement ps = connection.prepareStatement(
+                        STREAM_MONTH_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    ps.setFetchSize(fetchSize);
+                    ps.setTimestamp(1, Timestamp.valueOf(month.atStartOfDay()));
+                    ps.setTimestamp(2, Timestamp.valueOf(month.plusMonths(1).atStartOfDay()));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            rowHandler.processRow(rs);
+                        }
+                    }
+                } finally {
+                    connection.rollback();
+                    connection.setAutoCommit(autoCommit);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("월별 발송 이력 조회 오류: month={}", month, e);
+            throw new EmailRepositoryException("월별 발송 이력 조회 실패", e);
+        }
+    }
+
+    /**
+     * 한 달 동안 요청된 이메일-수신자 행 수를 셉니다.
+     *
+     * @param month 월 시작 날짜
+     * @return 행 수
+     */
+    @Override
+    public long countMonthRows(LocalDate month) {
+        try {
+            Long count = commandDb.queryForObject(COUNT_MONTH_ROWS_SQL, Long.class,
+                    Timestamp.valueOf(month.atStartOfDay()), Timestamp.valueOf(month.plusMonths(1).atStartOfDay()));
+            return count != null ? count : 0;
+        } catch (Exception e) {
+            log.error("월별 발송 이력 행 수 조회 오류: month={}", month, e);
+            throw new EmailRepositoryException("월별 발송 이력 행 수 조회 실패", e);
+        }
+    }
+
+    /**
+     * 한 달 동안 요청된 이메일에 미반영 변경 로그가 있는지 확인합니다.
+     *
+     * @param month 월 시작 날짜
+     * @return 미반영 변경 존재 여부
+     */
+    @Override
+    public boolean hasPendingChanges(LocalDate month) {
+        try {
+            return Boolean.TRUE.equals(commandDb.queryForObject(PENDING_CHANGES_SQL, Boolean.class,
+                    Timestamp.valueOf(month.atStartOfDay()), Timestamp.valueOf(month.plusMonths(1).atStartOfDay())));
+        } catch (Exception e) {
+            log.error("월별 미반영 변경 조회 오류: month={}", month, e);
+            throw new EmailRepositoryException("월별 미반영 변경 조회 실패", e);
+        }
+    }
+
+    /**
+     * 해당 달의 등록된 아카이브 파일을 조회합니다.
+     *
+     * @param month 월 시작 날짜
+     * @return 아카이브 파일 정보
+     */
+    @Override
+    public Optional<HistoryArchive> findArchive(LocalDate month) {
+        try {
+            return queryDb.query(SELECT_ARCHIVE_COLUMNS + " WHERE month = ?", new HistoryArchiveRowMapper(),
+                    Date.valueOf(month)).stream().findFirst();
+        } catch (Exception e) {
+            log.error("발송 이력 아카이브 조회 오류: month={}", month, e);
+            throw new EmailRepositoryException("발송 이력 아카이브 조회 실패", e);
+        }
+    }
+
+    /**
+     * 아카이브 파일을 등록하고 조회 DB에서 해당 달의 행을 제거합니다.
+     *
+     * @param archive 아카이브 파일 정보
+     */
+    @Override
+    public void saveArchiveAndPurgeMonth(HistoryArchive archive) {
+        try {
+            queryDb.execute((ConnectionCallback<Void>) connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    try (PreparedStatement ps = connection.prepareStatement(INSERT_ARCHIVE_SQL)) {
+                        ps.setDate(1, Date.valueOf(archive.getMonth()));
+                        ps.setString(2, archive.getStorage());
+                        ps.setString(3, archive.getLocation());
+                        ps.setTimestamp(4, toTimestamp(archive.getMinRequestTime()));
+                        ps.setTimestamp(5, toTimestamp(archive.getMaxRequestTime()));
+                        ps.setLong(6, archive.getRowCount());
+                        ps.setLong(7, archive.getFileSize());
+                        ps.setTimestamp(8, Timestamp.valueOf(archive.getCreatedAt()));
+                        ps.executeUpdate();
+                    }
+                    purgeMonth(connection, archive.getMonth());
+                    connection.commit();
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+                return null;
+            });
+            log.info("발송 이력 아카이브 등록 및 조회 DB 정리 완료: month={}", archive.getMonth());
+        } catch (Exception e) {
+            log.error("발송 이력 아카이브 등록 오류: month={}", archive.getMonth(), e);
+            throw new EmailRepositoryException("발송 이력 아카이브 등록 실패", e);
+        }
+    }
+
+    /**
+     * 아카이브된 달의 행을 커맨드 DB에서 제거합니다.
+     * 쓰기를 막은 상태에서 행 수와 미반영 변경을 다시 확인하므로, 확인 이후 들어온 행이 함께 삭제되지 않습니다.
+     *
+     * @param month 월 시작 날짜
+     * @param archivedRows 아카이브 파일의 행 수
+     */
+    @Override
+    public void purgeCommandMonth(LocalDate month, long archivedRows) {
+        Timestamp monthStart = Timestamp.valueOf(month.atStartOfDay());
+        Timestamp nextMonthStart = Timestamp.valueOf(month.plusMonths(1).atStartOfDay());
+
+        try {
+            commandDb.execute((ConnectionCallback<Void>) connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute(LOCK_COMMAND_TABLES_SQL);
+                    }
+
+                    long commandRows = queryForLong(connection, COUNT_MONTH_ROWS_SQL, monthStart, nextMonthStart);
+                    if (commandRows != archivedRows) {
+                        throw new IllegalStateException(String.format(
+                                "커맨드 DB 행 수(%d)가 아카이브 행 수(%d)와 다릅니다: month=%s", commandRows, archivedRows, month));
+                    }
+                    if (queryForBoolean(connection, PENDING_CHANGES_SQL, monthStart, nextMonthStart)) {
+                        throw new IllegalStateException("조회 DB에 반영되지 않은 변경이 있습니다: month=" + month);
+                    }
+
+                    purgeMonth(connection, month);
+                    connection.commit();
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+                return null;
+            });
+            log.info("커맨드 DB 월 파티션 정리 완료: month={}", month);
+        } catch (Exception e) {
+            log.error("커맨드 DB 월 파티션 정리 오류: month={}", month, e);
+            throw new EmailRepositoryException("커맨드 DB 월 파티션 정리 실패", e);
+        }
+    }
+
+    /**
+     * 요청 시간 범위와 겹치는 아카이브 파일을 조회합니다.
+     *
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     * @return 아카이브 파일 목록
+     */
+    @Override
+    public List<HistoryArchive> findArchivesOverlapping(LocalDateTime from, LocalDateTime to) {
+        try {
+            return queryDb.query(SELECT_ARCHIVES_OVERLAPPING_SQL, new HistoryArchiveRowMapper(), from, to);
+        } catch (Exception e) {
+            // 빈 목록을 돌려주면 아카이브된 달이 조회 결과에서 조용히 빠집니다.
+            log.error("발송 이력 아카이브 조회 오류: from={}, to={}", from, to, e);
+            throw new EmailRepositoryException("발송 이력 아카이브 조회 실패", e);
+        }
+    }
+
+    /**
+     * 한 달치 행을 제거합니다. 다음 달 파티션에 들어간 수신자를 먼저 지우고,
+     * 이메일과 수신자의 해당 월 파티션을 분리 후 삭제합니다.
+     *
+     * @param connection 트랜잭션 중인 연결
+     * @param month 월 시작 날짜
+     */
+    private static void purgeMonth(Connection connection, LocalDate month) throws SQLException {
+        Timestamp monthStart = Timestamp.valueOf(month.atStartOfDay());
+        Timestamp nextMonthStart = Timestamp.valueOf(month.plusMonths(1).atStartOfDay());
+
+        try (PreparedStatement ps = connection.prepareStatement(DELETE_SPILLED_RECIPIENTS_SQL)) {
+            ps.setTimestamp(1, monthStart);
+            ps.setTimestamp(2, nextMonthStart);
+            ps.setTimestamp(3, nextMonthStart);
+            ps.executeUpdate();
+        }
+
+        // 파티션 이름은 날짜로만 만들므로 SQL에 직접 넣어도 안전합니다.
+        String suffix = month.format(PARTITION_SUFFIX);
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("email_history_view", "email_recipients", "emails")) {
+                String partition = table + "_p" + suffix;
+                if (!partitionExists(connection, partition)) {
+                    continue;
+                }
+                statement.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                statement.execute("DROP TABLE " + partition);
+            }
+        }
+    }
+
+    private static boolean partitionExists(Connection connection, String partition) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            ps.setString(1, partition);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static long queryForLong(Connection connection, String sql, Timestamp from, Timestamp to)
+            throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setTimestamp(1, from);
+            ps.setTimestamp(2, to);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    private static boolean queryForBoolean(Connection connection, String sql, Timestamp from, Timestamp to)
+            throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setTimestamp(1, from);
+            ps.setTimestamp(2, to);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    /**
+     * 아카이브 파일 행 매퍼 클래스입니다.
+     */
+    private static class HistoryArchiveRowMapper implements RowMapper<HistoryArchive> {
+        @Override
+        public HistoryArchive mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Timestamp minRequestTime = rs.getTimestamp("min_request_time");
+            Timestamp maxRequestTime = rs.getTimestamp("max_request_time");
+
+            return HistoryArchive.builder()
+                    .month(rs.getDate("month").toLocalDate())
+                    .storage(rs.getString("storage"))
+                    .location(rs.getString("location"))
+                    .minRequestTime(minRequestTime != null ? minRequestTime.toLocalDateTime() : null)
+                    .maxRequestTime(maxRequestTime != null ? maxRequestTime.toLocalDateTime() : null)
+                    .rowCount(rs.getLong("row_count"))
+                    .fileSize(rs.getLong("file_size"))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.email.email.repository;
+
+import com.email.email.domain.HistoryExportJob;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+* 발송 이력 내보내기 작업 저장소 인터페이스입니다.
+*/
+public interface HistoryExportJobRepository {
+   
+   /**
+    * 새 내보내기 작업을 QUEUED 상태로 저장합니다.
+    *
+    * @param job 내보내기 작업
+    */
+   void insert(HistoryExportJob job);
+   
+   /**
+    * 내보내기 작업을 조회합니다.
+    *
+    * @param id 작업 ID
+    * @return 내보내기 작업
+    */
+   Optional<HistoryExportJob> findById(String id);
+   
+   /**
+    * 작업을 RUNNING으로 변경합니다.
+    *
+    * @param id 작업 ID
+    */
+   void markRunning(String id);
+   
+   /**
+    * 실행 중인 작업의 진행 행 수와 갱신 시각을 기록합니다.
+    *
+    * @param id 작업 ID
+    * @param rowCount 기록한 행 수
+    */
+   void updateProgress(String id, long rowCount);
+   
+   /**
+    * 작업을 COMPLETED로 변경합니다.
+    *
+    * @param id 작업 ID
+    * @param rowCount 기록한 행 수
+    * @param localPath 로컬 파일 경로 (Blob 저장 시 null)
+    * @param blobName Blob 이름 (로컬 저장 시 null)
+    */
+   void markCompleted(String id, long rowCount, String localPath, String blobName);
+   
+   /**
+    * 작업을 FAILED로 변경합니다.
+    *
+    * @param id 작업 ID
+    * @param rowCount 기록한 행 수
+    * @param errorMessage 실패 사유
+    */
+   void markFailed(String id, long rowCount, String errorMessage);
+   
+   /**
+    * 작업을 삭제합니다.
+    *
+    * @param id 작업 ID
+    */
+   void deleteById(String id);
+   
+   /**
+    * 갱신이 끊긴 QUEUED/RUNNING 작업을 FAILED로 변경합니다.
+    *
+    * @param updatedBefore 기준 시각
+    * @param errorMessage 실패 사유
+    * @return 변경된 행 수
+    */
+   int failStaleJobs(LocalDateTime updatedBefore, String errorMessage);
+   
+   /**
+    * 보관 기간이 지난 완료/실패 작업을 삭제합니다.
+    *
+    * @param completedBefore 기준 시각
+    * @return 삭제된 행 수
+    */
+   int deleteFinishedBefore(LocalDateTime completedBefore);
+}
@@ -0,0 +1,216 @@
+package com.email.email.repository;
+
+import com.email.email.domain.ExportFormat;
+import com.email.email.domain.ExportJobStatus;
+import com.email.email.domain.HistoryExportJob;
+import com.email.email.exception.EmailRepositoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 발송 이력 내보내기 작업 저장소 구현 클래스입니다.
+ */
+@Slf4j
+@Repository
+public class HistoryExportJobRepositoryImpl implements HistoryExportJobRepository {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final JdbcTemplate commandDb;
+
+    private static final String INSERT_JOB_SQL =
+            "INSERT INTO history_export_jobs (id, format, status, row_count, owner, requested_time, updated_at) " +
+                    "VALUES (?, ?, ?, 0, ?, ?, ?)";
+
+    private static final String SELECT_JOB_SQL =
+            "SELECT id, format, status, row_count, owner, local_path, blob_name, error_message, " +
+                    "requested_time, completed_time FROM history_export_jobs WHERE id = ?";
+
+    private static final String FAIL_STALE_JOBS_SQL =
+            "UPDATE history_export_jobs SET status = 'FAILED', error_message = ?, completed_time = ?, updated_at = ? " +
+                    "WHERE status IN ('QUEUED', 'RUNNING') AND updated_at < ?";
+
+    public HistoryExportJobRepositoryImpl(@Qualifier("commandJdbcTemplate") JdbcTemplate commandDb) {
+        this.commandDb = commandDb;
+    }
+
+    /**
+     * 새 내보내기 작업을 QUEUED 상태로 저장합니다.
+     *
+     * @param job 내보내기 작업
+     */
+    @Override
+    public void insert(HistoryExportJob job) {
+        try {
+            commandDb.update(INSERT_JOB_SQL, job.getId(), job.getFormat().name(), ExportJobStatus.QUEUED.name(),
+                    job.getOwner(), job.getRequestedTime(), LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("내보내기 작업 저장 오류: jobId={}", job.getId(), e);
+            throw new EmailRepositoryException("내보내기 작업 저장 실패", e);
+        }
+    }
+
+    /**
+     * 내보내기 작업을 조회합니다.
+     *
+     * @param id 작업 ID
+     * @return 내보내기 작업
+     */
+    @Override
+    public Optional<HistoryExportJob> findById(String id) {
+        try {
+            List<HistoryExportJob> jobs = commandDb.query(SELECT_JOB_SQL, new HistoryExportJobRowMapper(), id);
+            return jobs.stream().findFirst();
+        } catch (Exception e) {
+            log.error("내보내기 작업 조회 오류: jobId={}", id, e);
+            throw new EmailRepositoryException("내보내기 작업 조회 실패", e);
+        }
+    }
+
+    /**
+     * 작업을 RUNNING으로 변경합니다.
+     *
+     * @param id 작업 ID
+     */
+    @Override
+    public void markRunning(String id) {
+        update("UPDATE history_export_jobs SET status = 'RUNNING', updated_at = ? WHERE id = ?",
+                id, LocalDateTime.now(), id);
+    }
+
+    /**
+     * 실행 중인 작업의 진행 행 수와 갱신 시각을 기록합니다.
+     *
+     * @param id 작업 ID
+     * @param rowCount 기록한 행 수
+     */
+    @Override
+    public void updateProgress(String id, long rowCount) {
+        update("UPDATE history_export_jobs SET row_count = ?, updated_at = ? " +
+                        "WHERE id = ? AND status IN ('QUEUED', 'RUNNING')",
+                id, rowCount, LocalDateTime.now(), id);
+    }
+
+    /**
+     * 작업을 COMPLETED로 변경합니다.
+     *
+     * @param id 작업 ID
+     * @param rowCount 기록한 행 수
+     * @param localPath 로컬 파일 경로 (Blob 저장 시 null)
+     * @param blobName Blob 이름 (로컬 저장 시 null)
+     */
+    @Override
+    public void markCompleted(String id, long rowCount, String localPath, String blobName) {
+        LocalDateTime now = LocalDateTime.now();
+        update("UPDATE history_export_jobs SET status = 'COMPLETED', row_count = ?, local_path = ?, blob_name = ?, " +
+                        "completed_time = ?, updated_at = ? WHERE id = ?",
+                id, rowCount, localPath, blobName, now, now, id);
+    }
+
+    /**
+     * 작업을 FAILED로 변경합니다.
+     *
+     * @param id 작업 ID
+     * @param rowCount 기록한 행 수
+     * @param errorMessage 실패 사유
+     */
+    @Override
+    public void markFailed(String id, long rowCount, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        update("UPDATE history_export_jobs SET status = 'FAILED', row_count = ?, error_message = ?, " +
+                        "completed_time = ?, updated_at = ? WHERE id = ?",
+                id, rowCount, truncate(errorMessage), now, now, id);
+    }
+
+    /**
+     * 작업을 삭제합니다.
+     *
+     * @param id 작업 ID
+     */
+    @Override
+    public void deleteById(String id) {
+        update("DELETE FROM history_export_jobs WHERE id = ?", id, id);
+    }
+
+    /**
+     * 갱신이 끊긴 QUEUED/RUNNING 작업을 FAILED로 변경합니다.
+     *
+     * @param updatedBefore 기준 시각
+     * @param errorMessage 실패 사유
+     * @return 변경된 행 수
+     */
+    @Override
+    public int failStaleJobs(LocalDateTime updatedBefore, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return commandDb.update(FAIL_STALE_JOBS_SQL, truncate(errorMessage), now, now, updatedBefore);
+        } catch (Exception e) {
+            log.error("중단된 내보내기 작업 정리 오류: updatedBefore={}", updatedBefore, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료/실패 작업을 삭제합니다.
+     *
+     * @param completedBefore 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Override
+    public int deleteFinishedBefore(LocalDateTime completedBefore) {
+        try {
+            return commandDb.update("DELETE FROM history_export_jobs WHERE completed_time < ?", completedBefore);
+        } catch (Exception e) {
+            log.error("만료된 내보내기 작업 삭제 오류: completedBefore={}", completedBefore, e);
+            return 0;
+        }
+    }
+
+    private void update(String sql, String id, Object... params) {
+        try {
+            commandDb.update(sql, params);
+        } catch (Exception e) {
+            log.error("내보내기 작업 상태 변경 오류: jobId={}", id, e);
+            throw new EmailRepositoryException("내보내기 작업 상태 변경 실패", e);
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+
+    /**
+     * 내보내기 작업 로우 매퍼 클래스입니다.
+     */
+    private static class HistoryExportJobRowMapper implements RowMapper<HistoryExportJob> {
+        @Override
+        public HistoryExportJob mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Timestamp completedTime = rs.getTimestamp("completed_time");
+            return HistoryExportJob.builder()
+                    .id(rs.getString("id"))
+                    .format(ExportFormat.valueOf(rs.getString("format")))
+                    .status(ExportJobStatus.valueOf(rs.getString("status")))
+                    .rowCount(rs.getLong("row_count"))
+                    .owner(rs.getString("owner"))
+                    .localPath(rs.getString("local_path"))
+                    .blobName(rs.getString("blob_name"))
+                    .errorMessage(rs.getString("error_message"))
+                    .requestedTime(rs.getTimestamp("requested_time").toLocalDateTime())
+                    .completedTime(completedTime != null ? completedTime.toLocalDateTime() : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.email.email.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+* 월 단위 범위 파티션 테이블(emails, email_recipients)의 파티션 관리 저장소 인터페이스입니다.
+* 커맨드 DB와 조회 DB에 같은 작업을 적용합니다.
+*/
+public interface PartitionRepository {
+   
+   /**
+    * 두 데이터베이스의 파티션 테이블에 fromMonth부터 toMonth가 속한 달까지의 월 파티션을 만듭니다.
+    * 이미 있는 파티션은 건너뜁니다.
+    *
+    * @param fromMonth 시작 월에 속한 날짜
+    * @param toMonth 마지막 월에 속한 날짜
+    * @return 새로 만든 파티션 이름 목록
+    */
+   List<String> ensureMonthlyPartitions(LocalDate fromMonth, LocalDate toMonth);
+   
+   /**
+    * 두 데이터베이스의 파티션 테이블에서 cutoff 이전에 끝나는 월 파티션을 분리 후 삭제합니다.
+    *
+    * @param cutoff 기준 날짜 (이 날짜 이전에 끝나는 파티션을 삭제)
+    * @return 삭제한 파티션 이름 목록
+    */
+   List<String> dropMonthlyPartitionsBefore(LocalDate cutoff);
+}
@@ -0,0 +1,96 @@
+package com.email.email.repository;
+
+import com.email.email.exception.EmailRepositoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 월 단위 범위 파티션 관리 저장소 구현 클래스입니다.
+ * 파티션 생성과 삭제는 마이그레이션(V3, V8)에서 정의한 함수가 수행하며,
+ * 함수 안에서 테이블별 advisory lock을 잡으므로 여러 인스턴스가 동시에 호출해도 안전합니다.
+ * 파티션이 없던 동안 DEFAULT 파티션에 들어온 해당 월의 행은 파티션을 만들 때 새 파티션으로 옮깁니다.
+ */
+@Slf4j
+@Repository
+public class PartitionRepositoryImpl implements PartitionRepository {
+
+    private final JdbcTemplate commandDb;
+    private final JdbcTemplate queryDb;
+
+    // 월 단위 범위 파티션 테이블 (emails: request_time, email_recipients: created_at)
+    private static final List<String> PARTITIONED_TABLES = List.of("emails", "email_recipients");
+
+    // 조회 DB에만 있는 월 단위 범위 파티션 테이블 (email_history_view: request_time)
+    private static final List<String> QUERY_PARTITIONED_TABLES = List.of("email_history_view");
+
+    private static final String ENSURE_PARTITIONS_SQL = "SELECT * FROM ensure_monthly_partitions(?, ?, ?)";
+
+    private static final String DROP_PARTITIONS_SQL = "SELECT * FROM drop_monthly_partitions_before(?, ?)";
+
+    public PartitionRepositoryImpl(@Qualifier("commandJdbcTemplate") JdbcTemplate commandDb,
+                                   @Qualifier("queryJdbcTemplate") JdbcTemplate queryDb) {
+        this.commandDb = commandDb;
+        this.queryDb = queryDb;
+    }
+
+    /**
+     * 두 데이터베이스의 파티션 테이블에 월 파티션을 만듭니다.
+     *
+     * @param fromMonth 시작 월에 속한 날짜
+     * @param toMonth 마지막 월에 속한 날짜
+     * @return 새로 만든 파티션 이름 목록
+     */
+    @Override
+    public List<String> ensureMonthlyPartitions(LocalDate fromMonth, LocalDate toMonth) {
+        List<String> created = new ArrayList<>();
+
+        try {
+            for (String table : PARTITIONED_TABLES) {
+                created.addAll(commandDb.queryForList(ENSURE_PARTITIONS_SQL, String.class,
+                        table, Date.valueOf(fromMonth), Date.valueOf(toMonth)));
+                created.addAll(queryDb.queryForList(ENSURE_PARTITIONS_SQL, String.class,
+                        table, Date.valueOf(fromMonth), Date.valueOf(toMonth)));
+            }
+            for (String table : QUERY_PARTITIONED_TABLES) {
+                created.addAll(queryDb.queryForList(ENSURE_PARTITIONS_SQL, String.class,
+                        table, Date.valueOf(fromMonth), Date.valueOf(toMonth)));
+            }
+            return created;
+        } catch (Exception e) {
+            log.error("월 파티션 생성 오류: fromMonth={}, toMonth={}", fromMonth, toMonth, e);
+            throw new EmailRepositoryException("월 파티션 생성 실패", e);
+        }
+    }
+
+    /**
+     * 두 데이터베이스의 파티션 테이블에서 기준 날짜 이전에 끝나는 월 파티션을 삭제합니다.
+     *
+     * @param cutoff 기준 날짜
+     * @return 삭제한 파티션 이름 목록
+     */
+    @Override
+    public List<String> dropMonthlyPartitionsBefore(LocalDate cutoff) {
+        List<String> dropped = new ArrayList<>();
+
+        try {
+            for (String table : PARTITIONED_TABLES) {
+                dropped.addAll(commandDb.queryForList(DROP_PARTITIONS_SQL, String.class, table, Date.valueOf(cutoff)));
+                dropped.addAll(queryDb.queryForList(DROP_PARTITIONS_SQL, String.class, table, Date.valueOf(cutoff)));
+            }
+            for (String table : QUERY_PARTITIONED_TABLES) {
+                dropped.addAll(queryDb.queryForList(DROP_PARTITIONS_SQL, String.class, table, Date.valueOf(cutoff)));
+            }
+            return dropped;
+        } catch (Exception e) {
+            log.error("월 파티션 삭제 오류: cutoff={}", cutoff, e);
+            throw new EmailRepositoryException("월 파티션 삭제 실패", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.email.email.repository;
+
+import com.email.email.domain.RecipientUpload;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+* 수신자 대량 업로드 진행 상황 저장소 인터페이스입니다.
+*/
+public interface RecipientUploadRepository {
+   
+   /**
+    * 이메일의 업로드를 IN_PROGRESS로 시작합니다.
+    * 같은 이메일의 업로드가 진행 중이면 시작하지 않으며, 갱신이 끊긴 업로드와 끝난 업로드는 새 업로드로 덮어씁니다.
+    *
+    * @param emailId 이메일 ID
+    * @param staleBefore 이 시각 이전에 갱신이 멈춘 진행 중 업로드는 중단된 것으로 봅니다
+    * @return 시작했으면 true, 다른 업로드가 진행 중이면 false
+    */
+   boolean start(String emailId, LocalDateTime staleBefore);
+   
+   /**
+    * 진행 중인 업로드의 처리 건수와 갱신 시각을 기록합니다.
+    *
+    * @param emailId 이메일 ID
+    * @param acceptedCount 적재한 수신자 수
+    * @param rejectedCount 제외한 행 수
+    * @param rejectedSamples 제외한 행 예시
+    */
+   void updateProgress(String emailId, long acceptedCount, long rejectedCount, List<String> rejectedSamples);
+   
+   /**
+    * 업로드를 COMPLETED로 변경합니다.
+    *
+    * @param emailId 이메일 ID
+    * @param acceptedCount 적재한 수신자 수
+    * @param rejectedCount 제외한 행 수
+    * @param rejectedSamples 제외한 행 예시
+    */
+   void markCompleted(String emailId, long acceptedCount, long rejectedCount, List<String> rejectedSamples);
+   
+   /**
+    * 업로드를 FAILED로 변경합니다.
+    *
+    * @param emailId 이메일 ID
+    * @param acceptedCount 실패 전까지 읽은 수신자 수
+    * @param rejectedCount 제외한 행 수
+    * @param rejectedSamples 제외한 행 예시
+    * @param errorMessage 실패 사유
+    */
+   void markFailed(String emailId, long acceptedCount, long rejectedCount, List<String> rejectedSamples,
+                   String errorMessage);
+   
+   /**
+    * 이메일의 최근 업로드 진행 상황을 조회합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 업로드 진행 상황
+    */
+   Optional<RecipientUpload> findByEmailId(String emailId);
+}
@@ -0,0 +1,182 @@
+package com.email.email.repository;
+
+import com.email.email.domain.RecipientUpload;
+import com.email.email.domain.RecipientUploadStatus;
+import com.email.email.exception.EmailRepositoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 수신자 대량 업로드 진행 상황 저장소 구현 클래스입니다.
+ */
+@Slf4j
+@Repository
+public class RecipientUploadRepositoryImpl implements RecipientUploadRepository {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+    // 제외한 행 예시는 줄바꿈으로 구분해 한 컬럼에 저장합니다 (예시 자체에는 줄바꿈이 없습니다).
+    private static final String SAMPLE_SEPARATOR = "\n";
+
+    private final JdbcTemplate commandDb;
+
+    // 진행 중인 업로드가 있으면 갱신이 끊긴 경우에만 이어받습니다.
+    private static final String START_UPLOAD_SQL =
+            "INSERT INTO recipient_uploads (email_id, status, accepted_count, rejected_count, started_time, updated_at) " +
+                    "VALUES (?, 'IN_PROGRESS', 0, 0, ?, ?) " +
+                    "ON CONFLICT (email_id) DO UPDATE SET status = 'IN_PROGRESS', accepted_count = 0, rejected_count = 0, " +
+                    "rejected_samples = NULL, error_message = NULL, started_time = EXCLUDED.started_time, " +
+                    "updated_at = EXCLUDED.updated_at, completed_time = NULL " +
+                    "WHERE recipient_uploads.status <> 'IN_PROGRESS' OR recipient_uploads.updated_at < ?";
+
+    private static final String UPDATE_PROGRESS_SQL =
+            "UPDATE recipient_uploads SET accepted_count = ?, rejected_count = ?, rejected_samples = ?, updated_at = ? " +
+                    "WHERE email_id = ? AND status = 'IN_PROGRESS'";
+
+    private static final String FINISH_UPLOAD_SQL =
+            "UPDATE recipient_uploads SET status = ?, accepted_count = ?, rejected_count = ?, rejected_samples = ?, " +
+                    "error_message = ?, completed_time = ?, updated_at = ? WHERE email_id = ?";
+
+    private static final String SELECT_UPLOAD_SQL =
+            "SELECT email_id, status, accepted_count, rejected_count, rejected_samples, error_message, " +
+                    "started_time, completed_time FROM recipient_uploads WHERE email_id = ?";
+
+    public RecipientUploadRepositoryImpl(@Qualifier("commandJdbcTemplate") JdbcTemplate commandDb) {
+        this.commandDb = commandDb;
+    }
+
+    /**
+     * 이메일의 업로드를 IN_PROGRESS로 시작합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param staleBefore 이 시각 이전에 갱신이 멈춘 진행 중 업로드는 중단된 것으로 봅니다
+     * @return 시작했으면 true, 다른 업로드가 진행 중이면 false
+     */
+    @Override
+    public boolean start(String emailId, LocalDateTime staleBefore) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return commandDb.update(START_UPLOAD_SQL, emailId, now, now, staleBefore) > 0;
+        } catch (Exception e) {
+            log.error("수신자 업로드 시작 기록 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("수신자 업로드 시작 기록 실패", e);
+        }
+    }
+
+    /**
+     * 진행 중인 업로드의 처리 건수와 갱신 시각을 기록합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param acceptedCount 적재한 수신자 수
+     * @param rejectedCount 제외한 행 수
+     * @param rejectedSamples 제외한 행 예시
+     */
+    @Override
+    public void updateProgress(String emailId, long acceptedCount, long rejectedCount, List<String> rejectedSamples) {
+        update(UPDATE_PROGRESS_SQL, emailId,
+                acceptedCount, rejectedCount, joinSamples(rejectedSamples), LocalDateTime.now(), emailId);
+    }
+
+    /**
+     * 업로드를 COMPLETED로 변경합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param acceptedCount 적재한 수신자 수
+     * @param rejectedCount 제외한 행 수
+     * @param rejectedSamples 제외한 행 예시
+     */
+    @Override
+    public void markCompleted(String emailId, long acceptedCount, long rejectedCount, List<String> rejectedSamples) {
+        finish(emailId, RecipientUploadStatus.COMPLETED, acceptedCount, rejectedCount, rejectedSamples, null);
+    }
+
+    /**
+     * 업로드를 FAILED로 변경합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param acceptedCount 실패 전까지 읽은 수신자 수
+     * @param rejectedCount 제외한 행 수
+     * @param rejectedSamples 제외한 행 예시
+     * @param errorMessage 실패 사유
+     */
+    @Override
+    public void markFailed(String emailId, long acceptedCount, long rejectedCount, List<String> rejectedSamples,
+                           String errorMessage) {
+        finish(emailId, RecipientUploadStatus.FAILED, acceptedCount, rejectedCount, rejectedSamples,
+                truncate(errorMessage));
+    }
+
+    /**
+     * 이메일의 최근 업로드 진행 상황을 조회합니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 업로드 진행 상황
+     */
+    @Override
+    public Optional<RecipientUpload> findByEmailId(String emailId) {
+        try {
+            List<RecipientUpload> uploads = commandDb.query(SELECT_UPLOAD_SQL, new RecipientUploadRowMapper(), emailId);
+            return uploads.stream().findFirst();
+        } catch (Exception e) {
+            log.error("수신자 업로드 진행 상황 조회 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("수신자 업로드 진행 상황 조회 실패", e);
+        }
+    }
+
+    private void finish(String emailId, RecipientUploadStatus status, long acceptedCount, long rejectedCount,
+                        List<String> rejectedSamples, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        update(FINISH_UPLOAD_SQL, emailId, status.name(), acceptedCount, rejectedCount,
+                joinSamples(rejectedSamples), errorMessage, now, now, emailId);
+    }
+
+    private void update(String sql, String emailId, Object... params) {
+        try {
+            commandDb.update(sql, params);
+        } catch (Exception e) {
+            log.error("수신자 업로드 진행 상황 기록 오류: emailId={}", emailId, e);
+            throw new EmailRepositoryException("수신자 업로드 진행 상황 기록 실패", e);
+        }
+    }
+
+    private static String joinSamples(List<String> samples) {
+        return samples == null || samples.isEmpty() ? null : String.join(SAMPLE_SEPARATOR, samples);
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+
+    /**
+     * 수신자 업로드 로우 매퍼 클래스입니다.
+     */
+    private static class RecipientUploadRowMapper implements RowMapper<RecipientUpload> {
+        @Override
+        public RecipientUpload mapRow(ResultSet rs, int rowNum) throws SQLException {
+            String samples = rs.getString("rejected_samples");
+            Timestamp completedTime = rs.getTimestamp("completed_time");
+            return RecipientUpload.builder()
+                    .emailId(rs.getString("email_id"))
+                    .status(RecipientUploadStatus.valueOf(rs.getString("status")))
+                    .acceptedCount(rs.getLong("accepted_count"))
+                    .rejectedCount(rs.getLong("rejected_count"))
+                    .rejectedSamples(samples != null ? List.of(samples.split(SAMPLE_SEPARATOR)) : List.of())
+                    .errorMessage(rs.getString("error_message"))
+                    .startedTime(rs.getTimestamp("started_time").toLocalDateTime())
+                    .completedTime(completedTime != null ? completedTime.toLocalDateTime() : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.email.email.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측된 응답 시간으로 동시 요청 한도를 조정하는 적응형 동시성 제한기입니다.
+ * 장기 평균 응답 시간 대비 단기 응답 시간의 비율(gradient)로 한도를 줄이고,
+ * 지연이 늘지 않는 동안에는 sqrt(limit)만큼 여유를 두어 한도를 늘립니다.
+ * 요청이 실패하면 한도를 곱셈 비율로 줄입니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW = 10.0;
+    private static final double LONG_WINDOW = 600.0;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 안에서 요청 슬롯을 획득합니다.
+     *
+     * @return 획득 성공 여부
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 결과를 기록하지 않고 슬롯만 반환합니다.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 성공한 요청의 응답 시간을 반영하고 슬롯을 반환합니다.
+     *
+     * @param rttNanos 응답 시간(나노초)
+     */
+    public void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion);
+    }
+
+    /**
+     * 실패한 요청을 반영하여 한도를 줄이고 슬롯을 반환합니다.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        }
+    }
+
+    /**
+     * 현재 동시 요청 한도를 반환합니다.
+     *
+     * @return 동시 요청 한도
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 현재 처리 중인 요청 수를 반환합니다.
+     *
+     * @return 처리 중인 요청 수
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        if (shortRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+
+        shortRttNanos += (rttNanos - shortRttNanos) / SHORT_WINDOW;
+        longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+
+        // 지연이 크게 개선되면 장기 평균이 따라오도록 빠르게 낮춥니다.
+        if (longRttNanos / shortRttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        // 한도의 절반도 사용하지 않는 동안에는 한도를 늘리지 않습니다.
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
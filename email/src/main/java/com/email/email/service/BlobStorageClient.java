@@ -12,6 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 
@@ -87,6 +89,69 @@ public class BlobStorageClient {
        return new SasTokenInfo(sasToken, blobUrl);
    }
    
+   /**
+    * 로컬 파일을 지정한 컨테이너의 Blob으로 업로드합니다.
+    *
+    * @param container 컨테이너 이름
+    * @param blobName Blob 이름
+    * @param file 업로드할 파일
+    */
+   public void uploadFile(String container, String blobName, Path file) {
+       log.info("Blob 파일 업로드: container={}, blobName={}", container, blobName);
+       
+       BlobContainerClient containerClient = new BlobServiceClientBuilder()
+               .connectionString(connectionString)
+               .buildClient()
+               .getBlobContainerClient(container);
+       
+       // 컨테이너가 존재하지 않으면 생성
+       if (!containerClient.exists()) {
+           log.info("컨테이너 생성: containerName={}", container);
+           containerClient.create();
+       }
+       
+       containerClient.getBlobClient(blobName).uploadFromFile(file.toString(), true);
+   }
+   
+   /**
+    * 지정한 컨테이너의 Blob을 로컬 파일로 내려받습니다.
+    *
+    * @param container 컨테이너 이름
+    * @param blobName Blob 이름
+    * @param file 저장할 파일
+    */
+   public void downloadFile(String container, String blobName, Path file) {
+       log.info("Blob 파일 다운로드: container={}, blobName={}", container, blobName);
+       
+       new BlobServiceClientBuilder()
+               .connectionString(connectionString)
+               .buildClient()
+               .getBlobContainerClient(container)
+               .getBlobClient(blobName)
+               .downloadToFile(file.toString(), true);
+   }
+   
+   /**
+    * 지정한 컨테이너의 Blob에 대한 읽기 전용 SAS URL을 생성합니다.
+    *
+    * @param container 컨테이너 이름
+    * @param blobName Blob 이름
+    * @param validity 유효 기간
+    * @return SAS 토큰이 포함된 Blob URL
+    */
+   public String generateReadUrl(String container, String blobName, Duration validity) {
+       BlobClient blobClient = new BlobServiceClientBuilder()
+               .connectionString(connectionString)
+               .buildClient()
+               .getBlobContainerClient(container)
+               .getBlobClient(blobName);
+       
+       BlobServiceSasSignatureValues sasSignatureValues = new BlobServiceSasSignatureValues(
+               OffsetDateTime.now().plus(validity), new BlobSasPermission().setReadPermission(true));
+       
+       return blobClient.getBlobUrl() + "?" + blobClient.generateSas(sasSignatureValues);
+   }
+   
    /**
     * Blob URL을 반환합니다.
     *
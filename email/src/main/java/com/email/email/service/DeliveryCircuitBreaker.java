@@ -0,0 +1,133 @@
+package com.email.email.service;
+
+/**
+ * 최근 호출 결과의 실패율로 발송 요청을 차단하는 회로 차단기입니다.
+ * 실패율이 기준을 넘으면 OPEN 상태로 전환되어 일정 시간 요청을 거절하고,
+ * 이후 HALF_OPEN 상태에서 제한된 시험 요청이 모두 성공하면 다시 CLOSED로 돌아갑니다.
+ */
+public class DeliveryCircuitBreaker {
+
+    /**
+     * 회로 차단기 상태입니다.
+     */
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public DeliveryCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                                  long openDurationMillis, int halfOpenCalls) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * 요청 허용 여부를 판단합니다.
+     *
+     * @return 허용 여부
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * 성공한 호출을 기록합니다.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                reset(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * 실패한 호출을 기록합니다.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && (double) failures / recorded * 100 >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 현재 상태를 반환합니다.
+     *
+     * @return 회로 차단기 상태
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == window.length) {
+            if (window[index]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[index] = failed;
+        if (failed) {
+            failures++;
+        }
+        index = (index + 1) % window.length;
+    }
+
+    private void open() {
+        reset(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+
+    private void reset(State newState) {
+        state = newState;
+        index = 0;
+        recorded = 0;
+        failures = 0;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+    }
+}
@@ -0,0 +1,118 @@
+package com.email.email.service;
+
+import com.email.email.exception.DeliveryRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 목업 발송 호출을 적응형 동시성 제한기와 회로 차단기로 보호하는 클래스입니다.
+ * 목업 서비스가 느려지거나 실패하면 호출을 대기시키지 않고 즉시 거절하여
+ * 요청 스레드가 발송 호출에 묶이지 않도록 합니다.
+ * 한도, 처리 중 요청 수, 거절 수, 회로 상태는 email.delivery.* 메트릭으로 노출합니다.
+ */
+@Slf4j
+@Component
+public class DeliveryGuard {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final DeliveryCircuitBreaker circuitBreaker;
+    private final long slowCallNanos;
+    private final Counter rejectedByLimit;
+    private final Counter rejectedByCircuit;
+
+    public DeliveryGuard(
+            MeterRegistry meterRegistry,
+            @Value("${email.delivery.guard.initial-limit:8}") int initialLimit,
+            @Value("${email.delivery.guard.min-limit:2}") int minLimit,
+            @Value("${email.delivery.guard.max-limit:64}") int maxLimit,
+            @Value("${email.delivery.guard.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${email.delivery.guard.slow-call-ms:5000}") long slowCallMillis,
+            @Value("${email.delivery.guard.window-size:20}") int windowSize,
+            @Value("${email.delivery.guard.minimum-calls:10}") int minimumCalls,
+            @Value("${email.delivery.guard.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${email.delivery.guard.open-duration-ms:30000}") long openDurationMillis,
+            @Value("${email.delivery.guard.half-open-calls:3}") int halfOpenCalls) {
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, rttTolerance);
+        this.circuitBreaker = new DeliveryCircuitBreaker(
+                windowSize, minimumCalls, failureRateThreshold, openDurationMillis, halfOpenCalls);
+        this.slowCallNanos = slowCallMillis * 1_000_000L;
+
+        Gauge.builder("email.delivery.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("목업 발송 동시 요청 한도")
+                .register(meterRegistry);
+        Gauge.builder("email.delivery.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("처리 중인 목업 발송 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("email.delivery.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("회로 차단기 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+        this.rejectedByLimit = Counter.builder("email.delivery.rejected")
+                .tag("reason", "limit")
+                .description("거절된 목업 발송 요청 수")
+                .register(meterRegistry);
+        this.rejectedByCircuit = Counter.builder("email.delivery.rejected")
+                .tag("reason", "circuit_open")
+                .description("거절된 목업 발송 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보호된 상태로 발송 호출을 실행합니다.
+     * 예외나 slow-call-ms를 넘는 응답은 회로 차단기에 실패로 기록합니다.
+     *
+     * @param call 발송 호출
+     * @param <T> 응답 타입
+     * @return 호출 결과
+     * @throws DeliveryRejectedException 한도 초과 또는 회로 차단으로 거절된 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!limiter.tryAcquire()) {
+            rejectedByLimit.increment();
+            throw new DeliveryRejectedException("목업 발송 동시 요청 한도를 초과했습니다: limit=" + limiter.getLimit());
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            limiter.release();
+            rejectedByCircuit.increment();
+            throw new DeliveryRejectedException("목업 발송 회로가 차단되었습니다.");
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            limiter.onDropped();
+            circuitBreaker.onFailure();
+            throw e;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        limiter.onSuccess(elapsed);
+        if (elapsed > slowCallNanos) {
+            log.warn("목업 발송 지연: elapsedMs={}", elapsed / 1_000_000L);
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+        return result;
+    }
+
+    /**
+     * 새로 시작할 수 있는 발송 요청 수를 반환합니다.
+     * 회로가 차단된 동안에는 0을 반환합니다.
+     *
+     * @return 시작 가능한 요청 수
+     */
+    public int availablePermits() {
+        if (circuitBreaker.getState() == DeliveryCircuitBreaker.State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, limiter.getLimit() - limiter.getInFlight());
+    }
+}
@@ -0,0 +1,281 @@
+package com.email.email.service;
+
+import com.email.email.domain.Email;
+import com.email.email.domain.EmailEvent;
+import com.email.email.domain.EmailRecipient;
+import com.email.email.domain.EmailStatus;
+import com.email.email.domain.RecipientStatus;
+import com.email.email.dto.DeliveryResult;
+import com.email.email.dto.EmailDeliveryRequest;
+import com.email.email.dto.MockDeliveryResponse;
+import com.email.email.exception.DeliveryRejectedException;
+import com.email.email.repository.EmailRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 발송을 수행하는 디스패처 클래스입니다.
+ * 동기 발송 시에는 {@link #requestDelivery}와 {@link #recordDelivery}를 직접 호출하고, 두 모드 모두에서
+ * QUEUED 상태의 이메일을 주기적으로 선점하여 발송 스레드 풀에서 처리합니다.
+ * 목업 호출은 {@link DeliveryGuard}로 보호됩니다. 거절된 발송은 동기 발송이면 QUEUED로 남고,
+ * 선점한 발송이면 QUEUED로 되돌아가 디스패처가 나중에 다시 발송합니다.
+ */
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private static final DateTimeFormatter RESULT_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String DELIVERY_FAIL_REASON = "목업 서비스 발송 실패";
+
+    private final EmailRepository emailRepository;
+    private final MockDeliveryClient mockDeliveryClient;
+    private final DeliveryGuard deliveryGuard;
+    private final MessagePublisher messagePublisher;
+    private final ThreadPoolTaskExecutor dispatchExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Value("${email.dispatch.async-enabled:false}")
+    private boolean asyncEnabled;
+
+    @Value("${email.dispatch.pool-size:4}")
+    private int poolSize;
+
+    @Value("${email.dispatch.lease-timeout-seconds:300}")
+    private long leaseTimeoutSeconds;
+
+    public EmailDispatcher(EmailRepository emailRepository,
+                           MockDeliveryClient mockDeliveryClient,
+                           DeliveryGuard deliveryGuard,
+                           MessagePublisher messagePublisher,
+                           @Qualifier("emailDispatchExecutor") ThreadPoolTaskExecutor dispatchExecutor,
+                           TransactionTemplate transactionTemplate) {
+        this.emailRepository = emailRepository;
+        this.mockDeliveryClient = mockDeliveryClient;
+        this.deliveryGuard = deliveryGuard;
+        this.messagePublisher = messagePublisher;
+        this.dispatchExecutor = dispatchExecutor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 비동기 발송 모드 여부를 반환합니다.
+     *
+     * @return 비동기 발송 모드 여부
+     */
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    /**
+     * 이메일을 목업 서비스로 발송합니다. 데이터베이스에는 아무것도 기록하지 않습니다.
+     *
+     * @param email 이메일
+     * @param recipientEmails 수신자 이메일 목록
+     * @param attachmentIds 첨부파일 ID 목록
+     * @return 발송 결과 응답
+     * @throws DeliveryRejectedException 목업 호출이 거절된 경우
+     */
+    public MockDeliveryResponse requestDelivery(Email email, List<String> recipientEmails, List<String> attachmentIds) {
+        EmailDeliveryRequest deliveryRequest = EmailDeliveryRequest.builder()
+                .emailId(email.getId())
+                .senderEmail(email.getSenderEmail())
+                .recipientEmails(recipientEmails)
+                .subject(email.getSubject())
+                .content(email.getContent())
+                .attachmentIds(attachmentIds)
+                .build();
+
+        log.info("목업 서비스로 발송 요청 시작: emailId={}, recipients={}", email.getId(), recipientEmails.size());
+        MockDeliveryResponse deliveryResponse = deliveryGuard.execute(() -> mockDeliveryClient.deliverEmail(deliveryRequest));
+        log.info("목업 서비스 응답 수신: emailId={}, status={}", email.getId(), deliveryResponse.getDeliveryStatus());
+
+        return deliveryResponse;
+    }
+
+    /**
+     * 발송 결과에 따른 상태 변경과 발송 이벤트를 기록합니다.
+     * 이벤트는 아웃박스에 기록되므로 호출자의 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param deliveryResponse 발송 결과 응답
+     */
+    public void recordDelivery(String emailId, MockDeliveryResponse deliveryResponse) {
+        recordDeliveryResult(emailId, deliveryResponse);
+        publishSentEvent(emailId, deliveryResponse);
+    }
+
+    /**
+     * 수신자별 발송 결과를 일괄 반영하고 이메일 상태를 다시 계산합니다.
+     * 반영할 수신자 결과가 없으면 응답의 성공 여부로 이메일 상태를 정합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param deliveryResponse 발송 결과 응답
+     */
+    private void recordDeliveryResult(String emailId, MockDeliveryResponse deliveryResponse) {
+        List<EmailRecipient> results = toRecipientResults(deliveryResponse.getResults());
+
+        if (!results.isEmpty() && emailRepository.applyDeliveryResults(emailId, results) > 0) {
+            EmailStatus status = emailRepository.recomputeEmailStatus(emailId);
+            log.info("수신자별 발송 결과 반영 완료: emailId={}, results={}, status={}", emailId, results.size(), status);
+            return;
+        }
+
+        emailRepository.updateEmailStatus(emailId, deliveryResponse.isSuccess() ? EmailStatus.SENT : EmailStatus.FAILED);
+    }
+
+    /**
+     * 목업 서비스의 수신자별 결과를 수신자 상태로 변환합니다.
+     * 알 수 없는 상태는 건너뜁니다.
+     *
+     * @param deliveryResults 수신자별 발송 결과 목록
+     * @return 수신자 상태 목록
+     */
+    private List<EmailRecipient> toRecipientResults(List<DeliveryResult> deliveryResults) {
+        if (deliveryResults == null || deliveryResults.isEmpty()) {
+            return List.of();
+        }
+
+        List<EmailRecipient> results = new ArrayList<>(deliveryResults.size());
+        for (DeliveryResult deliveryResult : deliveryResults) {
+            RecipientStatus status;
+            try {
+                status = RecipientStatus.valueOf(deliveryResult.getStatus());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.debug("알 수 없는 수신자 발송 상태: recipient={}, status={}",
+                        deliveryResult.getRecipientEmail(), deliveryResult.getStatus());
+                continue;
+            }
+
+            boolean failed = status == RecipientStatus.FAILED;
+            results.add(EmailRecipient.builder()
+                    .recipientEmail(deliveryResult.getRecipientEmail())
+                    .status(status)
+                    .receiveTime(failed ? null : parseResultTime(deliveryResult.getTimestamp()))
+                    .failReason(failed ? DELIVERY_FAIL_REASON : null)
+                    .build());
+        }
+        return results;
+    }
+
+    /**
+     * 발송 결과 타임스탬프를 파싱합니다. 형식이 맞지 않으면 현재 시간을 사용합니다.
+     *
+     * @param timestamp 타임스탬프 문자열
+     * @return 수신 시간
+     */
+    private LocalDateTime parseResultTime(String timestamp) {
+        if (timestamp == null) {
+            return LocalDateTime.now();
+        }
+        try {
+            return LocalDateTime.parse(timestamp, RESULT_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 발송 이벤트를 발행합니다.
+     *
+     * @param emailId 이메일 ID
+     * @param deliveryResponse 발송 결과 응답
+     */
+    private void publishSentEvent(String emailId, MockDeliveryResponse deliveryResponse) {
+        Map<String, Object> eventData = new HashMap<>();
+        eventData.put("emailId", emailId);
+        eventData.put("status", deliveryResponse.getDeliveryStatus());
+        eventData.put("mockEmailId", deliveryResponse.getMockEmailId());
+
+        messagePublisher.publishEmailEvent(EmailEvent.builder()
+                .eventType("EMAIL_SENT")
+                .emailData(eventData)
+                .build());
+        log.info("이메일 발송 이벤트 발행 완료: emailId={}", emailId);
+    }
+
+    /**
+     * 발송 대기 중인 이메일을 선점하여 발송 스레드 풀에 넘깁니다.
+     * 스레드 풀의 빈 슬롯과 발송 보호기의 여유 한도 중 작은 수만큼만 선점하므로
+     * 처리되지 못한 이메일을 붙잡아 두지 않습니다.
+     * 동기 발송 모드에서도 발송 보호기에 거절되어 QUEUED로 남은 이메일을 처리하도록 항상 선점합니다.
+     */
+    @Scheduled(fixedDelayString = "${email.dispatch.poll-interval-ms:1000}")
+    public void dispatchQueuedEmails() {
+        int capacity = Math.min(poolSize - inFlight.get(), deliveryGuard.availablePermits());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<Email> claimed;
+        try {
+            claimed = emailRepository.claimQueuedEmails(capacity, leaseTimeoutSeconds);
+        } catch (Exception e) {
+            log.warn("발송 대기 이메일 선점 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Email email : claimed) {
+            inFlight.incrementAndGet();
+            try {
+                dispatchExecutor.execute(() -> {
+                    try {
+                        process(email);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            } catch (Exception e) {
+                // 선점한 이메일은 임대 시간이 지나면 다시 선점됩니다.
+                inFlight.decrementAndGet();
+                log.warn("발송 작업 제출 실패: emailId={}, error={}", email.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 선점한 이메일 한 건을 발송하고 결과에 따라 상태를 변경합니다.
+     *
+     * @param email 선점한 이메일
+     */
+    private void process(Email email) {
+        try {
+            List<String> recipientEmails = emailRepository.findRecipientEmailsForDelivery(email.getId());
+            List<String> attachmentIds = emailRepository.findAttachmentIdsByEmailId(email.getId());
+
+            MockDeliveryResponse response = requestDelivery(email, recipientEmails, attachmentIds);
+
+            // 상태 변경과 이벤트 기록을 한 트랜잭션으로 묶습니다.
+            transactionTemplate.executeWithoutResult(status -> recordDelivery(email.getId(), response));
+        } catch (DeliveryRejectedException e) {
+            // 거절된 발송은 실패로 처리하지 않고 대기열로 되돌립니다.
+            log.info("발송 거절로 대기열 복귀: emailId={}, reason={}", email.getId(), e.getMessage());
+            try {
+                emailRepository.updateEmailStatus(email.getId(), EmailStatus.QUEUED);
+            } catch (Exception statusError) {
+                log.warn("이메일 대기 상태 복귀 실패: emailId={}, error={}", email.getId(), statusError.getMessage());
+            }
+        } catch (Exception e) {
+            log.error("비동기 이메일 발송 오류: emailId={}", email.getId(), e);
+            try {
+                emailRepository.updateEmailStatus(email.getId(), EmailStatus.FAILED);
+            } catch (Exception statusError) {
+                log.warn("이메일 실패 상태 기록 실패: emailId={}, error={}", email.getId(), statusError.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.email.email.service;
+
+import com.email.email.domain.EmailHistoryRow;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 발송 이력 조회 결과를 ResultSet에서 바로 CSV로 쓰는 클래스입니다.
+ * 컬럼 순서는 {@link com.email.email.repository.EmailRepository#streamEmailHistory}를 따릅니다.
+ * 아카이브에서 읽은 행은 {@link #writeRow(EmailHistoryRow)}로 같은 형식으로 씁니다.
+ */
+public class EmailHistoryCsvWriter implements RowCallbackHandler {
+
+    private static final String HEADER =
+            "sender_email,request_time,status,recipient_email,receive_time,receive_status,fail_reason,subject\n";
+    private static final int COLUMN_COUNT = 8;
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+    private long rowCount;
+
+    public EmailHistoryCsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 헤더 행을 씁니다.
+     *
+     * @throws IOException 쓰기 실패 시
+     */
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+    }
+
+    /**
+     * 현재 행을 CSV 한 줄로 씁니다.
+     *
+     * @param rs 조회 결과
+     * @throws SQLException 조회 결과 읽기 실패 시
+     */
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        try {
+            for (int column = 1; column <= COLUMN_COUNT; column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                writeValue(rs.getString(column));
+            }
+            writer.write('\n');
+            rowCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 아카이브에서 읽은 발송 이력 행을 CSV 한 줄로 씁니다.
+     *
+     * @param row 발송 이력 행
+     */
+    public void writeRow(EmailHistoryRow row) {
+        String[] values = {
+                row.getSenderEmail(),
+                format(row.getRequestTime()),
+                row.getStatus() != null ? row.getStatus().name() : null,
+                row.getRecipientEmail(),
+                format(row.getReceiveTime()),
+                row.getRecipientStatus() != null ? row.getRecipientStatus().name() : null,
+                row.getFailReason(),
+                row.getSubject()
+        };
+        try {
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                if (column > 0) {
+                    writer.write(',');
+                }
+                writeValue(values[column]);
+            }
+            writer.write('\n');
+            rowCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지금까지 쓴 행 수를 반환합니다.
+     *
+     * @return 행 수
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.format(DATE_TIME_FORMATTER) : null;
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
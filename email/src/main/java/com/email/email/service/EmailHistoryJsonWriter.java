@@ -0,0 +1,141 @@
+package com.email.email.service;
+
+import com.email.email.domain.EmailHistoryRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 발송 이력 조회 결과를 ResultSet에서 바로 JSON으로 쓰는 클래스입니다.
+ * 중간 DTO를 만들지 않고, 필드 이름은 미리 직렬화한 문자열을 재사용합니다.
+ * 컬럼 순서는 {@link com.email.email.repository.EmailRepository#streamEmailHistory}를 따릅니다.
+ * 아카이브에서 읽은 행은 {@link #writeRow(EmailHistoryRow)}로 같은 형식으로 씁니다.
+ */
+public class EmailHistoryJsonWriter implements RowCallbackHandler {
+
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+
+    private static final SerializableString SENDER_EMAIL = new SerializedString("senderEmail");
+    private static final SerializableString REQUEST_TIME = new SerializedString("requestTime");
+    private static final SerializableString EMAIL_STATUS = new SerializedString("status");
+    private static final SerializableString RECIPIENT_EMAIL = new SerializedString("recipientEmail");
+    private static final SerializableString RECEIVE_TIME = new SerializedString("receiveTime");
+    private static final SerializableString RECEIVE_STATUS = new SerializedString("receiveStatus");
+    private static final SerializableString FAIL_REASON = new SerializedString("failReason");
+    private static final SerializableString SUBJECT = new SerializedString("subject");
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JsonGenerator generator;
+    private long rowCount;
+
+    public EmailHistoryJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * API 응답 공통 형식의 시작 부분을 씁니다.
+     *
+     * @throws IOException 쓰기 실패 시
+     */
+    public void writeStart() throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(STATUS);
+        generator.writeNumber(200);
+        generator.writeFieldName(MESSAGE);
+        generator.writeString("요청이 성공적으로 처리되었습니다.");
+        generator.writeFieldName(DATA);
+        generator.writeStartArray();
+    }
+
+    /**
+     * API 응답 공통 형식의 끝 부분을 씁니다.
+     *
+     * @throws IOException 쓰기 실패 시
+     */
+    public void writeEnd() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    /**
+     * 현재 행을 JSON 객체로 씁니다.
+     *
+     * @param rs 조회 결과
+     * @throws SQLException 조회 결과 읽기 실패 시
+     */
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        try {
+            generator.writeStartObject();
+            writeField(SENDER_EMAIL, rs.getString(1));
+            writeField(REQUEST_TIME, rs.getString(2));
+            writeField(EMAIL_STATUS, rs.getString(3));
+            writeField(RECIPIENT_EMAIL, rs.getString(4));
+            writeField(RECEIVE_TIME, rs.getString(5));
+            writeField(RECEIVE_STATUS, rs.getString(6));
+            writeField(FAIL_REASON, rs.getString(7));
+            writeField(SUBJECT, rs.getString(8));
+            generator.writeEndObject();
+            rowCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 아카이브에서 읽은 발송 이력 행을 JSON 객체로 씁니다.
+     *
+     * @param row 발송 이력 행
+     */
+    public void writeRow(EmailHistoryRow row) {
+        try {
+            generator.writeStartObject();
+            writeField(SENDER_EMAIL, row.getSenderEmail());
+            writeField(REQUEST_TIME, format(row.getRequestTime()));
+            writeField(EMAIL_STATUS, row.getStatus() != null ? row.getStatus().name() : null);
+            writeField(RECIPIENT_EMAIL, row.getRecipientEmail());
+            writeField(RECEIVE_TIME, format(row.getReceiveTime()));
+            writeField(RECEIVE_STATUS, row.getRecipientStatus() != null ? row.getRecipientStatus().name() : null);
+            writeField(FAIL_REASON, row.getFailReason());
+            writeField(SUBJECT, row.getSubject());
+            generator.writeEndObject();
+            rowCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지금까지 쓴 행 수를 반환합니다.
+     *
+     * @return 행 수
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.format(DATE_TIME_FORMATTER) : null;
+    }
+
+    private void writeField(SerializableString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.email.email.service;
+
+import com.email.common.messaging.EventMessage;
+import com.email.common.messaging.EventPublisher;
+import com.email.email.domain.OutboxEvent;
+import com.email.email.repository.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스에 쌓인 이메일 이벤트를 Service Bus로 전달하는 릴레이 클래스입니다.
+ * advisory lock을 잡은 짧은 트랜잭션에서 한 배치를 선점(claimed_until 설정)하고 커밋한 뒤,
+ * 트랜잭션과 행 잠금 없이 전송하고 발행 완료를 따로 기록합니다.
+ * 선점 시간이 남은 배치가 있으면 다른 인스턴스는 선점하지 않으므로 등록 순서대로 전송되며,
+ * 전송에 실패하면 선점을 해제하여 다음 주기에 다시 전송합니다.
+ * 배치 묶음 전송은 {@link EventPublisher}가 담당합니다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxRelay {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${azure.servicebus.queue.email-events}")
+    private String emailEventsQueue;
+
+    @Value("${email.outbox.relay-enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${email.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${email.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${email.outbox.send-timeout-seconds:30}")
+    private long sendTimeoutSeconds;
+
+    // 전송 제한 시간보다 길어야 전송 중인 배치를 다른 인스턴스가 다시 선점하지 않습니다.
+    @Value("${email.outbox.claim-lease-seconds:60}")
+    private long claimLeaseSeconds;
+
+    public EmailOutboxRelay(EmailOutboxRepository emailOutboxRepository,
+                            EventPublisher eventPublisher,
+                            TransactionTemplate transactionTemplate) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 미발행 이벤트가 없을 때까지 배치 단위로 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.relay-interval-ms:500}")
+    public void relay() {
+        if (!relayEnabled) {
+            return;
+        }
+
+        try {
+            Integer relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed >= batchSize);
+        } catch (Exception e) {
+            log.warn("아웃박스 이벤트 릴레이 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        if (!relayEnabled) {
+            return;
+        }
+
+        int deleted = emailOutboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("발행 완료 아웃박스 이벤트 정리: count={}", deleted);
+        }
+    }
+
+    /**
+     * 미발행 이벤트 한 배치를 선점해 전송하고 발행 완료로 표시합니다.
+     *
+     * @return 전송한 이벤트 수
+     * @throws Exception 전송 실패 시 (선점은 해제됩니다)
+     */
+    private int relayBatch() throws Exception {
+        // 선점만 짧은 트랜잭션으로 커밋하고, 전송은 트랜잭션 밖에서 수행합니다.
+        List<OutboxEvent> events = transactionTemplate.execute(status ->
+                emailOutboxRepository.tryAcquireRelayLock()
+                        ? emailOutboxRepository.claimUnpublished(batchSize, claimLeaseSeconds)
+                        : List.<OutboxEvent>of());
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        List<CompletableFuture<Void>> sends = new ArrayList<>(events.size());
+
+        for (OutboxEvent event : events) {
+            // 재전송 시 Service Bus 중복 감지가 동작하도록 아웃박스 ID를 메시지 ID로 사용합니다.
+            sends.add(eventPublisher.publish(emailEventsQueue, EventMessage.builder()
+                    .body(event.getPayload())
+                    .messageId(String.valueOf(event.getId()))
+                    .subject(event.getEventType())
+                    .build()));
+            publishedIds.add(event.getId());
+        }
+
+        try {
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).get(sendTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // 일부가 이미 전송되었어도 메시지 ID가 같으므로 Service Bus 중복 감지가 재전송을 걸러냅니다.
+            emailOutboxRepository.releaseClaims(publishedIds);
+            throw e;
+        }
+
+        emailOutboxRepository.markPublished(publishedIds);
+        log.info("아웃박스 이벤트 릴레이 완료: count={}", publishedIds.size());
+
+        return publishedIds.size();
+    }
+}
@@ -0,0 +1,119 @@
+package com.email.email.service;
+
+import com.email.email.domain.EmailChange;
+import com.email.email.repository.EmailProjectionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 커맨드 DB의 변경을 조회 DB로 비동기 반영하는 프로젝터 클래스입니다.
+ * 트리거가 남긴 변경 로그를 배치로 읽어 이메일/첨부파일 ID별로 묶은 뒤 현재 상태를 한 번만 반영하고,
+ * 반영이 끝난 로그를 삭제합니다. advisory lock으로 한 인스턴스만 프로젝션하므로
+ * 같은 이메일의 변경은 항상 최신 상태로 덮어쓰이며, 실패한 배치는 다음 주기에 다시 반영합니다.
+ * 반영 지연은 email.projection.lag 메트릭으로 노출합니다.
+ */
+@Slf4j
+@Component
+public class EmailQueryProjector {
+
+    private final EmailProjectionRepository emailProjectionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter projectedRows;
+
+    // 처리되지 않은 가장 오래된 변경 로그의 지연 (밀리초)
+    private volatile long lagMillis;
+
+    @Value("${email.projection.enabled:true}")
+    private boolean enabled;
+
+    @Value("${email.projection.batch-size:500}")
+    private int batchSize;
+
+    public EmailQueryProjector(EmailProjectionRepository emailProjectionRepository,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.emailProjectionRepository = emailProjectionRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        Gauge.builder("email.projection.lag", this, projector -> projector.lagMillis / 1000.0)
+                .description("조회 DB에 반영되지 않은 가장 오래된 변경의 지연 (초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.projectedRows = Counter.builder("email.projection.rows")
+                .description("조회 DB에 반영한 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리할 변경 로그가 없을 때까지 배치 단위로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${email.projection.interval-ms:200}")
+    public void project() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Integer processed;
+            do {
+                processed = transactionTemplate.execute(status -> projectBatch());
+            } while (processed != null && processed >= batchSize);
+        } catch (Exception e) {
+            log.warn("조회 DB 프로젝션 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        } finally {
+            lagMillis = emailProjectionRepository.findOldestPendingChangeTime()
+                    .map(changedAt -> Math.max(0, Duration.between(changedAt, LocalDateTime.now()).toMillis()))
+                    .orElse(0L);
+        }
+    }
+
+    /**
+     * 변경 로그 한 배치를 반영하고 삭제합니다.
+     *
+     * @return 처리한 변경 로그 수
+     */
+    private int projectBatch() {
+        if (!emailProjectionRepository.tryAcquireProjectorLock()) {
+            return 0;
+        }
+
+        List<EmailChange> changes = emailProjectionRepository.findPendingChanges(batchSize);
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 ID의 여러 변경은 현재 상태를 한 번 반영하는 것으로 충분합니다.
+        Set<String> emailIds = new LinkedHashSet<>();
+        Set<String> attachmentIds = new LinkedHashSet<>();
+        List<Long> changeIds = new ArrayList<>(changes.size());
+        for (EmailChange change : changes) {
+            if (EmailChange.ENTITY_ATTACHMENT.equals(change.getEntity())) {
+                attachmentIds.add(change.getEntityId());
+            } else {
+                emailIds.add(change.getEntityId());
+            }
+            changeIds.add(change.getId());
+        }
+
+        int rows = emailProjectionRepository.project(emailIds, attachmentIds);
+        emailProjectionRepository.deleteChanges(changeIds);
+        projectedRows.increment(rows);
+
+        log.debug("조회 DB 프로젝션 완료: changes={}, emails={}, attachments={}, rows={}",
+                changes.size(), emailIds.size(), attachmentIds.size(), rows);
+        return changes.size();
+    }
+}
@@ -1,9 +1,12 @@
 package com.email.email.service;
 
-import com.email.email.dto.EmailHistoryResponse;
+import com.email.email.dto.EmailContentResponse;
+import com.email.email.dto.EmailHistoryPageResponse;
+import com.email.email.dto.EmailSearchPageResponse;
 import com.email.email.dto.EmailSendRequest;
 import com.email.email.dto.EmailSendResponse;
 import com.email.email.dto.RecentEmailListResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -37,8 +40,50 @@ public interface EmailService {
     * @param senderEmail 발신자 이메일
     * @param status 발송 상태
     * @param recipientEmail 수신자 이메일
-    * @return 이메일 발송 이력 목록
+    * @param cursor 이전 페이지의 다음 페이지 커서 (첫 페이지이면 null)
+    * @param size 페이지 크기 (null이면 기본값)
+    * @return 이메일 발송 이력 페이지
     */
-   List<EmailHistoryResponse> getEmailHistory(
+   EmailHistoryPageResponse getEmailHistory(
+           LocalDate startDate, LocalDate endDate, String senderEmail, String status, String recipientEmail,
+           String cursor, Integer size);
+   
+   /**
+    * 제목과 본문에서 검색어로 이메일을 관련도 순으로 검색합니다.
+    *
+    * @param query 검색어
+    * @param startDate 시작일
+    * @param endDate 종료일
+    * @param senderEmail 발신자 이메일
+    * @param status 발송 상태
+    * @param cursor 이전 페이지의 다음 페이지 커서 (첫 페이지이면 null)
+    * @param size 페이지 크기 (null이면 기본값)
+    * @return 이메일 검색 페이지
+    */
+   EmailSearchPageResponse searchEmails(
+           String query, LocalDate startDate, LocalDate endDate, String senderEmail, String status,
+           String cursor, Integer size);
+   
+   /**
+    * 이메일 본문을 조회합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 이메일 본문 응답
+    */
+   EmailContentResponse getEmailContent(String emailId);
+   
+   /**
+    * 이메일 발송 이력을 중간 객체 없이 JSON으로 스트리밍합니다.
+    * 조회 조건은 호출 시점에 검증하고, 조회와 출력은 반환된 본문을 쓸 때 수행합니다.
+    * 조회 DB에 남아 있는 달 뒤에 아카이브된 달의 이력을 이어 씁니다.
+    *
+    * @param startDate 시작일
+    * @param endDate 종료일
+    * @param senderEmail 발신자 이메일
+    * @param status 발송 상태
+    * @param recipientEmail 수신자 이메일
+    * @return 스트리밍 응답 본문
+    */
+   StreamingResponseBody streamEmailHistory(
            LocalDate startDate, LocalDate endDate, String senderEmail, String status, String recipientEmail);
 }
@@ -6,11 +6,15 @@ import com.email.common.exception.ErrorCode;
 import com.email.common.util.ValidationUtils;
 import com.email.email.domain.*;
 import com.email.email.dto.*;
+import com.email.email.exception.DeliveryRejectedException;
 import com.email.email.repository.EmailRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,15 +35,24 @@ public class EmailServiceImpl implements EmailService {
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final int RECENT_EMAIL_LIMIT = 5;
     private static final int MAX_RECIPIENT_COUNT = 10000;
-    private static final int MAX_HISTORY_DAYS = 365;
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 100;
+    private static final int MAX_HISTORY_PAGE_SIZE = 1000;
+    private static final int HISTORY_STREAM_FETCH_SIZE = 1000;
+    private static final int MAX_REPORTED_INVALID_RECIPIENTS = 100;
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
 
     private final EmailRepository emailRepository;
     private final AttachmentService attachmentService;
-    private final MockDeliveryClient mockDeliveryClient;
-    private final MessagePublisher messagePublisher;
+    private final EmailDispatcher emailDispatcher;
+    private final ObjectMapper objectMapper;
+    private final HistoryArchiveService historyArchiveService;
+    private final RecentEmailCache recentEmailCache;
 
     /**
      * 최근 발송 이메일 목록을 조회합니다.
+     * 사용자별 캐시를 먼저 확인하고, 없을 때만 조회 DB에서 읽습니다.
      *
      * @param userId 사용자 ID
      * @return 최근 발송 이메일 목록
@@ -49,7 +62,8 @@ public class EmailServiceImpl implements EmailService {
     public List<RecentEmailListResponse> getRecentEmails(String userId) {
         log.info("최근 발송 이메일 목록 조회: userId={}", userId);
 
-        List<Email> recentEmails = emailRepository.findRecentByUserId(userId, RECENT_EMAIL_LIMIT);
+        List<RecentEmailSummary> recentEmails = recentEmailCache.get(userId,
+                id -> emailRepository.findRecentSummariesByUserId(id, RECENT_EMAIL_LIMIT));
 
         if (recentEmails.isEmpty()) {
             log.info("최근 발송 이메일이 없습니다. userId={}", userId);
@@ -57,18 +71,14 @@ public class EmailServiceImpl implements EmailService {
         }
 
         return recentEmails.stream()
-                .map(email -> {
-                    List<EmailRecipient> recipients = emailRepository.findRecipientsByEmailId(email.getId());
-                    String recipientEmail = recipients.isEmpty() ? "" : recipients.get(0).getRecipientEmail();
-
-                    return RecentEmailListResponse.builder()
-                            .sender(email.getSenderEmail())
-                            .subject(email.getSubject())
-                            .recipient(recipientEmail)
-                            .sentTime(email.getRequestTime().format(DATE_TIME_FORMATTER))
-                            .status(email.getStatus().name())
-                            .build();
-                })
+                .map(email -> RecentEmailListResponse.builder()
+                        .sender(email.getSenderEmail())
+                        .subject(email.getSubject())
+                        .recipient(email.getFirstRecipientEmail() != null ? email.getFirstRecipientEmail() : "")
+                        .recipientCount(email.getRecipientCount())
+                        .sentTime(email.getRequestTime().format(DATE_TIME_FORMATTER))
+                        .status(email.getStatus().name())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -105,60 +115,62 @@ public class EmailServiceImpl implements EmailService {
             Email savedEmail = emailRepository.saveEmail(email);
             log.info("이메일 메타데이터 저장 완료: id={}", savedEmail.getId());
 
-            // 수신자 정보 저장
+            // 수신자 정보 일괄 저장
+            List<EmailRecipient> recipients = new ArrayList<>(request.getRecipientEmails().size());
             for (String recipientEmail : request.getRecipientEmails()) {
-                EmailRecipient recipient = EmailRecipient.builder()
+                recipients.add(EmailRecipient.builder()
                         .id(UUID.randomUUID().toString())
                         .emailId(emailId)
                         .recipientEmail(recipientEmail)
                         .status(RecipientStatus.PENDING)
-                        .build();
-
-                emailRepository.saveRecipient(recipient);
+                        .build());
             }
-            log.info("수신자 정보 저장 완료: count={}", request.getRecipientEmails().size());
+            emailRepository.saveRecipients(recipients);
+            log.info("수신자 정보 저장 완료: count={}", recipients.size());
 
             // 첨부파일 연결 (있는 경우)
             if (request.getAttachmentIds() != null && !request.getAttachmentIds().isEmpty()) {
                 List<AttachmentMetadata> attachments = attachmentService.getAttachmentDetails(request.getAttachmentIds());
 
-                for (AttachmentMetadata attachment : attachments) {
-                    EmailAttachment emailAttachment = EmailAttachment.builder()
-                            .emailId(emailId)
-                            .attachmentId(attachment.getId())
-                            .build();
-                    emailRepository.saveEmailAttachment(emailAttachment);
-                }
+                List<EmailAttachment> emailAttachments = attachments.stream()
+                        .map(attachment -> EmailAttachment.builder()
+                                .emailId(emailId)
+                                .attachmentId(attachment.getId())
+                                .build())
+                        .collect(Collectors.toList());
+                emailRepository.saveEmailAttachments(emailAttachments);
                 log.info("첨부파일 연결 완료: count={}", attachments.size());
             }
 
-            // 목업 서비스로 발송 요청
-            EmailDeliveryRequest deliveryRequest = EmailDeliveryRequest.builder()
-                    .emailId(emailId)
-                    .senderEmail(request.getSenderEmail())
-                    .recipientEmails(request.getRecipientEmails())
-                    .subject(request.getSubject())
-                    .content(request.getContent())
-                    .attachmentIds(request.getAttachmentIds())
-                    .build();
-
-            log.info("목업 서비스로 발송 요청 시작");
-            MockDeliveryResponse deliveryResponse = mockDeliveryClient.deliverEmail(deliveryRequest);
-            log.info("목업 서비스 응답 수신: status={}", deliveryResponse.getDeliveryStatus());
-
-            // 발송 이벤트 발행
-            Map<String, Object> eventData = new HashMap<>();
-            eventData.put("emailId", emailId);
-            eventData.put("status", deliveryResponse.getDeliveryStatus());
-            eventData.put("mockEmailId", deliveryResponse.getMockEmailId());
+            // 비동기 모드에서는 QUEUED 상태로 저장만 하고 디스패처가 발송합니다.
+            if (emailDispatcher.isAsyncEnabled()) {
+                log.info("이메일 발송 대기열 등록 완료: id={}", emailId);
+                return EmailSendResponse.builder()
+                        .success(true)
+                        .messageId(emailId)
+                        .status(EmailStatus.QUEUED.name())
+                        .build();
+            }
 
-            EmailEvent emailEvent = EmailEvent.builder()
-                    .eventType("EMAIL_SENT")
-                    .emailData(eventData)
-                    .build();
+            // 목업 서비스로 발송 요청 (거절되면 QUEUED로 남겨 디스패처가 나중에 발송)
+            // 목업 호출만 감싸므로 결과 기록 중의 데이터베이스 오류는 그대로 전파되어 트랜잭션이 롤백됩니다.
+            MockDeliveryResponse deliveryResponse;
+            try {
+                deliveryResponse = emailDispatcher.requestDelivery(
+                        savedEmail, request.getRecipientEmails(), request.getAttachmentIds());
+            } catch (DeliveryRejectedException e) {
+                log.info("목업 발송 거절로 대기열 등록: id={}, reason={}", emailId, e.getMessage());
+                return EmailSendResponse.builder()
+                        .success(true)
+                        .messageId(emailId)
+                        .status(EmailStatus.QUEUED.name())
+                        .build();
+            } catch (RuntimeException e) {
+                log.error("목업 발송 오류로 발송 실패 처리: id={}", emailId, e);
+                return failDelivery(emailId);
+            }
 
-            messagePublisher.publishEmailEvent(emailEvent);
-            log.info("이메일 발송 이벤트 발행 완료");
+            emailDispatcher.recordDelivery(emailId, deliveryResponse);
 
             return EmailSendResponse.builder()
                     .success(deliveryResponse.isSuccess())
@@ -190,16 +202,21 @@ public class EmailServiceImpl implements EmailService {
      * @param senderEmail 발신자 이메일
      * @param status 발송 상태
      * @param recipientEmail 수신자 이메일
-     * @return 이메일 발송 이력 목록
+     * @param cursor 이전 페이지의 다음 페이지 커서 (첫 페이지이면 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대값을 넘으면 최대값)
+     * @return 이메일 발송 이력 페이지
      */
     @Override
     @Transactional(readOnly = true)
-    public List<EmailHistoryResponse> getEmailHistory(
-            LocalDate startDate, LocalDate endDate, String senderEmail, String status, String recipientEmail) {
-        log.info("이메일 발송 이력 조회: startDate={}, endDate={}, senderEmail={}, status={}, recipientEmail={}",
-                startDate, endDate, senderEmail, status, recipientEmail);
+    public EmailHistoryPageResponse getEmailHistory(
+            LocalDate startDate, LocalDate endDate, String senderEmail, String status, String recipientEmail,
+            String cursor, Integer size) {
+        log.info("이메일 발송 이력 조회: startDate={}, endDate={}, senderEmail={}, status={}, recipientEmail={}, size={}",
+                startDate, endDate, senderEmail, status, recipientEmail, size);
 
         validateDateRange(startDate, endDate);
+        int pageSize = resolvePageSize(size);
+        EmailHistoryCursor after = parseHistoryCursor(cursor);
 
         EmailHistoryFilter filter = EmailHistoryFilter.builder()
                 .startDate(startDate)
@@ -209,39 +226,242 @@ public class EmailServiceImpl implements EmailService {
                 .recipientEmail(recipientEmail)
                 .build();
 
-        List<Email> emails = emailRepository.findEmailsByFilters(filter);
+        // 다음 페이지 존재 여부를 알기 위해 한 행을 더 조회합니다.
+        List<EmailHistoryRow> rows = emailRepository.findEmailHistory(filter, after, pageSize + 1);
+
+        // 조회 DB에서 페이지를 다 채우지 못하면 그보다 이전인 아카이브된 달에서 이어서 읽습니다.
+        if (rows.size() <= pageSize) {
+            EmailHistoryCursor archiveAfter = rows.isEmpty() ? after : EmailHistoryCursor.of(rows.get(rows.size() - 1));
+            List<EmailHistoryRow> archivedRows =
+                    historyArchiveService.findEmailHistory(filter, archiveAfter, pageSize + 1 - rows.size());
+            if (!archivedRows.isEmpty()) {
+                rows = new ArrayList<>(rows);
+                rows.addAll(archivedRows);
+            }
+        }
 
-        List<EmailHistoryResponse> responses = new ArrayList<>();
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
 
-        for (Email email : emails) {
-            List<EmailRecipient> recipients;
+        List<EmailHistoryResponse> responses = new ArrayList<>(rows.size());
+        for (EmailHistoryRow row : rows) {
+            responses.add(EmailHistoryResponse.builder()
+                    .senderEmail(row.getSenderEmail())
+                    .requestTime(row.getRequestTime().format(DATE_TIME_FORMATTER))
+                    .status(row.getStatus().name())
+                    .recipientEmail(row.getRecipientEmail())
+                    .receiveTime(row.getReceiveTime() != null
+                            ? row.getReceiveTime().format(DATE_TIME_FORMATTER)
+                            : null)
+                    .receiveStatus(row.getRecipientStatus().name())
+                    .failReason(row.getFailReason())
+                    .subject(row.getSubject())
+                    .build());
+        }
 
-            if (recipientEmail != null && !recipientEmail.isEmpty()) {
-                recipients = emailRepository.findRecipientsByEmailIdAndEmail(email.getId(), recipientEmail);
-            } else {
-                recipients = emailRepository.findRecipientsByEmailId(email.getId());
-            }
+        return EmailHistoryPageResponse.builder()
+                .items(responses)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? EmailHistoryCursor.of(rows.get(rows.size() - 1)).toToken() : null)
+                .build();
+    }
 
-            for (EmailRecipient recipient : recipients) {
-                responses.add(EmailHistoryResponse.builder()
-                        .senderEmail(email.getSenderEmail())
-                        .requestTime(email.getRequestTime().format(DATE_TIME_FORMATTER))
-                        .status(email.getStatus().name())
-                        .recipientEmail(recipient.getRecipientEmail())
-                        .receiveTime(recipient.getReceiveTime() != null
-                                ? recipient.getReceiveTime().format(DATE_TIME_FORMATTER)
-                                : null)
-                        .receiveStatus(recipient.getStatus().name())
-                        .failReason(recipient.getFailReason())
-                        .subject(email.getSubject())
-                        .build());
+    /**
+     * 제목과 본문에서 검색어로 이메일을 관련도 순으로 검색합니다.
+     * 조회 DB에 남아 있는 이메일만 검색하며, 아카이브된 달은 검색하지 않습니다.
+     *
+     * @param query 검색어
+     * @param startDate 시작일
+     * @param endDate 종료일
+     * @param senderEmail 발신자 이메일
+     * @param status 발송 상태
+     * @param cursor 이전 페이지의 다음 페이지 커서 (첫 페이지이면 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대값을 넘으면 최대값)
+     * @return 이메일 검색 페이지
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmailSearchPageResponse searchEmails(
+            String query, LocalDate startDate, LocalDate endDate, String senderEmail, String status,
+            String cursor, Integer size) {
+        log.info("이메일 검색: query={}, startDate={}, endDate={}, senderEmail={}, status={}, size={}",
+                query, startDate, endDate, senderEmail, status, size);
+
+        if (query == null || query.isBlank()) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "검색어를 입력해야 합니다.");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    String.format("검색어는 최대 %d자까지 입력할 수 있습니다.", MAX_SEARCH_QUERY_LENGTH));
+        }
+        validateDateRange(startDate, endDate);
+        int pageSize = size == null ? DEFAULT_SEARCH_PAGE_SIZE : Math.min(resolvePageSize(size), MAX_SEARCH_PAGE_SIZE);
+        EmailSearchCursor after = parseSearchCursor(cursor);
+
+        EmailHistoryFilter filter = EmailHistoryFilter.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .senderEmail(senderEmail)
+                .status(status)
+                .build();
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회합니다.
+        List<EmailSearchResult> results = emailRepository.searchEmails(query.strip(), filter, after, pageSize + 1);
+
+        boolean hasNext = results.size() > pageSize;
+        if (hasNext) {
+            results = results.subList(0, pageSize);
+        }
+
+        List<EmailSearchResponse> responses = new ArrayList<>(results.size());
+        for (EmailSearchResult result : results) {
+            responses.add(EmailSearchResponse.builder()
+                    .emailId(result.getEmailId())
+                    .senderEmail(result.getSenderEmail())
+                    .subject(result.getSubject())
+                    .requestTime(result.getRequestTime().format(DATE_TIME_FORMATTER))
+                    .status(result.getStatus().name())
+                    .rank(result.getRank())
+                    .build());
+        }
+
+        return EmailSearchPageResponse.builder()
+                .items(responses)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? EmailSearchCursor.of(results.get(results.size() - 1)).toToken() : null)
+                .build();
+    }
+
+    /**
+     * 이메일 본문을 조회합니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 이메일 본문 응답
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmailContentResponse getEmailContent(String emailId) {
+        Email email = emailRepository.findEmailContent(emailId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "이메일을 찾을 수 없습니다: " + emailId));
+
+        return EmailContentResponse.builder()
+                .emailId(email.getId())
+                .subject(email.getSubject())
+                .content(email.getContent())
+                .build();
+    }
+
+    /**
+     * 이메일 발송 이력을 ResultSet에서 바로 JSON으로 스트리밍합니다.
+     *
+     * @param startDate 시작일
+     * @param endDate 종료일
+     * @param senderEmail 발신자 이메일
+     * @param status 발송 상태
+     * @param recipientEmail 수신자 이메일
+     * @return 스트리밍 응답 본문
+     */
+    @Override
+    public StreamingResponseBody streamEmailHistory(
+            LocalDate startDate, LocalDate endDate, String senderEmail, String status, String recipientEmail) {
+        log.info("이메일 발송 이력 스트리밍 조회: startDate={}, endDate={}, senderEmail={}, status={}, recipientEmail={}",
+                startDate, endDate, senderEmail, status, recipientEmail);
+
+        validateDateRange(startDate, endDate);
+
+        EmailHistoryFilter filter = EmailHistoryFilter.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .senderEmail(senderEmail)
+                .status(status)
+                .recipientEmail(recipientEmail)
+                .build();
+
+        return outputStream -> {
+            long start = System.currentTimeMillis();
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                EmailHistoryJsonWriter writer = new EmailHistoryJsonWriter(generator);
+                writer.writeStart();
+                emailRepository.streamEmailHistory(filter, HISTORY_STREAM_FETCH_SIZE, writer);
+                // 아카이브된 달은 조회 DB에 남아 있는 달보다 이전이므로 뒤에 이어 씁니다.
+                historyArchiveService.streamEmailHistory(filter, HISTORY_STREAM_FETCH_SIZE, writer::writeRow);
+                writer.writeEnd();
+                log.info("이메일 발송 이력 스트리밍 완료: rows={}, elapsedMs={}",
+                        writer.getRowCount(), System.currentTimeMillis() - start);
             }
+        };
+    }
+
+    /**
+     * 동기 발송에 실패한 이메일을 FAILED로 기록하고 실패 응답을 만듭니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 발송 실패 응답
+     */
+    private EmailSendResponse failDelivery(String emailId) {
+        emailRepository.updateEmailStatus(emailId, EmailStatus.FAILED);
+        return EmailSendResponse.builder()
+                .success(false)
+                .messageId(emailId)
+                .status(EmailStatus.FAILED.name())
+                .build();
+    }
+
+    /**
+     * 요청한 페이지 크기를 기본값과 최대값 범위로 정합니다.
+     *
+     * @param size 요청한 페이지 크기
+     * @return 적용할 페이지 크기
+     * @throws BusinessException 페이지 크기가 1보다 작은 경우
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_HISTORY_PAGE_SIZE;
         }
+        if (size < 1) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "페이지 크기는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, MAX_HISTORY_PAGE_SIZE);
+    }
 
-        // 최근 날짜순으로 정렬
-        responses.sort(Comparator.comparing(EmailHistoryResponse::getRequestTime).reversed());
+    /**
+     * 발송 이력 커서 토큰을 해석합니다.
+     *
+     * @param cursor 커서 토큰
+     * @return 커서 (토큰이 없으면 null)
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    private EmailHistoryCursor parseHistoryCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return EmailHistoryCursor.fromToken(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "발송 이력 커서가 올바르지 않습니다.");
+        }
+    }
 
-        return responses;
+    /**
+     * 검색 커서 토큰을 해석합니다.
+     *
+     * @param cursor 커서 토큰
+     * @return 커서 (토큰이 없으면 null)
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    private EmailSearchCursor parseSearchCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return EmailSearchCursor.fromToken(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "검색 커서가 올바르지 않습니다.");
+        }
     }
 
     /**
@@ -267,10 +487,14 @@ public class EmailServiceImpl implements EmailService {
                     String.format("수신자는 최대 %d명까지 지정할 수 있습니다.", MAX_RECIPIENT_COUNT));
         }
 
-        for (String recipientEmail : request.getRecipientEmails()) {
-            if (!ValidationUtils.validateEmail(recipientEmail)) {
-                throw new BusinessException(ErrorCode.BAD_REQUEST, "수신자 이메일 형식이 올바르지 않습니다: " + recipientEmail);
-            }
+        List<String> invalidRecipients = ValidationUtils.findInvalidEmails(request.getRecipientEmails());
+        if (!invalidRecipients.isEmpty()) {
+            String listed = String.join(", ", invalidRecipients.subList(0, Math.min(invalidRecipients.size(), MAX_REPORTED_INVALID_RECIPIENTS)));
+            String more = invalidRecipients.size() > MAX_REPORTED_INVALID_RECIPIENTS
+                    ? String.format(" 외 %d건", invalidRecipients.size() - MAX_REPORTED_INVALID_RECIPIENTS)
+                    : "";
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    String.format("수신자 이메일 형식이 올바르지 않습니다 (%d건): %s%s", invalidRecipients.size(), listed, more));
         }
 
         // 제목 유효성 검사
@@ -296,9 +520,9 @@ public class EmailServiceImpl implements EmailService {
             throw new BusinessException(ErrorCode.BAD_REQUEST, "시작일은 종료일보다 이전이어야 합니다.");
         }
 
-        if (startDate.plusDays(MAX_HISTORY_DAYS).isBefore(endDate)) {
+        if (startDate.plusDays(EmailHistoryFilter.MAX_HISTORY_DAYS).isBefore(endDate)) {
             throw new BusinessException(ErrorCode.BAD_REQUEST,
-                    String.format("조회 기간은 최대 %d일로 제한됩니다.", MAX_HISTORY_DAYS));
+                    String.format("조회 기간은 최대 %d일로 제한됩니다.", EmailHistoryFilter.MAX_HISTORY_DAYS));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,261 @@
+package com.email.email.service;
+
+import com.email.email.domain.EmailHistoryCursor;
+import com.email.email.domain.EmailHistoryFilter;
+import com.email.email.domain.EmailHistoryRow;
+import com.email.email.domain.EmailStatus;
+import com.email.email.domain.RecipientStatus;
+import com.email.email.service.HistoryArchiveFormat.ByteCursor;
+import com.email.email.service.HistoryArchiveFormat.Column;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 발송 이력 아카이브 파일에서 조회 조건에 맞는 발송 이력 행을 읽는 클래스입니다.
+ * 행그룹의 요청 시각 최소/최대값으로 범위 밖의 행그룹을 건너뛰고,
+ * 발송 이력에 필요한 컬럼만 압축 해제합니다. 형식은 {@link HistoryArchiveFormat}을 따릅니다.
+ */
+public class HistoryArchiveFileReader {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    // 발송 이력 조회에 필요한 컬럼 (본문, 사용자 ID 등은 읽지 않습니다)
+    private static final Set<Column> HISTORY_COLUMNS = EnumSet.of(
+            Column.EMAIL_ID, Column.SUBJECT, Column.SENDER_EMAIL, Column.REQUEST_TIME, Column.STATUS,
+            Column.RECIPIENT_ID, Column.RECIPIENT_EMAIL, Column.RECIPIENT_STATUS, Column.RECEIVE_TIME,
+            Column.FAIL_REASON);
+
+    private final Path file;
+
+    public HistoryArchiveFileReader(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 조회 조건과 커서에 맞는 행을 발송 이력 순서대로 결과 목록에 추가합니다.
+     * 결과 목록이 limit개가 되면 읽기를 멈춥니다.
+     *
+     * @param filters 발송 이력 필터 조건 (시작일, 종료일 필수)
+     * @param after 이전 페이지의 마지막 행 커서 (없으면 null)
+     * @param limit 결과 목록의 최대 행 수
+     * @param results 결과 목록
+     * @throws IOException 파일 읽기 실패 또는 형식 오류 시
+     */
+    public void readHistory(EmailHistoryFilter filters, EmailHistoryCursor after, int limit,
+                            List<EmailHistoryRow> results) throws IOException {
+        long fromMicros = HistoryArchiveFormat.toMicros(filters.getStartDate().atStartOfDay());
+        long toMicros = HistoryArchiveFormat.toMicros(filters.getEndDate().plusDays(1).atStartOfDay());
+        long afterMicros = after != null ? HistoryArchiveFormat.toMicros(after.getRequestTime()) : Long.MAX_VALUE;
+
+        try (InputStream fileIn = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE);
+             DataInputStream in = new DataInputStream(fileIn)) {
+            if (in.readInt() != HistoryArchiveFormat.MAGIC || in.readInt() != HistoryArchiveFormat.VERSION) {
+                throw new IOException("발송 이력 아카이브 파일 형식이 아닙니다: " + file);
+            }
+
+            int groupRows;
+            while (results.size() < limit && (groupRows = in.readInt()) > 0) {
+                long groupMin = in.readLong();
+                long groupMax = in.readLong();
+
+                // 행그룹은 요청 시각 내림차순이므로 시작 시각보다 오래된 행그룹 이후는 볼 필요가 없습니다.
+                if (groupMax < fromMicros) {
+                    break;
+                }
+                if (groupMin >= toMicros || groupMin > afterMicros) {
+                    skipGroup(in);
+                    continue;
+                }
+
+                readGroup(in, groupRows, filters, after, fromMicros, toMicros, limit, results);
+            }
+        }
+    }
+
+    private void readGroup(DataInputStream in, int groupRows, EmailHistoryFilter filters, EmailHistoryCursor after,
+                           long fromMicros, long toMicros, int limit, List<EmailHistoryRow> results) throws IOException {
+        String[][] strings = new String[Column.values().length][];
+        long[][] times = new long[Column.values().length][];
+
+        for (Column column : Column.values()) {
+            int length = in.readInt();
+            if (!HISTORY_COLUMNS.contains(column)) {
+                in.skipNBytes(length);
+                continue;
+            }
+            ByteCursor cursor = new ByteCursor(inflate(in.readNBytes(length)));
+            if (column.timestamp) {
+                times[column.ordinal()] = decodeTimes(cursor, groupRows);
+            } else {
+                strings[column.ordinal()] = decodeStrings(cursor, groupRows);
+            }
+        }
+
+        String[] emailIds = strings[Column.EMAIL_ID.ordinal()];
+        String[] recipientIds = strings[Column.RECIPIENT_ID.ordinal()];
+        long[] requestTimes = times[Column.REQUEST_TIME.ordinal()];
+
+        for (int row = 0; row < groupRows && results.size() < limit; row++) {
+            long requestMicros = requestTimes[row];
+            // 수신자가 없는 이메일은 발송 이력(이메일-수신자 조인)에 나타나지 않습니다.
+            if (recipientIds[row] == null || requestMicros < fromMicros || requestMicros >= toMicros) {
+                continue;
+            }
+            if (after != null && !isBefore(requestMicros, emailIds[row], recipientIds[row], after)) {
+                continue;
+            }
+            if (!matches(filters.getSenderEmail(), strings[Column.SENDER_EMAIL.ordinal()][row])
+                    || !matches(filters.getStatus(), strings[Column.STATUS.ordinal()][row])
+                    || !matchesRecipient(filters.getRecipientEmail(), strings[Column.RECIPIENT_EMAIL.ordinal()][row])) {
+                continue;
+            }
+
+            long receiveMicros = times[Column.RECEIVE_TIME.ordinal()][row];
+            results.add(EmailHistoryRow.builder()
+                    .emailId(emailIds[row])
+                    .senderEmail(strings[Column.SENDER_EMAIL.ordinal()][row])
+                    .subject(strings[Column.SUBJECT.ordinal()][row])
+                    .requestTime(HistoryArchiveFormat.fromMicros(requestMicros))
+                    .status(EmailStatus.valueOf(strings[Column.STATUS.ordinal()][row]))
+                    .recipientId(recipientIds[row])
+                    .recipientEmail(strings[Column.RECIPIENT_EMAIL.ordinal()][row])
+                    .recipientStatus(RecipientStatus.valueOf(strings[Column.RECIPIENT_STATUS.ordinal()][row]))
+                    .receiveTime(receiveMicros != Long.MIN_VALUE ? HistoryArchiveFormat.fromMicros(receiveMicros) : null)
+                    .failReason(strings[Column.FAIL_REASON.ordinal()][row])
+                    .build());
+        }
+    }
+
+    /**
+     * 파일 끝 통계(행 수, 요청 시각 최소/최대값)를 읽습니다. 행그룹은 읽지 않습니다.
+     *
+     * @return 파일 끝 통계
+     * @throws IOException 파일 읽기 실패 또는 형식 오류 시
+     */
+    public Summary readSummary() throws IOException {
+        try (RandomAccessFile in = new RandomAccessFile(file.toFile(), "r")) {
+            if (in.length() < 8 + 4 + 3 * 8
+                    || in.readInt() != HistoryArchiveFormat.MAGIC || in.readInt() != HistoryArchiveFormat.VERSION) {
+                throw new IOException("발송 이력 아카이브 파일 형식이 아닙니다: " + file);
+            }
+
+            in.seek(in.length() - 3 * 8);
+            long rowCount = in.readLong();
+            long minRequestMicros = in.readLong();
+            long maxRequestMicros = in.readLong();
+            return new Summary(rowCount,
+                    rowCount > 0 ? HistoryArchiveFormat.fromMicros(minRequestMicros) : null,
+                    rowCount > 0 ? HistoryArchiveFormat.fromMicros(maxRequestMicros) : null);
+        }
+    }
+
+    /**
+     * 아카이브 파일 끝 통계입니다.
+     */
+    public static final class Summary {
+
+        private final long rowCount;
+        private final LocalDateTime minRequestTime;
+        private final LocalDateTime maxRequestTime;
+
+        Summary(long rowCount, LocalDateTime minRequestTime, LocalDateTime maxRequestTime) {
+            this.rowCount = rowCount;
+            this.minRequestTime = minRequestTime;
+            this.maxRequestTime = maxRequestTime;
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        public LocalDateTime getMinRequestTime() {
+            return minRequestTime;
+        }
+
+        public LocalDateTime getMaxRequestTime() {
+            return maxRequestTime;
+        }
+    }
+
+    private static void skipGroup(DataInputStream in) throws IOException {
+        for (int i = 0; i < Column.values().length; i++) {
+            in.skipNBytes(in.readInt());
+        }
+    }
+
+    /**
+     * 행의 위치가 커서보다 뒤(발송 이력 순서상 다음)인지 확인합니다.
+     * 조회 DB의 (request_time, id, r.id) &lt; (?, ?, ?) 조건과 같습니다.
+     */
+    private static boolean isBefore(long requestMicros, String emailId, String recipientId, EmailHistoryCursor after) {
+        long afterMicros = HistoryArchiveFormat.toMicros(after.getRequestTime());
+        if (requestMicros != afterMicros) {
+            return requestMicros < afterMicros;
+        }
+        int byEmail = emailId.compareTo(after.getEmailId());
+        if (byEmail != 0) {
+            return byEmail < 0;
+        }
+        return recipientId.compareTo(after.getRecipientId()) < 0;
+    }
+
+    private static boolean matches(String expected, String actual) {
+        return expected == null || expected.isEmpty() || expected.equals(actual);
+    }
+
+    // 조회 DB의 recipient_key와 같이 대소문자와 앞뒤 공백을 무시하고 비교합니다.
+    private static boolean matchesRecipient(String expected, String actual) {
+        return expected == null || expected.isEmpty()
+                || (actual != null && expected.strip().equalsIgnoreCase(actual.strip()));
+    }
+
+    private static byte[] inflate(byte[] compressed) throws IOException {
+        try (InflaterInputStream inflating = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return inflating.readAllBytes();
+        }
+    }
+
+    private static String[] decodeStrings(ByteCursor cursor, int rows) {
+        int dictionarySize = cursor.readVarInt();
+        String[] dictionary = new String[dictionarySize];
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary[i] = new String(cursor.readBytes(cursor.readVarInt()), StandardCharsets.UTF_8);
+        }
+
+        String[] values = new String[rows];
+        for (int row = 0; row < rows; row++) {
+            int code = cursor.readVarInt();
+            values[row] = code == 0 ? null : dictionary[code - 1];
+        }
+        return values;
+    }
+
+    // null은 Long.MIN_VALUE로 표현합니다.
+    private static long[] decodeTimes(ByteCursor cursor, int rows) {
+        long[] values = new long[rows];
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            long encoded = cursor.readVarLong();
+            if (encoded == 0) {
+                values[row] = Long.MIN_VALUE;
+                continue;
+            }
+            previous += HistoryArchiveFormat.unzigzag(encoded - 1);
+            values[row] = previous;
+        }
+        return values;
+    }
+}
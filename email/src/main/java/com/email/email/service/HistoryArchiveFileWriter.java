@@ -0,0 +1,217 @@
+package com.email.email.service;
+
+import com.email.email.service.HistoryArchiveFormat.Column;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 한 달치 발송 이력을 ResultSet에서 읽어 컬럼 단위 압축 아카이브 파일로 쓰는 클래스입니다.
+ * 행을 행그룹 크기만큼 컬럼별로 모았다가 압축해 기록하며, 형식은 {@link HistoryArchiveFormat}을 따릅니다.
+ * 컬럼 이름은 {@link com.email.email.repository.HistoryArchiveRepository#streamMonth}의 조회 결과를 따릅니다.
+ */
+public class HistoryArchiveFileWriter implements RowCallbackHandler {
+
+    private static final Column[] COLUMNS = Column.values();
+
+    private final DataOutputStream out;
+    private final String[][] strings = new String[COLUMNS.length][];
+    private final long[][] times = new long[COLUMNS.length][];
+    private final boolean[][] timeNulls = new boolean[COLUMNS.length][];
+
+    private int groupRows;
+    private long rowCount;
+    private long minRequestMicros = Long.MAX_VALUE;
+    private long maxRequestMicros = Long.MIN_VALUE;
+
+    public HistoryArchiveFileWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        for (Column column : COLUMNS) {
+            if (column.timestamp) {
+                times[column.ordinal()] = new long[HistoryArchiveFormat.ROW_GROUP_SIZE];
+                timeNulls[column.ordinal()] = new boolean[HistoryArchiveFormat.ROW_GROUP_SIZE];
+            } else {
+                strings[column.ordinal()] = new String[HistoryArchiveFormat.ROW_GROUP_SIZE];
+            }
+        }
+        this.out.writeInt(HistoryArchiveFormat.MAGIC);
+        this.out.writeInt(HistoryArchiveFormat.VERSION);
+    }
+
+    /**
+     * 현재 행을 행그룹에 추가하고, 행그룹이 차면 파일에 기록합니다.
+     *
+     * @param rs 조회 결과
+     * @throws SQLException 컬럼 읽기 실패 시
+     */
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        int row = groupRows;
+        String emailId = rs.getString(Column.EMAIL_ID.label);
+
+        // 같은 이메일의 연속된 행은 본문 등 이메일 컬럼을 다시 읽지 않고 앞 행의 값을 씁니다.
+        boolean sameEmail = row > 0 && emailId.equals(strings[Column.EMAIL_ID.ordinal()][row - 1]);
+
+        for (Column column : COLUMNS) {
+            int index = column.ordinal();
+            if (sameEmail && index <= Column.LAST_EMAIL_COLUMN) {
+                if (column.timestamp) {
+                    times[index][row] = times[index][row - 1];
+                    timeNulls[index][row] = timeNulls[index][row - 1];
+                } else {
+                    strings[index][row] = strings[index][row - 1];
+                }
+            } else if (column.timestamp) {
+                Timestamp value = rs.getTimestamp(column.label);
+                timeNulls[index][row] = value == null;
+                times[index][row] = value != null ? HistoryArchiveFormat.toMicros(value.toLocalDateTime()) : 0L;
+            } else {
+                strings[index][row] = rs.getString(column.label);
+            }
+        }
+
+        long requestMicros = times[Column.REQUEST_TIME.ordinal()][row];
+        minRequestMicros = Math.min(minRequestMicros, requestMicros);
+        maxRequestMicros = Math.max(maxRequestMicros, requestMicros);
+
+        groupRows++;
+        rowCount++;
+        if (groupRows == HistoryArchiveFormat.ROW_GROUP_SIZE) {
+            try {
+                flushGroup();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 남은 행그룹과 파일 끝 통계를 기록합니다.
+     *
+     * @throws IOException 쓰기 실패 시
+     */
+    public void finish() throws IOException {
+        flushGroup();
+        out.writeInt(0);
+        out.writeLong(rowCount);
+        out.writeLong(minRequestMicros);
+        out.writeLong(maxRequestMicros);
+        out.flush();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public LocalDateTime getMinRequestTime() {
+        return rowCount > 0 ? HistoryArchiveFormat.fromMicros(minRequestMicros) : null;
+    }
+
+    public LocalDateTime getMaxRequestTime() {
+        return rowCount > 0 ? HistoryArchiveFormat.fromMicros(maxRequestMicros) : null;
+    }
+
+    private void flushGroup() throws IOException {
+        if (groupRows == 0) {
+            return;
+        }
+
+        long[] requestTimes = times[Column.REQUEST_TIME.ordinal()];
+        long groupMin = Long.MAX_VALUE;
+        long groupMax = Long.MIN_VALUE;
+        for (int row = 0; row < groupRows; row++) {
+            groupMin = Math.min(groupMin, requestTimes[row]);
+            groupMax = Math.max(groupMax, requestTimes[row]);
+        }
+
+        out.writeInt(groupRows);
+        out.writeLong(groupMin);
+        out.writeLong(groupMax);
+
+        for (Column column : COLUMNS) {
+            byte[] compressed = compress(column.timestamp
+                    ? encodeTimes(times[column.ordinal()], timeNulls[column.ordinal()])
+                    : encodeStrings(strings[column.ordinal()]));
+            out.writeInt(compressed.length);
+            out.write(compressed);
+        }
+
+        // 다음 행그룹이 이전 문자열을 붙잡고 있지 않도록 비웁니다.
+        for (String[] values : strings) {
+            if (values != null) {
+                Arrays.fill(values, 0, groupRows, null);
+            }
+        }
+        groupRows = 0;
+    }
+
+    private byte[] encodeStrings(String[] values) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int[] codes = new int[groupRows];
+        ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+
+        for (int row = 0; row < groupRows; row++) {
+            String value = values[row];
+            if (value == null) {
+                codes[row] = 0;
+                continue;
+            }
+            Integer code = dictionary.get(value);
+            if (code == null) {
+                code = dictionary.size() + 1;
+                dictionary.put(value, code);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                HistoryArchiveFormat.writeVarLong(dictionaryBytes, bytes.length);
+                dictionaryBytes.writeBytes(bytes);
+            }
+            codes[row] = code;
+        }
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(dictionaryBytes.size() + groupRows * 2 + 8);
+        HistoryArchiveFormat.writeVarLong(encoded, dictionary.size());
+        dictionaryBytes.writeTo(encoded);
+        for (int row = 0; row < groupRows; row++) {
+            HistoryArchiveFormat.writeVarLong(encoded, codes[row]);
+        }
+        return encoded.toByteArray();
+    }
+
+    private byte[] encodeTimes(long[] values, boolean[] nulls) {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(groupRows * 4);
+        long previous = 0;
+        for (int row = 0; row < groupRows; row++) {
+            if (nulls[row]) {
+                HistoryArchiveFormat.writeVarLong(encoded, 0);
+                continue;
+            }
+            HistoryArchiveFormat.writeVarLong(encoded, HistoryArchiveFormat.zigzag(values[row] - previous) + 1);
+            previous = values[row];
+        }
+        return encoded.toByteArray();
+    }
+
+    private static byte[] compress(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DeflaterOutputStream deflating = new DeflaterOutputStream(compressed, deflater)) {
+            deflating.write(bytes);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,121 @@
+package com.email.email.service;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 발송 이력 아카이브 파일(.eha)의 형식 정의 클래스입니다.
+ *
+ * <pre>
+ * 파일   := MAGIC(int) VERSION(int) 행그룹* 0(int) 전체행수(long) 최소요청시각(long) 최대요청시각(long)
+ * 행그룹 := 행수(int) 최소요청시각(long) 최대요청시각(long) { 압축길이(int) 압축컬럼(byte[]) } * 컬럼 수
+ * </pre>
+ *
+ * 컬럼은 행그룹마다 따로 Deflate 압축하므로 읽는 쪽은 필요 없는 컬럼(본문 등)을 압축 해제 없이 건너뜁니다.
+ * 문자열 컬럼은 행그룹 단위 사전 + 행별 코드(0은 null), 시각 컬럼은 마이크로초 차분의 zigzag 가변 길이 정수(0은 null)로 기록합니다.
+ * 행은 발송 이력 순서(요청 시간, 이메일 ID, 수신자 ID 내림차순)로 저장합니다.
+ */
+final class HistoryArchiveFormat {
+
+    static final int MAGIC = 0x45484131; // "EHA1"
+    static final int VERSION = 1;
+    static final int ROW_GROUP_SIZE = 8192;
+
+    /**
+     * 아카이브 컬럼 정의입니다. 이름은 조회 SQL의 컬럼 별칭과 같습니다.
+     */
+    enum Column {
+        EMAIL_ID("email_id", false),
+        USER_ID("user_id", false),
+        SUBJECT("subject", false),
+        SENDER_EMAIL("sender_email", false),
+        SENDER_NAME("sender_name", false),
+        CONTENT("content", false),
+        REQUEST_TIME("request_time", true),
+        STATUS("status", false),
+        EMAIL_CREATED_AT("email_created_at", true),
+        EMAIL_UPDATED_AT("email_updated_at", true),
+        RECIPIENT_ID("recipient_id", false),
+        RECIPIENT_EMAIL("recipient_email", false),
+        RECIPIENT_STATUS("recipient_status", false),
+        RECEIVE_TIME("receive_time", true),
+        FAIL_REASON("fail_reason", false),
+        RECIPIENT_CREATED_AT("recipient_created_at", true),
+        RECIPIENT_UPDATED_AT("recipient_updated_at", true);
+
+        // 같은 이메일의 연속된 행에서는 이 컬럼까지 값이 같습니다.
+        static final int LAST_EMAIL_COLUMN = EMAIL_UPDATED_AT.ordinal();
+
+        final String label;
+        final boolean timestamp;
+
+        Column(String label, boolean timestamp) {
+            this.label = label;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private HistoryArchiveFormat() {
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 압축 해제한 컬럼 바이트를 순서대로 읽는 커서입니다.
+     */
+    static final class ByteCursor {
+        private final byte[] bytes;
+        private int position;
+
+        ByteCursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        byte[] readBytes(int length) {
+            byte[] value = new byte[length];
+            System.arraycopy(bytes, position, value, 0, length);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.email.email.service;
+
+import com.email.email.domain.EmailHistoryCursor;
+import com.email.email.domain.EmailHistoryFilter;
+import com.email.email.domain.EmailHistoryRow;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+* 발송 이력 아카이브 서비스 인터페이스입니다.
+* 오래된 달의 이메일과 수신자를 컬럼 단위 압축 파일로 옮기고, 발송 이력 조회 시 아카이브를 함께 읽습니다.
+*/
+public interface HistoryArchiveService {
+   
+   /**
+    * 보관 기준보다 오래된 달을 오래된 순으로 아카이브합니다.
+    */
+   void archiveColdMonths();
+   
+   /**
+    * 아카이브된 달에서 필터 조건에 맞는 발송 이력을 조회합니다.
+    * 아카이브된 달은 조회 DB에 남아 있는 달보다 항상 이전이므로, 조회 DB 결과 뒤에 이어 붙이면 발송 이력 순서가 유지됩니다.
+    *
+    * @param filters 발송 이력 필터 조건
+    * @param after 이전 페이지의 마지막 행 커서 (첫 페이지이면 null)
+    * @param limit 최대 조회 행 수
+    * @return 발송 이력 행 목록
+    */
+   List<EmailHistoryRow> findEmailHistory(EmailHistoryFilter filters, EmailHistoryCursor after, int limit);
+   
+   /**
+    * 아카이브된 달에서 필터 조건에 맞는 발송 이력을 최근 순으로 모두 읽어 행마다 처리기에 넘깁니다.
+    * 조회 DB 스트리밍 뒤에 이어서 호출하면 전체 기간의 발송 이력이 순서대로 전달됩니다.
+    *
+    * @param filters 발송 이력 필터 조건
+    * @param pageSize 한 번에 읽을 행 수
+    * @param rowHandler 행 처리기
+    */
+   void streamEmailHistory(EmailHistoryFilter filters, int pageSize, Consumer<EmailHistoryRow> rowHandler);
+}
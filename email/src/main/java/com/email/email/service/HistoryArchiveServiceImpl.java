@@ -0,0 +1,310 @@
+package com.email.email.service;
+
+import com.email.common.exception.InfraException;
+import com.email.email.domain.EmailHistoryCursor;
+import com.email.email.domain.EmailHistoryFilter;
+import com.email.email.domain.EmailHistoryRow;
+import com.email.email.domain.HistoryArchive;
+import com.email.email.repository.HistoryArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+* 발송 이력 아카이브 서비스 구현 클래스입니다.
+* 원본인 커맨드 DB에서 한 달치 이메일-수신자 행을 컬럼 단위 압축 파일로 기록해 로컬 또는 Blob에 저장한 뒤,
+* 파일 목록에 등록하면서 해당 월 파티션을 분리 후 삭제합니다.
+* 조회 DB에 반영되지 않은 변경이 남아 있거나 파일 행 수가 커맨드 DB 행 수와 다르면 아무것도 삭제하지 않습니다.
+* 커맨드 DB를 먼저 정리한 뒤 조회 DB를 정리하므로, 프로젝터가 아카이브된 달의 행을 조회 DB에 다시 쓰지 않습니다.
+*/
+@Slf4j
+@Service
+public class HistoryArchiveServiceImpl implements HistoryArchiveService {
+
+   private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+   private static final int ARCHIVE_FETCH_SIZE = 5000;
+   private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+   private static final String STORAGE_LOCAL = "local";
+   private static final String STORAGE_BLOB = "blob";
+
+   private final HistoryArchiveRepository historyArchiveRepository;
+   private final BlobStorageClient blobStorageClient;
+
+   @Value("${email.archive.enabled:false}")
+   private boolean enabled;
+
+   @Value("${email.archive.after-months:6}")
+   private int afterMonths;
+
+   @Value("${email.archive.storage:local}")
+   private String storage;
+
+   @Value("${email.archive.local-dir:${java.io.tmpdir}/email-archives}")
+   private String localDir;
+
+   @Value("${email.archive.blob-container:email-archives}")
+   private String blobContainer;
+
+   public HistoryArchiveServiceImpl(HistoryArchiveRepository historyArchiveRepository,
+                                    BlobStorageClient blobStorageClient) {
+       this.historyArchiveRepository = historyArchiveRepository;
+       this.blobStorageClient = blobStorageClient;
+   }
+
+   /**
+    * 보관 기준보다 오래된 달을 오래된 순으로 아카이브합니다.
+    * 커맨드 DB 정리 후 조회 DB 정리 전에 중단된 달도 이어서 처리하도록 두 DB의 월 파티션을 함께 봅니다.
+    * 한 달이라도 실패하면 순서가 어긋나지 않도록 이후 달은 다음 주기에 처리합니다.
+    */
+   @Override
+   @Scheduled(fixedDelayString = "${email.archive.interval-ms:86400000}",
+           initialDelayString = "${email.archive.initial-delay-ms:600000}")
+   public void archiveColdMonths() {
+       if (!enabled) {
+           return;
+       }
+
+       LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(afterMonths);
+       Set<LocalDate> commandMonths = Set.copyOf(historyArchiveRepository.findPartitionMonthsBefore(cutoff));
+       Set<LocalDate> months = new TreeSet<>(commandMonths);
+       months.addAll(historyArchiveRepository.findQueryPartitionMonthsBefore(cutoff));
+
+       for (LocalDate month : months) {
+           try {
+               archiveMonth(month, commandMonths.contains(month));
+           } catch (Exception e) {
+               log.error("발송 이력 아카이브 실패, 다음 주기에 재시도합니다: month={}", month, e);
+               return;
+           }
+       }
+   }
+
+   /**
+    * 아카이브된 달에서 필터 조건에 맞는 발송 이력을 조회합니다.
+    * 파일 목록의 요청 시각 최소/최대값으로 조회 기간이나 커서와 겹치지 않는 파일은 열지 않습니다.
+    *
+    * @param filters 발송 이력 필터 조건
+    * @param after 이전 페이지의 마지막 행 커서 (첫 페이지이면 null)
+    * @param limit 최대 조회 행 수
+    * @return 발송 이력 행 목록
+    */
+   @Override
+   public List<EmailHistoryRow> findEmailHistory(EmailHistoryFilter filters, EmailHistoryCursor after, int limit) {
+       LocalDateTime from = filters.getStartDate().atStartOfDay();
+       LocalDateTime to = filters.getEndDate().plusDays(1).atStartOfDay();
+       List<EmailHistoryRow> rows = new ArrayList<>();
+
+       // 월별 파일은 기간이 겹치지 않으므로 최근 파일부터 읽으면 발송 이력 순서가 유지됩니다.
+       for (HistoryArchive archive : historyArchiveRepository.findArchivesOverlapping(from, to)) {
+           if (rows.size() >= limit) {
+               break;
+           }
+           if (after != null && archive.getMinRequestTime().isAfter(after.getRequestTime())) {
+               continue;
+           }
+
+           try {
+               new HistoryArchiveFileReader(resolveLocalFile(archive)).readHistory(filters, after, limit, rows);
+           } catch (IOException e) {
+               log.error("발송 이력 아카이브 읽기 오류: month={}, location={}", archive.getMonth(), archive.getLocation(), e);
+               throw new InfraException(500, "보관된 발송 이력을 읽을 수 없습니다.", e);
+           }
+       }
+       return rows;
+   }
+
+   /**
+    * 아카이브된 달에서 필터 조건에 맞는 발송 이력을 페이지 단위로 모두 읽어 행마다 처리기에 넘깁니다.
+    * 페이지마다 마지막 행을 커서로 삼으므로 한 번에 메모리에 올리는 행은 pageSize를 넘지 않습니다.
+    *
+    * @param filters 발송 이력 필터 조건
+    * @param pageSize 한 번에 읽을 행 수
+    * @param rowHandler 행 처리기
+    */
+   @Override
+   public void streamEmailHistory(EmailHistoryFilter filters, int pageSize, Consumer<EmailHistoryRow> rowHandler) {
+       EmailHistoryCursor after = null;
+       List<EmailHistoryRow> page;
+       do {
+           page = findEmailHistory(filters, after, pageSize);
+           page.forEach(rowHandler);
+           if (!page.isEmpty()) {
+               after = EmailHistoryCursor.of(page.get(page.size() - 1));
+           }
+       } while (page.size() >= pageSize);
+   }
+
+   /**
+    * 한 달치 발송 이력을 아카이브 파일로 기록하고, 커맨드 DB에서 제거한 뒤 파일 목록에 등록하면서 조회 DB에서 제거합니다.
+    * 커맨드 DB가 이미 정리된 달은 저장해 둔 파일로 등록만 하고,
+    * 이미 등록된 달은 이전 방식(조회 DB 먼저 정리)으로 남은 커맨드 DB 월 파티션만 정리합니다.
+    *
+    * @param month 월 시작 날짜
+    * @param commandPartitionExists 커맨드 DB에 해당 월 파티션이 남아 있는지 여부
+    */
+   private void archiveMonth(LocalDate month, boolean commandPartitionExists) throws IOException {
+       Optional<HistoryArchive> registered = historyArchiveRepository.findArchive(month);
+       if (registered.isPresent()) {
+           if (commandPartitionExists) {
+               historyArchiveRepository.purgeCommandMonth(month, registered.get().getRowCount());
+           }
+           return;
+       }
+
+       long start = System.currentTimeMillis();
+       String fileName = "email-history-" + month.format(MONTH_FORMATTER) + ".eha";
+       Path directory = Files.createDirectories(Paths.get(localDir));
+
+       HistoryArchive archive;
+       if (commandPartitionExists) {
+           archive = writeArchive(month, fileName, directory);
+           historyArchiveRepository.purgeCommandMonth(month, archive.getRowCount());
+       } else {
+           archive = recoverArchive(month, fileName, directory);
+       }
+       historyArchiveRepository.saveArchiveAndPurgeMonth(archive);
+
+       log.info("발송 이력 아카이브 완료: month={}, rows={}, bytes={}, elapsedMs={}",
+               month, archive.getRowCount(), archive.getFileSize(), System.currentTimeMillis() - start);
+   }
+
+   /**
+    * 커맨드 DB에서 한 달치 발송 이력을 읽어 아카이브 파일로 기록하고 로컬 또는 Blob에 저장합니다.
+    * 미반영 변경이 있거나 파일 행 수가 커맨드 DB 행 수와 다르면 저장하지 않고 예외를 던집니다.
+    *
+    * @param month 월 시작 날짜
+    * @param fileName 아카이브 파일 이름
+    * @param directory 로컬 아카이브 디렉터리
+    * @return 등록할 아카이브 파일 정보
+    */
+   private HistoryArchive writeArchive(LocalDate month, String fileName, Path directory) throws IOException {
+       // 프로젝션이 밀려 있으면 조회 DB와 커맨드 DB가 어긋난 상태이므로 다음 주기로 미룹니다.
+       if (historyArchiveRepository.hasPendingChanges(month)) {
+           throw new IllegalStateException("조회 DB에 반영되지 않은 변경이 있어 아카이브를 미룹니다: month=" + month);
+       }
+
+       Path partFile = directory.resolve(fileName + ".part");
+       HistoryArchiveFileWriter writer;
+       try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partFile), WRITE_BUFFER_SIZE)) {
+           writer = new HistoryArchiveFileWriter(out);
+           historyArchiveRepository.streamMonth(month, ARCHIVE_FETCH_SIZE, writer);
+           writer.finish();
+
+           long commandRows = historyArchiveRepository.countMonthRows(month);
+           if (writer.getRowCount() != commandRows) {
+               throw new IllegalStateException(String.format(
+                       "아카이브 행 수(%d)가 커맨드 DB 행 수(%d)와 다릅니다: month=%s", writer.getRowCount(), commandRows, month));
+           }
+       } catch (IOException | RuntimeException e) {
+           Files.deleteIfExists(partFile);
+           throw e;
+       }
+
+       long fileSize = Files.size(partFile);
+       String location;
+       if (STORAGE_BLOB.equalsIgnoreCase(storage)) {
+           location = blobLocation(fileName);
+           blobStorageClient.uploadFile(blobContainer, location, partFile);
+           Files.deleteIfExists(partFile);
+       } else {
+           Path targetFile = directory.resolve(fileName);
+           Files.move(partFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+           location = targetFile.toString();
+       }
+
+       return HistoryArchive.builder()
+               .month(month)
+               .storage(STORAGE_BLOB.equalsIgnoreCase(storage) ? STORAGE_BLOB : STORAGE_LOCAL)
+               .location(location)
+               .minRequestTime(writer.getMinRequestTime())
+               .maxRequestTime(writer.getMaxRequestTime())
+               .rowCount(writer.getRowCount())
+               .fileSize(fileSize)
+               .createdAt(LocalDateTime.now())
+               .build();
+   }
+
+   /**
+    * 커맨드 DB 정리 후 등록 전에 중단된 달의 아카이브 파일 정보를 저장해 둔 파일의 끝 통계로 다시 만듭니다.
+    *
+    * @param month 월 시작 날짜
+    * @param fileName 아카이브 파일 이름
+    * @param directory 로컬 아카이브 디렉터리
+    * @return 등록할 아카이브 파일 정보
+    */
+   private HistoryArchive recoverArchive(LocalDate month, String fileName, Path directory) throws IOException {
+       boolean blob = STORAGE_BLOB.equalsIgnoreCase(storage);
+       HistoryArchive stored = HistoryArchive.builder()
+               .month(month)
+               .storage(blob ? STORAGE_BLOB : STORAGE_LOCAL)
+               .location(blob ? blobLocation(fileName) : directory.resolve(fileName).toString())
+               .build();
+
+       Path localFile = resolveLocalFile(stored);
+       if (Files.notExists(localFile)) {
+           throw new IllegalStateException("커맨드 DB에서 정리된 달의 아카이브 파일이 없습니다: month=" + month
+                   + ", location=" + stored.getLocation());
+       }
+       HistoryArchiveFileReader.Summary summary = new HistoryArchiveFileReader(localFile).readSummary();
+       log.info("중단된 발송 이력 아카이브 이어서 등록: month={}, location={}", month, stored.getLocation());
+
+       return HistoryArchive.builder()
+               .month(month)
+               .storage(stored.getStorage())
+               .location(stored.getLocation())
+               .minRequestTime(summary.getMinRequestTime())
+               .maxRequestTime(summary.getMaxRequestTime())
+               .rowCount(summary.getRowCount())
+               .fileSize(Files.size(localFile))
+               .createdAt(LocalDateTime.now())
+               .build();
+   }
+
+   private static String blobLocation(String fileName) {
+       return "history/" + fileName;
+   }
+
+   /**
+    * 아카이브 파일의 로컬 경로를 반환합니다. Blob에 있는 파일은 한 번 내려받아 로컬에 캐시합니다.
+    * 아카이브 파일은 기록 후 바뀌지 않으므로 캐시를 무효화할 필요가 없습니다.
+    *
+    * @param archive 아카이브 파일 정보
+    * @return 로컬 파일 경로
+    */
+   private Path resolveLocalFile(HistoryArchive archive) throws IOException {
+       if (!STORAGE_BLOB.equals(archive.getStorage())) {
+           return Paths.get(archive.getLocation());
+       }
+
+       Path cacheDirectory = Files.createDirectories(Paths.get(localDir, "cache"));
+       Path cachedFile = cacheDirectory.resolve(Paths.get(archive.getLocation()).getFileName());
+       if (Files.notExists(cachedFile)) {
+           Path partFile = Files.createTempFile(cacheDirectory, cachedFile.getFileName().toString(), ".part");
+           try {
+               blobStorageClient.downloadFile(blobContainer, archive.getLocation(), partFile);
+               Files.move(partFile, cachedFile, StandardCopyOption.REPLACE_EXISTING);
+           } finally {
+               Files.deleteIfExists(partFile);
+           }
+       }
+       return cachedFile;
+   }
+}
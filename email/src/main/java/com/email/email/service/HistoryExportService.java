@@ -0,0 +1,54 @@
+package com.email.email.service;
+
+import com.email.email.dto.HistoryExportRequest;
+import com.email.email.dto.HistoryExportResponse;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+* 발송 이력 내보내기 서비스 인터페이스입니다.
+*/
+public interface HistoryExportService {
+   
+   /**
+    * 발송 이력 내보내기 작업을 등록합니다.
+    *
+    * @param request 내보내기 요청
+    * @return 등록된 작업 정보
+    */
+   HistoryExportResponse submitExport(HistoryExportRequest request);
+   
+   /**
+    * 내보내기 작업 상태를 조회합니다.
+    *
+    * @param jobId 작업 ID
+    * @return 작업 정보
+    */
+   HistoryExportResponse getExport(String jobId);
+   
+   /**
+    * 완료된 내보내기 파일의 다운로드 정보를 조회합니다.
+    *
+    * @param jobId 작업 ID
+    * @return 다운로드 정보
+    */
+   ExportDownload getExportDownload(String jobId);
+   
+   /**
+    * 내보내기 파일 다운로드 정보 클래스입니다.
+    * 로컬 저장소이면 파일 경로를, Blob 저장소이면 읽기 전용 URL을 가집니다.
+    */
+   @Getter
+   class ExportDownload {
+       private final String fileName;
+       private final Path localFile;
+       private final String redirectUrl;
+       
+       public ExportDownload(String fileName, Path localFile, String redirectUrl) {
+           this.fileName = fileName;
+           this.localFile = localFile;
+           this.redirectUrl = redirectUrl;
+       }
+   }
+}
@@ -0,0 +1,391 @@
+package com.email.email.service;
+
+import com.email.common.exception.BusinessException;
+import com.email.common.exception.ErrorCode;
+import com.email.common.exception.InfraException;
+import com.email.common.util.ValidationUtils;
+import com.email.email.domain.EmailHistoryFilter;
+import com.email.email.domain.ExportFormat;
+import com.email.email.domain.ExportJobStatus;
+import com.email.email.domain.HistoryExportJob;
+import com.email.email.dto.HistoryExportRequest;
+import com.email.email.dto.HistoryExportResponse;
+import com.email.email.repository.EmailRepository;
+import com.email.email.repository.HistoryExportJobRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+* 발송 이력 내보내기 서비스 구현 클래스입니다.
+* 수신자별 발송 이력 조회 결과를 서버 측 커서로 읽고 아카이브된 달을 이어 읽어 gzip 압축 CSV 또는 NDJSON 파일로 기록하며,
+* 작업은 우선순위가 낮은 전용 스레드 풀에서 실행합니다.
+* 작업 상태는 명령 DB에 저장하므로 재시작 후에도, 다른 인스턴스에서도 조회할 수 있습니다.
+* 실행 중인 인스턴스가 주기적으로 진행 상황을 기록하며, 기록이 끊긴 작업은 FAILED로 정리합니다.
+* 로컬 저장소(email.export.storage=local)의 파일은 작업을 실행한 인스턴스에서만 내려받을 수 있으므로
+* 여러 인스턴스로 운영할 때는 Blob 저장소를 사용해야 합니다.
+*/
+@Slf4j
+@Service
+public class HistoryExportServiceImpl implements HistoryExportService {
+
+   private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+   private static final int EXPORT_FETCH_SIZE = 5000;
+   private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+   private static final String STORAGE_BLOB = "blob";
+   private static final String STALE_JOB_MESSAGE = "작업을 실행하던 인스턴스가 중단되었습니다.";
+
+   private final EmailRepository emailRepository;
+   private final HistoryArchiveService historyArchiveService;
+   private final HistoryExportJobRepository jobRepository;
+   private final BlobStorageClient blobStorageClient;
+   private final ObjectMapper objectMapper;
+   private final ThreadPoolTaskExecutor exportExecutor;
+
+   // 이 인스턴스에서 대기 중이거나 실행 중인 작업 (진행 상황 기록용)
+   private final Map<String, ExportJob> localJobs = new ConcurrentHashMap<>();
+
+   @Value("${email.export.local-dir:${java.io.tmpdir}/email-exports}")
+   private String localDir;
+
+   @Value("${email.export.storage:local}")
+   private String storage;
+
+   @Value("${email.export.blob-container:email-exports}")
+   private String blobContainer;
+
+   @Value("${email.export.download-url-validity-minutes:30}")
+   private long downloadUrlValidityMinutes;
+
+   @Value("${email.export.retention-hours:24}")
+   private long retentionHours;
+
+   @Value("${email.export.stale-minutes:10}")
+   private long staleMinutes;
+
+   @Value("${email.export.instance-id:${HOSTNAME:local}}")
+   private String instanceId;
+
+   public HistoryExportServiceImpl(EmailRepository emailRepository,
+                                   HistoryArchiveService historyArchiveService,
+                                   HistoryExportJobRepository jobRepository,
+                                   BlobStorageClient blobStorageClient,
+                                   ObjectMapper objectMapper,
+                                   @Qualifier("historyExportExecutor") ThreadPoolTaskExecutor exportExecutor) {
+       this.emailRepository = emailRepository;
+       this.historyArchiveService = historyArchiveService;
+       this.jobRepository = jobRepository;
+       this.blobStorageClient = blobStorageClient;
+       this.objectMapper = objectMapper;
+       this.exportExecutor = exportExecutor;
+   }
+
+   /**
+    * 발송 이력 내보내기 작업을 등록합니다.
+    *
+    * @param request 내보내기 요청
+    * @return 등록된 작업 정보
+    */
+   @Override
+   public HistoryExportResponse submitExport(HistoryExportRequest request) {
+       // 조회 API와 같은 기간 제한을 적용합니다.
+       if (!ValidationUtils.validateDateRange(request.getStartDate(), request.getEndDate(),
+               EmailHistoryFilter.MAX_HISTORY_DAYS)) {
+           throw new BusinessException(ErrorCode.BAD_REQUEST,
+                   String.format("내보내기 기간은 시작일부터 최대 %d일까지 지정할 수 있습니다.", EmailHistoryFilter.MAX_HISTORY_DAYS));
+       }
+
+       ExportFormat format = request.getFormat() != null ? request.getFormat() : ExportFormat.CSV;
+       EmailHistoryFilter filter = EmailHistoryFilter.builder()
+               .startDate(request.getStartDate())
+               .endDate(request.getEndDate())
+               .senderEmail(request.getSenderEmail())
+               .status(request.getStatus())
+               .recipientEmail(request.getRecipientEmail())
+               .build();
+
+       ExportJob job = new ExportJob(UUID.randomUUID().toString(), format, filter);
+       HistoryExportJob saved = HistoryExportJob.builder()
+               .id(job.id)
+               .format(format)
+               .status(ExportJobStatus.QUEUED)
+               .owner(instanceId)
+               .requestedTime(LocalDateTime.now())
+               .build();
+       jobRepository.insert(saved);
+       localJobs.put(job.id, job);
+
+       try {
+           exportExecutor.execute(() -> runExport(job));
+       } catch (TaskRejectedException e) {
+           localJobs.remove(job.id);
+           jobRepository.deleteById(job.id);
+           throw new InfraException(503, "대기 중인 내보내기 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+       }
+
+       log.info("발송 이력 내보내기 등록: jobId={}, format={}, startDate={}, endDate={}",
+               job.id, format, request.getStartDate(), request.getEndDate());
+       return toResponse(saved);
+   }
+
+   /**
+    * 내보내기 작업 상태를 조회합니다.
+    *
+    * @param jobId 작업 ID
+    * @return 작업 정보
+    */
+   @Override
+   public HistoryExportResponse getExport(String jobId) {
+       return toResponse(findJob(jobId));
+   }
+
+   /**
+    * 완료된 내보내기 파일의 다운로드 정보를 조회합니다.
+    *
+    * @param jobId 작업 ID
+    * @return 다운로드 정보
+    */
+   @Override
+   public ExportDownload getExportDownload(String jobId) {
+       HistoryExportJob job = findJob(jobId);
+       if (job.getStatus() != ExportJobStatus.COMPLETED) {
+           throw new BusinessException(ErrorCode.CONFLICT, "내보내기 작업이 완료되지 않았습니다: status=" + job.getStatus());
+       }
+
+       if (job.getBlobName() != null) {
+           String url = blobStorageClient.generateReadUrl(
+                   blobContainer, job.getBlobName(), Duration.ofMinutes(downloadUrlValidityMinutes));
+           return new ExportDownload(job.getFileName(), null, url);
+       }
+
+       Path localFile = job.getLocalPath() != null ? Paths.get(job.getLocalPath()) : null;
+       if (localFile == null || !Files.isReadable(localFile)) {
+           throw new BusinessException(ErrorCode.NOT_FOUND,
+                   "내보내기 파일이 이 인스턴스에 없습니다. 작업을 실행한 인스턴스(" + job.getOwner() + ")에서만 내려받을 수 있습니다.");
+       }
+       return new ExportDownload(job.getFileName(), localFile, null);
+   }
+
+   /**
+    * 이 인스턴스에서 대기 중이거나 실행 중인 작업의 진행 상황을 기록합니다.
+    * 기록이 email.export.stale-minutes 이상 끊긴 작업은 다른 인스턴스가 중단된 작업으로 정리합니다.
+    */
+   @Scheduled(fixedDelayString = "${email.export.heartbeat-interval-ms:60000}")
+   public void recordProgress() {
+       for (ExportJob job : localJobs.values()) {
+           try {
+               jobRepository.updateProgress(job.id, job.rowCount.get());
+           } catch (Exception e) {
+               log.warn("내보내기 진행 상황 기록 실패: jobId={}, error={}", job.id, e.getMessage());
+           }
+       }
+
+       int staleJobs = jobRepository.failStaleJobs(LocalDateTime.now().minusMinutes(staleMinutes), STALE_JOB_MESSAGE);
+       if (staleJobs > 0) {
+           log.warn("중단된 내보내기 작업 정리: count={}", staleJobs);
+       }
+   }
+
+   /**
+    * 보관 기간이 지난 작업과 이 인스턴스의 로컬 파일을 정리합니다.
+    * 로컬 파일은 작업 기록과 별개로 수정 시각을 기준으로 각 인스턴스가 정리하며,
+    * Blob에 올린 파일은 컨테이너 수명 주기 정책으로 정리합니다.
+    */
+   @Scheduled(fixedDelayString = "${email.export.cleanup-interval-ms:3600000}")
+   public void cleanupExpiredExports() {
+       LocalDateTime threshold = LocalDateTime.now().minusHours(retentionHours);
+
+       int deletedJobs = jobRepository.deleteFinishedBefore(threshold);
+       if (deletedJobs > 0) {
+           log.info("만료된 내보내기 작업 정리: count={}", deletedJobs);
+       }
+
+       Path directory = Paths.get(localDir);
+       if (!Files.isDirectory(directory)) {
+           return;
+       }
+       long thresholdMillis = System.currentTimeMillis() - Duration.ofHours(retentionHours).toMillis();
+       try (Stream<Path> files = Files.list(directory)) {
+           files.filter(file -> isModifiedBefore(file, thresholdMillis))
+                   .filter(file -> localJobs.values().stream().noneMatch(job -> file.getFileName().toString()
+                           .startsWith(job.fileName())))
+                   .forEach(this::deleteQuietly);
+       } catch (IOException e) {
+           log.warn("내보내기 디렉터리 정리 실패: dir={}, error={}", directory, e.getMessage());
+       }
+   }
+
+   /**
+    * 내보내기 작업을 실행합니다.
+    * 임시 파일에 기록한 뒤 완료되면 최종 파일로 이동하거나 Blob으로 업로드합니다.
+    *
+    * @param job 내보내기 작업
+    */
+   private void runExport(ExportJob job) {
+       long start = System.currentTimeMillis();
+       Path partFile = null;
+
+       try {
+           jobRepository.markRunning(job.id);
+
+           Path directory = Files.createDirectories(Paths.get(localDir));
+           Path targetFile = directory.resolve(job.fileName());
+           partFile = directory.resolve(job.fileName() + ".part");
+
+           try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(partFile), WRITE_BUFFER_SIZE)) {
+               if (job.format == ExportFormat.CSV) {
+                   writeCsv(job, out);
+               } else {
+                   writeNdjson(job, out);
+               }
+           }
+
+           if (STORAGE_BLOB.equalsIgnoreCase(storage)) {
+               String blobName = "history/" + job.fileName();
+               blobStorageClient.uploadFile(blobContainer, blobName, partFile);
+               deleteQuietly(partFile);
+               jobRepository.markCompleted(job.id, job.rowCount.get(), null, blobName);
+           } else {
+               Files.move(partFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+               jobRepository.markCompleted(job.id, job.rowCount.get(), targetFile.toString(), null);
+           }
+
+           log.info("발송 이력 내보내기 완료: jobId={}, rows={}, elapsedMs={}",
+                   job.id, job.rowCount.get(), System.currentTimeMillis() - start);
+       } catch (Exception e) {
+           log.error("발송 이력 내보내기 실패: jobId={}", job.id, e);
+           deleteQuietly(partFile);
+           try {
+               jobRepository.markFailed(job.id, job.rowCount.get(), e.getMessage());
+           } catch (Exception statusError) {
+               log.warn("내보내기 실패 상태 기록 실패: jobId={}, error={}", job.id, statusError.getMessage());
+           }
+       } finally {
+           localJobs.remove(job.id);
+       }
+   }
+
+   private void writeCsv(ExportJob job, OutputStream out) throws IOException {
+       Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+       EmailHistoryCsvWriter csvWriter = new EmailHistoryCsvWriter(writer);
+       csvWriter.writeHeader();
+       emailRepository.streamEmailHistory(job.filter, EXPORT_FETCH_SIZE, counting(csvWriter, job));
+       historyArchiveService.streamEmailHistory(job.filter, EXPORT_FETCH_SIZE, row -> {
+           csvWriter.writeRow(row);
+           job.rowCount.incrementAndGet();
+       });
+       writer.flush();
+   }
+
+   private void writeNdjson(ExportJob job, OutputStream out) throws IOException {
+       JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+       generator.setRootValueSeparator(new SerializedString("\n"));
+       EmailHistoryJsonWriter jsonWriter = new EmailHistoryJsonWriter(generator);
+       emailRepository.streamEmailHistory(job.filter, EXPORT_FETCH_SIZE, counting(jsonWriter, job));
+       historyArchiveService.streamEmailHistory(job.filter, EXPORT_FETCH_SIZE, row -> {
+           jsonWriter.writeRow(row);
+           job.rowCount.incrementAndGet();
+       });
+       generator.writeRaw('\n');
+       generator.flush();
+   }
+
+   private RowCallbackHandler counting(RowCallbackHandler delegate, ExportJob job) {
+       return rs -> {
+           delegate.processRow(rs);
+           job.rowCount.incrementAndGet();
+       };
+   }
+
+   private HistoryExportJob findJob(String jobId) {
+       return jobRepository.findById(jobId)
+               .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "내보내기 작업을 찾을 수 없습니다: " + jobId));
+   }
+
+   /**
+    * 작업 정보를 응답으로 변환합니다. 이 인스턴스에서 실행 중인 작업은 최신 행 수를 사용합니다.
+    */
+   private HistoryExportResponse toResponse(HistoryExportJob job) {
+       ExportJob localJob = localJobs.get(job.getId());
+       long rowCount = localJob != null ? Math.max(localJob.rowCount.get(), job.getRowCount()) : job.getRowCount();
+       boolean completed = job.getStatus() == ExportJobStatus.COMPLETED;
+
+       return HistoryExportResponse.builder()
+               .jobId(job.getId())
+               .status(job.getStatus().name())
+               .format(job.getFormat().name())
+               .rowCount(rowCount)
+               .requestedTime(job.getRequestedTime().format(DATE_TIME_FORMATTER))
+               .completedTime(job.getCompletedTime() != null ? job.getCompletedTime().format(DATE_TIME_FORMATTER) : null)
+               .downloadPath(completed ? "/api/emails/exports/" + job.getId() + "/download" : null)
+               .errorMessage(job.getErrorMessage())
+               .build();
+   }
+
+   private boolean isModifiedBefore(Path file, long thresholdMillis) {
+       try {
+           return Files.isRegularFile(file) && Files.getLastModifiedTime(file).toMillis() < thresholdMillis;
+       } catch (IOException e) {
+           return false;
+       }
+   }
+
+   private void deleteQuietly(Path file) {
+       if (file == null) {
+           return;
+       }
+       try {
+           Files.deleteIfExists(file);
+       } catch (IOException e) {
+           log.warn("내보내기 파일 삭제 실패: file={}, error={}", file, e.getMessage());
+       }
+   }
+
+   /**
+    * 이 인스턴스에서 실행하는 내보내기 작업 클래스입니다.
+    */
+   private static class ExportJob {
+       private final String id;
+       private final ExportFormat format;
+       private final EmailHistoryFilter filter;
+       private final AtomicLong rowCount = new AtomicLong();
+
+       ExportJob(String id, ExportFormat format, EmailHistoryFilter filter) {
+           this.id = id;
+           this.format = format;
+           this.filter = filter;
+       }
+
+       String fileName() {
+           return "email-history-" + id + "." + format.getExtension();
+       }
+   }
+}
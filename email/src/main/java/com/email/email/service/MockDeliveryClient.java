@@ -1,31 +1,67 @@
 package com.email.email.service;
 
+import com.email.common.dto.ApiResponse;
+import com.email.email.dto.DeliveryResult;
 import com.email.email.dto.EmailDeliveryRequest;
 import com.email.email.dto.MockDeliveryResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 목업 발송 서비스와 통신하는 클라이언트 클래스입니다.
+ * 수신자가 많으면 청크로 나누어 가상 스레드에서 동시에 요청하고,
+ * 청크별 응답을 하나의 발송 결과로 합칩니다.
  */
 @Component
-public class MockDeliveryClient {
+public class MockDeliveryClient implements DisposableBean {
 
     private static final Logger logger = LoggerFactory.getLogger(MockDeliveryClient.class);
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final ParameterizedTypeReference<ApiResponse<MockDeliveryResponse>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final String STATUS_DELIVERED = "DELIVERED";
+    private static final String STATUS_PARTIALLY_DELIVERED = "PARTIALLY_DELIVERED";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
 
     private final RestTemplate restTemplate;
     private final String mockServiceUrl;
+    private final int chunkSize;
+    private final int maxConcurrency;
+    private final ExecutorService chunkExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mock-delivery-", 0).factory());
 
     public MockDeliveryClient(
             RestTemplate restTemplate,
-            @Value("${mock.delivery.service-url:http://localhost:8082}") String mockServiceUrl) {
+            @Value("${mock.delivery.service-url:http://localhost:8082}") String mockServiceUrl,
+            @Value("${mock.delivery.chunk-size:500}") int chunkSize,
+            @Value("${mock.delivery.max-concurrency:8}") int maxConcurrency) {
         this.restTemplate = restTemplate;
         this.mockServiceUrl = mockServiceUrl;
-        logger.info("MockDeliveryClient 초기화: URL={}", mockServiceUrl);
+        this.chunkSize = chunkSize;
+        this.maxConcurrency = maxConcurrency;
+        logger.info("MockDeliveryClient 초기화: URL={}, chunkSize={}, maxConcurrency={}",
+                mockServiceUrl, chunkSize, maxConcurrency);
     }
 
     /**
@@ -35,16 +71,179 @@ public class MockDeliveryClient {
      * @return 발송 결과 응답
      */
     public MockDeliveryResponse deliverEmail(EmailDeliveryRequest request) {
+        List<String> recipients = request.getRecipientEmails();
+
+        if (recipients == null || recipients.size() <= chunkSize) {
+            return deliverChunk(request);
+        }
+
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < recipients.size(); from += chunkSize) {
+            chunks.add(recipients.subList(from, Math.min(from + chunkSize, recipients.size())));
+        }
+        logger.info("이메일 분할 발송 요청: emailId={}, recipients={}, chunks={}",
+                request.getEmailId(), recipients.size(), chunks.size());
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<MockDeliveryResponse>> futures = new ArrayList<>(chunks.size());
+
+        for (List<String> chunk : chunks) {
+            EmailDeliveryRequest chunkRequest = EmailDeliveryRequest.builder()
+                    .emailId(request.getEmailId())
+                    .senderEmail(request.getSenderEmail())
+                    .recipientEmails(chunk)
+                    .subject(request.getSubject())
+                    .content(request.getContent())
+                    .attachmentIds(request.getAttachmentIds())
+                    .build();
+
+            futures.add(chunkExecutor.submit(() -> {
+                permits.acquire();
+                try {
+                    return deliverChunk(chunkRequest);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        List<MockDeliveryResponse> responses = new ArrayList<>(chunks.size());
+        RuntimeException firstFailure = null;
+        int failedChunks = 0;
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                responses.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException re
+                        ? re
+                        : new IllegalStateException(e.getCause());
+                if (firstFailure == null) {
+                    firstFailure = cause;
+                }
+                failedChunks++;
+                logger.warn("청크 발송 실패: emailId={}, chunk={}, error={}", request.getEmailId(), i, cause.getMessage());
+                responses.add(failedChunk(chunks.get(i), cause));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("이메일 분할 발송이 중단되었습니다.", e);
+            }
+        }
+
+        // 모든 청크가 실패하면 단일 요청과 동일하게 예외를 전달합니다.
+        if (failedChunks == chunks.size()) {
+            throw firstFailure;
+        }
+
+        MockDeliveryResponse merged = merge(responses);
+        logger.info("이메일 분할 발송 완료: emailId={}, status={}", request.getEmailId(), merged.getDeliveryStatus());
+
+        return merged;
+    }
+
+    /**
+     * 애플리케이션 종료 시 진행 중인 청크 요청이 끝나기를 기다린 뒤 실행기를 종료합니다.
+     * 제한 시간 안에 끝나지 않은 청크는 인터럽트합니다.
+     */
+    @Override
+    public void destroy() {
+        chunkExecutor.shutdown();
+        try {
+            if (!chunkExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("청크 발송 실행기 종료 대기 시간 초과, 남은 요청을 중단합니다.");
+                chunkExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunkExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 단일 요청으로 목업 서비스에 발송을 요청합니다.
+     *
+     * @param request 이메일 발송 요청 정보
+     * @return 발송 결과 응답
+     */
+    private MockDeliveryResponse deliverChunk(EmailDeliveryRequest request) {
         String url = mockServiceUrl + "/api/mock/deliver";
-        logger.info("이메일 발송 요청: URL={}, 요청={}", url, request);
+        logger.info("이메일 발송 요청: URL={}, emailId={}, recipients={}", url, request.getEmailId(),
+                request.getRecipientEmails() != null ? request.getRecipientEmails().size() : 0);
+
+        ResponseEntity<ApiResponse<MockDeliveryResponse>> responseEntity =
+                restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(request), RESPONSE_TYPE);
 
-        ResponseEntity<MockDeliveryResponse> responseEntity =
-                restTemplate.postForEntity(url, request, MockDeliveryResponse.class);
+        ApiResponse<MockDeliveryResponse> body = responseEntity.getBody();
+        if (body == null || body.getData() == null) {
+            throw new IllegalStateException("목업 서비스 응답이 비어 있습니다: status=" + responseEntity.getStatusCode());
+        }
 
-        MockDeliveryResponse response = responseEntity.getBody();
-        logger.info("이메일 발송 응답: 상태 코드={}, 응답={}",
-                responseEntity.getStatusCode(), response);
+        MockDeliveryResponse response = body.getData();
+        logger.info("이메일 발송 응답: 상태 코드={}, emailId={}, status={}",
+                responseEntity.getStatusCode(), request.getEmailId(), response.getDeliveryStatus());
 
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * 요청 자체가 실패한 청크를 수신자 전원 실패로 표현합니다.
+     *
+     * @param recipients 청크의 수신자 목록
+     * @param cause 실패 원인
+     * @return 실패 응답
+     */
+    private MockDeliveryResponse failedChunk(List<String> recipients, Exception cause) {
+        String timestamp = LocalDateTime.now().format(DATE_TIME_FORMATTER);
+        List<DeliveryResult> results = new ArrayList<>(recipients.size());
+        for (String recipient : recipients) {
+            results.add(DeliveryResult.builder()
+                    .recipientEmail(recipient)
+                    .status(STATUS_FAILED)
+                    .timestamp(timestamp)
+                    .build());
+        }
+
+        return MockDeliveryResponse.builder()
+                .success(false)
+                .deliveryStatus(STATUS_FAILED)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 청크별 응답을 하나의 발송 결과로 합칩니다.
+     * 모든 청크가 실패하면 FAILED, 모두 성공하면 DELIVERED, 그 외에는 PARTIALLY_DELIVERED입니다.
+     *
+     * @param responses 청크별 응답 목록
+     * @return 병합된 발송 결과
+     */
+    private MockDeliveryResponse merge(List<MockDeliveryResponse> responses) {
+        List<DeliveryResult> results = new ArrayList<>();
+        String mockEmailId = null;
+        boolean allDelivered = true;
+        boolean allFailed = true;
+
+        for (MockDeliveryResponse response : responses) {
+            if (mockEmailId == null) {
+                mockEmailId = response.getMockEmailId();
+            }
+            if (response.getResults() != null) {
+                results.addAll(response.getResults());
+            }
+            allDelivered &= STATUS_DELIVERED.equals(response.getDeliveryStatus());
+            allFailed &= STATUS_FAILED.equals(response.getDeliveryStatus());
+        }
+
+        String deliveryStatus = allFailed
+                ? STATUS_FAILED
+                : (allDelivered ? STATUS_DELIVERED : STATUS_PARTIALLY_DELIVERED);
+
+        return MockDeliveryResponse.builder()
+                .success(!allFailed)
+                .mockEmailId(mockEmailId)
+                .deliveryStatus(deliveryStatus)
+                .results(results)
+                .build();
+    }
+}
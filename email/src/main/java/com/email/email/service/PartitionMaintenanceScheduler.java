@@ -0,0 +1,66 @@
+package com.email.email.service;
+
+import com.email.email.repository.PartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * emails, email_recipients 월 파티션을 관리하는 스케줄러 클래스입니다.
+ * 시작 시점과 이후 주기마다 앞으로 쓰일 월 파티션을 미리 만들어 행이 기본 파티션에 쌓이지 않게 하고,
+ * 보관 기간이 설정되어 있으면 기간이 지난 월 파티션을 DELETE 대신 분리 후 삭제합니다.
+ */
+@Slf4j
+@Component
+public class PartitionMaintenanceScheduler {
+
+    private final PartitionRepository partitionRepository;
+
+    @Value("${email.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${email.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${email.partition.retention-months:0}")
+    private int retentionMonths;
+
+    public PartitionMaintenanceScheduler(PartitionRepository partitionRepository) {
+        this.partitionRepository = partitionRepository;
+    }
+
+    /**
+     * 이번 달부터 monthsAhead개월 뒤까지의 파티션을 만들고, 보관 기간이 지난 파티션을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${email.partition.maintenance-interval-ms:21600000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+
+        try {
+            List<String> created = partitionRepository.ensureMonthlyPartitions(
+                    thisMonth, thisMonth.plusMonths(monthsAhead));
+            if (!created.isEmpty()) {
+                log.info("월 파티션 생성: {}", created);
+            }
+
+            // 0이면 보관 기간 제한 없음
+            if (retentionMonths > 0) {
+                List<String> dropped = partitionRepository.dropMonthlyPartitionsBefore(
+                        thisMonth.minusMonths(retentionMonths));
+                if (!dropped.isEmpty()) {
+                    log.info("보관 기간이 지난 월 파티션 삭제: {}", dropped);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("월 파티션 관리 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+    }
+}
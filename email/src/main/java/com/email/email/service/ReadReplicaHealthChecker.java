@@ -0,0 +1,29 @@
+package com.email.email.service;
+
+import com.email.email.config.ReadReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 DB 복제본의 상태와 복제 지연을 주기적으로 확인하는 스케줄러 클래스입니다.
+ * 확인 결과에 따라 라우팅 데이터 소스가 복제본을 제외하거나 다시 사용합니다.
+ */
+@Component
+public class ReadReplicaHealthChecker {
+
+    private final ReadReplicaRoutingDataSource queryReadDataSource;
+
+    public ReadReplicaHealthChecker(
+            @Qualifier("queryReadDataSource") ReadReplicaRoutingDataSource queryReadDataSource) {
+        this.queryReadDataSource = queryReadDataSource;
+    }
+
+    /**
+     * 모든 복제본을 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${email.read-routing.health-check-interval-ms:2000}")
+    public void checkReplicas() {
+        queryReadDataSource.checkReplicas();
+    }
+}
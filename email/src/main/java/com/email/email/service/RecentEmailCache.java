@@ -0,0 +1,111 @@
+package com.email.email.service;
+
+import com.email.email.domain.RecentEmailSummary;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 사용자별 최근 발송 이메일 목록을 담는 프로세스 내 캐시 클래스입니다.
+ * Caffeine(W-TinyLFU)으로 자주 조회되는 사용자를 남기고, 항목 크기를 추정한 바이트 합계로 용량을 제한합니다.
+ * 항목은 {@link RecentEmailCacheInvalidator}가 조회 DB 반영 알림을 받을 때 무효화하며,
+ * 알림을 놓친 경우에 대비해 expire-after-write-seconds가 지나면 다시 조회합니다.
+ * 적중/실패 수와 비율은 email.recent.cache 메트릭으로 노출합니다.
+ */
+@Slf4j
+@Component
+public class RecentEmailCache {
+
+    private static final String CACHE_NAME = "email.recent";
+
+    // 항목 크기 추정값: 목록/객체 헤더와 필드, 문자열은 UTF-16 2바이트로 계산합니다.
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int SUMMARY_OVERHEAD_BYTES = 96;
+
+    private final Cache<String, List<RecentEmailSummary>> cache;
+    private final boolean enabled;
+
+    public RecentEmailCache(
+            MeterRegistry meterRegistry,
+            @Value("${email.recent-cache.enabled:true}") boolean enabled,
+            @Value("${email.recent-cache.max-weight-bytes:16777216}") long maxWeightBytes,
+            @Value("${email.recent-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher(RecentEmailCache::weigh)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("email.recent.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("최근 발송 이메일 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("email.recent.cache.miss.ratio", cache, c -> c.stats().missRate())
+                .description("최근 발송 이메일 캐시 실패율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 최근 발송 이메일 목록을 캐시에서 조회하고, 없으면 조회 함수로 읽어 저장합니다.
+     * 같은 사용자를 동시에 조회하면 조회 함수는 한 번만 실행됩니다.
+     * 빈 목록은 조회 오류일 수도 있으므로 저장하지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @param loader 캐시에 없을 때 실행할 조회 함수
+     * @return 최근 발송 이메일 목록
+     */
+    public List<RecentEmailSummary> get(String userId, Function<String, List<RecentEmailSummary>> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        List<RecentEmailSummary> summaries = cache.get(userId, id -> {
+            List<RecentEmailSummary> loaded = loader.apply(id);
+            return loaded == null || loaded.isEmpty() ? null : loaded;
+        });
+        return summaries != null ? summaries : Collections.emptyList();
+    }
+
+    /**
+     * 사용자의 캐시 항목을 무효화합니다.
+     * 조회 중인 항목이면 조회가 끝난 뒤 제거되므로 무효화 이전에 읽은 목록이 남지 않습니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 모든 캐시 항목을 무효화합니다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.debug("최근 발송 이메일 캐시 전체 무효화");
+    }
+
+    private static int weigh(String userId, List<RecentEmailSummary> summaries) {
+        long bytes = ENTRY_OVERHEAD_BYTES + 2L * userId.length();
+        for (RecentEmailSummary summary : summaries) {
+            bytes += SUMMARY_OVERHEAD_BYTES
+                    + 2L * (length(summary.getEmailId()) + length(summary.getSenderEmail())
+                    + length(summary.getSubject()) + length(summary.getFirstRecipientEmail()));
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,118 @@
+package com.email.email.service;
+
+import com.email.email.domain.EmailChange;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 조회 DB의 LISTEN/NOTIFY로 최근 발송 이메일 캐시를 무효화하는 클래스입니다.
+ * 프로젝터가 이메일을 조회 DB에 반영하고 커밋하면 해당 사용자 ID가 알림으로 오므로,
+ * 모든 인스턴스가 반영이 끝난 시점에 그 사용자의 캐시만 무효화합니다.
+ * 알림 연결이 끊긴 동안의 알림은 받을 수 없으므로 다시 연결할 때마다 캐시 전체를 무효화합니다.
+ * 조회 DB 커넥션 풀의 연결 하나를 계속 사용합니다.
+ */
+@Slf4j
+@Component
+public class RecentEmailCacheInvalidator implements SmartLifecycle {
+
+    private final DataSource queryDataSource;
+    private final RecentEmailCache recentEmailCache;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Value("${email.recent-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${email.recent-cache.listen-timeout-ms:1000}")
+    private int listenTimeoutMillis;
+
+    @Value("${email.recent-cache.reconnect-delay-ms:5000}")
+    private long reconnectDelayMillis;
+
+    public RecentEmailCacheInvalidator(@Qualifier("queryDataSource") DataSource queryDataSource,
+                                       RecentEmailCache recentEmailCache) {
+        this.queryDataSource = queryDataSource;
+        this.recentEmailCache = recentEmailCache;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "Email-Recent-Cache-Listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            try {
+                listenerThread.join(listenTimeoutMillis * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 연결이 끊기면 reconnect-delay-ms 후 다시 연결하면서 알림을 기다립니다.
+     */
+    private void listen() {
+        while (running) {
+            try (Connection connection = queryDataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + EmailChange.USER_CHANGED_CHANNEL);
+                }
+                // LISTEN 이전에 놓쳤을 수 있는 알림 대신 전체를 무효화합니다.
+                recentEmailCache.invalidateAll();
+                log.info("최근 발송 이메일 캐시 무효화 알림 수신 시작: channel={}", EmailChange.USER_CHANGED_CHANNEL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(listenTimeoutMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        recentEmailCache.invalidate(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                recentEmailCache.invalidateAll();
+                log.warn("최근 발송 이메일 캐시 무효화 알림 연결 실패, {}ms 후 다시 연결합니다: {}",
+                        reconnectDelayMillis, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
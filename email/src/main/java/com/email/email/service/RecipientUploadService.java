@@ -0,0 +1,30 @@
+package com.email.email.service;
+
+import com.email.email.dto.RecipientUploadResponse;
+
+import java.io.InputStream;
+
+/**
+* 수신자 대량 업로드 서비스 인터페이스입니다.
+*/
+public interface RecipientUploadService {
+   
+   /**
+    * CSV 또는 NDJSON 스트림으로 전달된 수신자를 적재합니다.
+    *
+    * @param emailId 이메일 ID
+    * @param contentType 요청 콘텐츠 타입
+    * @param body 요청 본문 스트림
+    * @return 업로드 결과
+    */
+   RecipientUploadResponse uploadRecipients(String emailId, String contentType, InputStream body);
+   
+   /**
+    * 이메일의 최근 수신자 업로드 진행 상황을 조회합니다.
+    * 업로드 중이면 마지막으로 기록한 처리 건수를, 끝났으면 최종 결과를 반환합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 업로드 진행 상황
+    */
+   RecipientUploadResponse getUploadProgress(String emailId);
+}
@@ -0,0 +1,326 @@
+package com.email.email.service;
+
+import com.email.common.exception.BusinessException;
+import com.email.common.exception.ErrorCode;
+import com.email.common.util.ValidationUtils;
+import com.email.email.domain.RecipientUpload;
+import com.email.email.domain.RecipientUploadStatus;
+import com.email.email.dto.RecipientUploadResponse;
+import com.email.email.repository.EmailRepository;
+import com.email.email.repository.RecipientUploadRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+* 수신자 대량 업로드 서비스 구현 클래스입니다.
+* 요청 본문을 한 줄씩 읽어 검증한 뒤 곧바로 COPY 스트림으로 넘기므로
+* 업로드 행 수와 무관하게 힙 사용량이 일정합니다.
+* 진행 상황은 명령 DB에 주기적으로 기록하므로 다른 인스턴스에서도 조회할 수 있습니다.
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipientUploadServiceImpl implements RecipientUploadService {
+
+   private static final int MAX_REJECTED_SAMPLES = 10;
+   // 제외한 행 예시에 남길 원본 줄의 최대 길이
+   private static final int MAX_REJECTED_SAMPLE_LENGTH = 200;
+   private static final int MAX_RECIPIENT_EMAIL_LENGTH = 100;
+   private static final String CSV_HEADER = "recipient_email";
+   private static final String NDJSON_FIELD = "recipientEmail";
+   
+   // 이 행 수 또는 시간마다 진행 상황을 DB에 기록합니다.
+   private static final int PROGRESS_UPDATE_ROWS = 10_000;
+   private static final long PROGRESS_UPDATE_INTERVAL_MILLIS = 1000;
+   // 이 시간 동안 진행 상황 갱신이 없는 업로드는 중단된 것으로 보고 새 업로드가 이어받습니다.
+   private static final long STALE_UPLOAD_SECONDS = 600;
+
+   private final EmailRepository emailRepository;
+   private final RecipientUploadRepository recipientUploadRepository;
+   private final ObjectMapper objectMapper;
+
+   /**
+    * CSV 또는 NDJSON 스트림으로 전달된 수신자를 적재합니다.
+    *
+    * @param emailId 이메일 ID
+    * @param contentType 요청 콘텐츠 타입
+    * @param body 요청 본문 스트림
+    * @return 업로드 결과
+    */
+   @Override
+   public RecipientUploadResponse uploadRecipients(String emailId, String contentType, InputStream body) {
+       log.info("수신자 대량 업로드 요청: emailId={}, contentType={}", emailId, contentType);
+
+       UploadFormat format = UploadFormat.from(contentType);
+
+       if (!emailRepository.existsEmailById(emailId)) {
+           throw new BusinessException(ErrorCode.NOT_FOUND, "이메일을 찾을 수 없습니다.");
+       }
+
+       if (!recipientUploadRepository.start(emailId, LocalDateTime.now().minusSeconds(STALE_UPLOAD_SECONDS))) {
+           throw new BusinessException(ErrorCode.CONFLICT, "해당 이메일의 수신자 업로드가 이미 진행 중입니다.");
+       }
+
+       UploadProgress progress = new UploadProgress(emailId);
+       try {
+           BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+           long rowsCopied = emailRepository.copyRecipients(emailId, new RecipientLineIterator(reader, format, progress));
+           progress.acceptedCount = rowsCopied;
+       } catch (RuntimeException e) {
+           markFailed(progress, e);
+           throw e;
+       }
+
+       recipientUploadRepository.markCompleted(emailId, progress.acceptedCount, progress.rejectedCount,
+               progress.rejectedSamples);
+       log.info("수신자 대량 업로드 완료: emailId={}, accepted={}, rejected={}",
+               emailId, progress.acceptedCount, progress.rejectedCount);
+
+       return progress.toResponse();
+   }
+
+   /**
+    * 이메일의 최근 수신자 업로드 진행 상황을 조회합니다.
+    * 업로드 중이면 마지막으로 기록한 처리 건수를, 끝났으면 최종 결과를 반환합니다.
+    *
+    * @param emailId 이메일 ID
+    * @return 업로드 진행 상황
+    */
+   @Override
+   public RecipientUploadResponse getUploadProgress(String emailId) {
+       RecipientUpload upload = recipientUploadRepository.findByEmailId(emailId)
+               .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "수신자 업로드 기록이 없습니다."));
+
+       LocalDateTime endTime = upload.getCompletedTime() != null ? upload.getCompletedTime() : LocalDateTime.now();
+       return RecipientUploadResponse.builder()
+               .emailId(upload.getEmailId())
+               .status(upload.getStatus().name())
+               .acceptedCount(upload.getAcceptedCount())
+               .rejectedCount(upload.getRejectedCount())
+               .rejectedSamples(upload.getRejectedSamples())
+               .elapsedMillis(Duration.between(upload.getStartedTime(), endTime).toMillis())
+               .build();
+   }
+   
+   /**
+    * 업로드 실패를 기록합니다. 기록에 실패해도 원래 예외를 가리지 않도록 로그만 남깁니다.
+    */
+   private void markFailed(UploadProgress progress, RuntimeException cause) {
+       log.error("수신자 대량 업로드 실패: emailId={}, accepted={}, rejected={}",
+               progress.emailId, progress.acceptedCount, progress.rejectedCount, cause);
+       try {
+           recipientUploadRepository.markFailed(progress.emailId, progress.acceptedCount, progress.rejectedCount,
+                   progress.rejectedSamples, cause.getMessage());
+       } catch (RuntimeException e) {
+           log.warn("수신자 업로드 실패 기록 오류: emailId={}", progress.emailId, e);
+       }
+   }
+
+   /**
+    * 업로드 본문 형식을 정의하는 열거형입니다.
+    */
+   private enum UploadFormat {
+       CSV,
+       NDJSON;
+
+       static UploadFormat from(String contentType) {
+           if (contentType != null) {
+               String mediaType = contentType.toLowerCase();
+               if (mediaType.startsWith("text/csv")) {
+                   return CSV;
+               }
+               if (mediaType.startsWith("application/x-ndjson") || mediaType.startsWith("application/ndjson")) {
+                   return NDJSON;
+               }
+           }
+           throw new BusinessException(ErrorCode.BAD_REQUEST,
+                   "지원하지 않는 콘텐츠 타입입니다. text/csv 또는 application/x-ndjson을 사용하세요.");
+       }
+   }
+
+   /**
+    * 업로드 진행 상황 클래스입니다.
+    * 한 요청 스레드에서만 갱신하며, 일정 행 수 또는 시간마다 DB에 기록합니다.
+    */
+   private class UploadProgress {
+       private final String emailId;
+       private final long startedAt = System.currentTimeMillis();
+       private final List<String> rejectedSamples = new ArrayList<>();
+       private long acceptedCount;
+       private long rejectedCount;
+       private long rowsSinceUpdate;
+       private long lastUpdateAt = startedAt;
+
+       UploadProgress(String emailId) {
+           this.emailId = emailId;
+       }
+
+       void accept() {
+           acceptedCount++;
+           recordRow();
+       }
+
+       void reject(long lineNumber, String reason, String line) {
+           rejectedCount++;
+           if (rejectedSamples.size() < MAX_REJECTED_SAMPLES) {
+               String sample = line.length() > MAX_REJECTED_SAMPLE_LENGTH
+                       ? line.substring(0, MAX_REJECTED_SAMPLE_LENGTH)
+                       : line;
+               // 제어 문자(NUL 등)는 DB에 저장할 수 없거나 예시 구분을 깨뜨리므로 바꿔 둡니다.
+               sample = sample.codePoints()
+                       .map(c -> Character.isISOControl(c) ? '?' : c)
+                       .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                       .toString();
+               rejectedSamples.add(String.format("line %d: %s: %s", lineNumber, reason, sample));
+           }
+           recordRow();
+       }
+
+       /**
+        * 일정 행 수 또는 시간이 지나면 진행 상황을 DB에 기록합니다.
+        * 진행 상황은 조회용이므로 기록에 실패해도 업로드는 계속합니다.
+        */
+       private void recordRow() {
+           rowsSinceUpdate++;
+           long now = System.currentTimeMillis();
+           if (rowsSinceUpdate < PROGRESS_UPDATE_ROWS && now - lastUpdateAt < PROGRESS_UPDATE_INTERVAL_MILLIS) {
+               return;
+           }
+
+           rowsSinceUpdate = 0;
+           lastUpdateAt = now;
+           try {
+               recipientUploadRepository.updateProgress(emailId, acceptedCount, rejectedCount, rejectedSamples);
+           } catch (RuntimeException e) {
+               log.warn("수신자 업로드 진행 상황 기록 실패: emailId={}", emailId, e);
+           }
+       }
+
+       RecipientUploadResponse toResponse() {
+           return RecipientUploadResponse.builder()
+                   .emailId(emailId)
+                   .status(RecipientUploadStatus.COMPLETED.name())
+                   .acceptedCount(acceptedCount)
+                   .rejectedCount(rejectedCount)
+                   .rejectedSamples(new ArrayList<>(rejectedSamples))
+                   .elapsedMillis(System.currentTimeMillis() - startedAt)
+                   .build();
+       }
+   }
+
+   /**
+    * 업로드 본문을 한 줄씩 읽어 유효한 수신자 이메일만 돌려주는 이터레이터입니다.
+    */
+   private class RecipientLineIterator implements Iterator<String> {
+       private final BufferedReader reader;
+       private final UploadFormat format;
+       private final UploadProgress progress;
+       private long lineNumber;
+       private String nextEmail;
+       // 현재 줄을 제외한 사유 (extractEmail이 형식 오류를 발견하면 설정합니다)
+       private String rejectReason;
+
+       RecipientLineIterator(BufferedReader reader, UploadFormat format, UploadProgress progress) {
+           this.reader = reader;
+           this.format = format;
+           this.progress = progress;
+       }
+
+       @Override
+       public boolean hasNext() {
+           if (nextEmail != null) {
+               return true;
+           }
+
+           try {
+               String line;
+               while ((line = reader.readLine()) != null) {
+                   lineNumber++;
+                   rejectReason = null;
+                   String email = extractEmail(line.trim());
+
+                   if (rejectReason != null) {
+                       progress.reject(lineNumber, rejectReason, line);
+                       continue;
+                   }
+                   if (email == null) {
+                       continue;
+                   }
+                   if (email.length() > MAX_RECIPIENT_EMAIL_LENGTH || !ValidationUtils.validateEmail(email)) {
+                       progress.reject(lineNumber, "이메일 형식 오류", line);
+                       continue;
+                   }
+
+                   nextEmail = email;
+                   return true;
+               }
+               return false;
+           } catch (IOException e) {
+               throw new UncheckedIOException("수신자 업로드 본문 읽기 실패", e);
+           }
+       }
+
+       @Override
+       public String next() {
+           if (!hasNext()) {
+               throw new NoSuchElementException();
+           }
+           String email = nextEmail;
+           nextEmail = null;
+           progress.accept();
+           return email;
+       }
+
+       /**
+        * 한 줄에서 수신자 이메일을 추출합니다. 빈 줄과 CSV 헤더는 null을 반환합니다.
+        * NDJSON 줄이 JSON 객체가 아니거나 수신자 필드가 없으면 rejectReason을 설정하고 null을 반환합니다.
+        */
+       private String extractEmail(String line) {
+           if (line.isEmpty()) {
+               return null;
+           }
+
+           if (format == UploadFormat.CSV) {
+               int comma = line.indexOf(',');
+               String column = (comma >= 0 ? line.substring(0, comma) : line).trim();
+               if (column.length() >= 2 && column.startsWith("\"") && column.endsWith("\"")) {
+                   column = column.substring(1, column.length() - 1);
+               }
+               if (lineNumber == 1 && CSV_HEADER.equalsIgnoreCase(column)) {
+                   return null;
+               }
+               return column;
+           }
+
+           JsonNode node;
+           try {
+               node = objectMapper.readTree(line);
+           } catch (IOException e) {
+               rejectReason = "JSON 형식 오류";
+               return null;
+           }
+           JsonNode field = node != null && node.isObject() ? node.get(NDJSON_FIELD) : null;
+           if (field == null || !field.isTextual()) {
+               rejectReason = NDJSON_FIELD + " 필드 없음";
+               return null;
+           }
+           return field.asText();
+       }
+   }
+}
@@ -0,0 +1,55 @@
+-- 커맨드 DB 기본 스키마
+-- 기존 DataInitializer가 만든 테이블이 있는 환경에서도 적용되도록 IF NOT EXISTS를 사용합니다.
+
+CREATE TABLE IF NOT EXISTS emails (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id VARCHAR(100),
+    subject VARCHAR(255),
+    sender_email VARCHAR(100),
+    sender_name VARCHAR(100),
+    content TEXT,
+    request_time TIMESTAMP,
+    status VARCHAR(20),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS email_recipients (
+    id VARCHAR(36) PRIMARY KEY,
+    email_id VARCHAR(36),
+    recipient_email VARCHAR(100),
+    status VARCHAR(20),
+    receive_time TIMESTAMP,
+    fail_reason VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS attachment_metadata (
+    id VARCHAR(36) PRIMARY KEY,
+    file_name VARCHAR(255),
+    content_type VARCHAR(100),
+    file_size BIGINT,
+    blob_name VARCHAR(255),
+    container_name VARCHAR(100),
+    upload_time TIMESTAMP,
+    status VARCHAR(20),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS email_attachments (
+    email_id VARCHAR(36),
+    attachment_id VARCHAR(36),
+    created_at TIMESTAMP,
+    PRIMARY KEY (email_id, attachment_id)
+);
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_id VARCHAR(36),
+    event_type VARCHAR(50),
+    payload TEXT,
+    created_at TIMESTAMP,
+    published_at TIMESTAMP
+);
@@ -0,0 +1,17 @@
+-- 커맨드 DB 저장소 쿼리별 인덱스
+
+-- EmailOutboxRepository.findUnpublished: 미발행 이벤트를 id 순으로 읽습니다.
+CREATE INDEX IF NOT EXISTS idx_email_outbox_unpublished
+    ON email_outbox (id) WHERE published_at IS NULL;
+
+-- EmailOutboxRepository.deletePublishedBefore
+CREATE INDEX IF NOT EXISTS idx_email_outbox_published_at
+    ON email_outbox (published_at) WHERE published_at IS NOT NULL;
+
+-- EmailRepository.applyDeliveryResults, findRecipientEmailsForDelivery: (email_id[, recipient_email]) 조회
+CREATE INDEX IF NOT EXISTS idx_email_recipients_email_recipient
+    ON email_recipients (email_id, recipient_email);
+
+-- EmailRepository.claimQueuedEmails: 대기/처리 중 이메일만 요청 시간 순으로 선점합니다.
+CREATE INDEX IF NOT EXISTS idx_emails_dispatch
+    ON emails (request_time) WHERE status IN ('QUEUED', 'PROCESSING');
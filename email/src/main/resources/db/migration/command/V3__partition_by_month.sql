@@ -0,0 +1,116 @@
+-- emails는 request_time, email_recipients는 created_at 기준 월 단위 범위 파티션으로 전환합니다.
+-- 파티션 키는 기본 키에 포함되어야 하므로 기본 키는 (id, 파티션 키)가 됩니다.
+-- 이후 월 파티션은 PartitionMaintenanceScheduler가 ensure_monthly_partitions로 미리 만듭니다.
+
+-- parent_pYYYYMM 이름의 월 파티션을 from_month부터 to_month가 속한 달까지 만들고, 새로 만든 파티션 이름을 반환합니다.
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(parent TEXT, from_month DATE, to_month DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    partition_name TEXT;
+BEGIN
+    -- 여러 인스턴스가 동시에 같은 파티션을 만들지 않도록 테이블별로 직렬화합니다.
+    PERFORM pg_advisory_xact_lock(hashtext('partition:' || parent));
+
+    WHILE month_start <= to_month LOOP
+        partition_name := parent || '_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, parent, month_start, (month_start + INTERVAL '1 month')::date);
+            RETURN NEXT partition_name;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+-- cutoff 이전에 끝나는 월 파티션을 분리 후 삭제하고, 삭제한 파티션 이름을 반환합니다.
+CREATE OR REPLACE FUNCTION drop_monthly_partitions_before(parent TEXT, cutoff DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql AS $$
+DECLARE
+    child TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('partition:' || parent));
+
+    FOR child IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent::regclass
+          AND c.relname ~ ('^' || parent || '_p[0-9]{6}$')
+          AND to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month' <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, child);
+        EXECUTE format('DROP TABLE %I', child);
+        RETURN NEXT child;
+    END LOOP;
+END;
+$$;
+
+-- emails
+ALTER TABLE emails RENAME TO emails_unpartitioned;
+
+CREATE TABLE emails (
+    id VARCHAR(36) NOT NULL,
+    user_id VARCHAR(100),
+    subject VARCHAR(255),
+    sender_email VARCHAR(100),
+    sender_name VARCHAR(100),
+    content TEXT,
+    request_time TIMESTAMP NOT NULL,
+    status VARCHAR(20),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+) PARTITION BY RANGE (request_time);
+
+CREATE TABLE emails_default PARTITION OF emails DEFAULT;
+
+SELECT count(*) FROM ensure_monthly_partitions('emails',
+        COALESCE((SELECT min(request_time) FROM emails_unpartitioned)::date, CURRENT_DATE),
+        (CURRENT_DATE + INTERVAL '3 months')::date);
+
+INSERT INTO emails (id, user_id, subject, sender_email, sender_name, content, request_time, status, created_at, updated_at)
+SELECT id, user_id, subject, sender_email, sender_name, content,
+       COALESCE(request_time, created_at, now()), status, created_at, updated_at
+FROM emails_unpartitioned;
+
+DROP TABLE emails_unpartitioned;
+
+ALTER TABLE emails ADD PRIMARY KEY (id, request_time);
+
+-- email_recipients
+ALTER TABLE email_recipients RENAME TO email_recipients_unpartitioned;
+
+CREATE TABLE email_recipients (
+    id VARCHAR(36) NOT NULL,
+    email_id VARCHAR(36),
+    recipient_email VARCHAR(100),
+    status VARCHAR(20),
+    receive_time TIMESTAMP,
+    fail_reason VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE email_recipients_default PARTITION OF email_recipients DEFAULT;
+
+SELECT count(*) FROM ensure_monthly_partitions('email_recipients',
+        COALESCE((SELECT min(created_at) FROM email_recipients_unpartitioned)::date, CURRENT_DATE),
+        (CURRENT_DATE + INTERVAL '3 months')::date);
+
+INSERT INTO email_recipients (id, email_id, recipient_email, status, receive_time, fail_reason, created_at, updated_at)
+SELECT id, email_id, recipient_email, status, receive_time, fail_reason,
+       COALESCE(created_at, now()), updated_at
+FROM email_recipients_unpartitioned;
+
+DROP TABLE email_recipients_unpartitioned;
+
+ALTER TABLE email_recipients ADD PRIMARY KEY (id, created_at);
+
+-- V2 인덱스를 파티션 테이블에 다시 만듭니다 (각 파티션에 자동으로 생성됩니다).
+CREATE INDEX idx_email_recipients_email_recipient ON email_recipients (email_id, recipient_email);
+
+CREATE INDEX idx_emails_dispatch ON emails (request_time) WHERE status IN ('QUEUED', 'PROCESSING');
@@ -0,0 +1,64 @@
+-- 조회 DB 프로젝션용 변경 로그
+-- 문장 단위 트리거가 변경된 행의 이메일/첨부파일 ID를 한 번씩만 기록하므로
+-- COPY나 다중 행 UPDATE도 문장당 적은 수의 로그만 남깁니다.
+-- EmailQueryProjector가 로그를 읽어 해당 ID의 현재 상태를 조회 DB에 반영한 뒤 삭제합니다.
+CREATE TABLE email_changes (
+    id BIGSERIAL PRIMARY KEY,
+    entity VARCHAR(20) NOT NULL,
+    entity_id VARCHAR(36) NOT NULL,
+    changed_at TIMESTAMP NOT NULL DEFAULT clock_timestamp()
+);
+
+-- 변경된 행의 id 컬럼을 TG_ARGV[0] 엔티티로 기록합니다.
+CREATE OR REPLACE FUNCTION record_changes_by_id()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO email_changes (entity, entity_id)
+    SELECT DISTINCT TG_ARGV[0], id FROM changed_rows WHERE id IS NOT NULL;
+    RETURN NULL;
+END;
+$$;
+
+-- 변경된 행의 email_id 컬럼을 이메일 엔티티로 기록합니다.
+CREATE OR REPLACE FUNCTION record_changes_by_email_id()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO email_changes (entity, entity_id)
+    SELECT DISTINCT 'EMAIL', email_id FROM changed_rows WHERE email_id IS NOT NULL;
+    RETURN NULL;
+END;
+$$;
+
+-- 전이 테이블을 쓰는 트리거는 이벤트를 하나만 지정할 수 있으므로 INSERT/UPDATE/DELETE를 나누어 만듭니다.
+CREATE TRIGGER emails_insert_changes AFTER INSERT ON emails
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_id('EMAIL');
+CREATE TRIGGER emails_update_changes AFTER UPDATE ON emails
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_id('EMAIL');
+CREATE TRIGGER emails_delete_changes AFTER DELETE ON emails
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_id('EMAIL');
+
+CREATE TRIGGER email_recipients_insert_changes AFTER INSERT ON email_recipients
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_email_id();
+CREATE TRIGGER email_recipients_update_changes AFTER UPDATE ON email_recipients
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_email_id();
+CREATE TRIGGER email_recipients_delete_changes AFTER DELETE ON email_recipients
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_email_id();
+
+CREATE TRIGGER email_attachments_insert_changes AFTER INSERT ON email_attachments
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_email_id();
+CREATE TRIGGER email_attachments_delete_changes AFTER DELETE ON email_attachments
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_email_id();
+
+CREATE TRIGGER attachment_metadata_insert_changes AFTER INSERT ON attachment_metadata
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_id('ATTACHMENT');
+CREATE TRIGGER attachment_metadata_update_changes AFTER UPDATE ON attachment_metadata
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION record_changes_by_id('ATTACHMENT');
+
+-- 기존 데이터를 한 번 조회 DB로 반영하도록 전체를 변경 로그에 올립니다.
+INSERT INTO email_changes (entity, entity_id)
+SELECT 'ATTACHMENT', id FROM attachment_metadata;
+
+INSERT INTO email_changes (entity, entity_id)
+SELECT 'EMAIL', id FROM emails ORDER BY request_time;
@@ -0,0 +1,4 @@
+-- 아웃박스 릴레이 선점 시간
+-- 릴레이는 짧은 트랜잭션에서 이벤트를 선점(claimed_until 설정)하고 커밋한 뒤 트랜잭션 밖에서 전송합니다.
+-- 전송 중 인스턴스가 죽으면 claimed_until이 지난 이벤트를 다음 릴레이가 다시 선점합니다.
+ALTER TABLE email_outbox ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
@@ -0,0 +1,7 @@
+-- 비동기 디스패처 도입 이전 데이터 정리
+-- 이전 버전은 동기 발송 후에도 이메일을 QUEUED 상태로 남겨 두었으므로 기존 QUEUED 행은 이미 발송이 끝난 이메일입니다.
+-- 비동기 모드를 켠 뒤 디스패처가 이 행들을 다시 발송하지 않도록 SENT로 확정합니다.
+UPDATE emails
+SET status = 'SENT',
+    updated_at = CURRENT_TIMESTAMP
+WHERE status = 'QUEUED';
@@ -0,0 +1,19 @@
+-- 발송 이력 내보내기 작업 상태
+-- 작업 상태를 인스턴스 메모리가 아닌 명령 DB에 두어 재시작 후에도, 다른 인스턴스에서도 조회할 수 있게 합니다.
+-- 실행 중인 인스턴스는 updated_at을 주기적으로 갱신하며, 갱신이 끊긴 QUEUED/RUNNING 작업은 FAILED로 정리됩니다.
+CREATE TABLE history_export_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    format VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    row_count BIGINT NOT NULL DEFAULT 0,
+    owner VARCHAR(255),
+    local_path VARCHAR(1024),
+    blob_name VARCHAR(1024),
+    error_message VARCHAR(1000),
+    requested_time TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    completed_time TIMESTAMP
+);
+
+CREATE INDEX idx_history_export_jobs_status_updated ON history_export_jobs (status, updated_at);
+CREATE INDEX idx_history_export_jobs_completed ON history_export_jobs (completed_time);
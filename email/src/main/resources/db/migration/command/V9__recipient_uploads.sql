@@ -0,0 +1,15 @@
+-- 수신자 대량 업로드 진행 상황
+-- 진행 상황을 인스턴스 메모리가 아닌 명령 DB에 두어, 업로드를 받지 않은 인스턴스에서도 조회할 수 있게 합니다.
+-- 이메일당 한 행이며, 업로드 중인 인스턴스는 처리 건수와 updated_at을 주기적으로 갱신합니다.
+-- 갱신이 끊긴 IN_PROGRESS 업로드는 같은 이메일의 다음 업로드가 이어받습니다.
+CREATE TABLE recipient_uploads (
+    email_id VARCHAR(36) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    accepted_count BIGINT NOT NULL DEFAULT 0,
+    rejected_count BIGINT NOT NULL DEFAULT 0,
+    rejected_samples TEXT,
+    error_message VARCHAR(1000),
+    started_time TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    completed_time TIMESTAMP
+);
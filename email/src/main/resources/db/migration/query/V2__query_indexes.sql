@@ -0,0 +1,26 @@
+-- 조회 DB 저장소 쿼리별 인덱스
+
+-- EmailRepository.findRecentSummariesByUserId: 사용자별 최근 이메일
+CREATE INDEX IF NOT EXISTS idx_emails_user_request_time
+    ON emails (user_id, request_time DESC);
+
+-- EmailRepository.findEmailHistory / streamEmailHistory (발신자 조건 없음)
+-- 키셋 순서 (request_time, id)와 같고, 목록 컬럼을 포함하여 테이블 접근 없이 읽습니다.
+CREATE INDEX IF NOT EXISTS idx_emails_history
+    ON emails (request_time DESC, id DESC) INCLUDE (status, sender_email, subject);
+
+-- EmailRepository.findEmailHistory / streamEmailHistory (발신자 조건)
+CREATE INDEX IF NOT EXISTS idx_emails_sender_history
+    ON emails (sender_email, request_time DESC, id DESC) INCLUDE (status, subject);
+
+-- 이력 조인과 최근 이메일의 첫 수신자(LATERAL ... ORDER BY created_at, id LIMIT 1)
+CREATE INDEX IF NOT EXISTS idx_email_recipients_email_created
+    ON email_recipients (email_id, created_at, id);
+
+-- 이력 조회의 수신자 이메일 조건
+CREATE INDEX IF NOT EXISTS idx_email_recipients_recipient
+    ON email_recipients (recipient_email, email_id);
+
+-- DataInitializer가 만들던 인덱스는 위 인덱스로 대체합니다.
+DROP INDEX IF EXISTS idx_emails_request_time;
+DROP INDEX IF EXISTS idx_email_recipients_email_recipient;
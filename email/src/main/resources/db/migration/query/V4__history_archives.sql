@@ -0,0 +1,15 @@
+-- 아카이브된 월별 발송 이력 파일 목록
+-- min/max_request_time 통계로 조회 기간과 겹치지 않는 파일은 열지 않습니다.
+CREATE TABLE email_history_archives (
+    month DATE PRIMARY KEY,
+    storage VARCHAR(10) NOT NULL,
+    location VARCHAR(500) NOT NULL,
+    min_request_time TIMESTAMP,
+    max_request_time TIMESTAMP,
+    row_count BIGINT NOT NULL,
+    file_size BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_email_history_archives_range
+    ON email_history_archives (max_request_time, min_request_time);
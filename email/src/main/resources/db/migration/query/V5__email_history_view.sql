@@ -0,0 +1,46 @@
+-- 수신자별로 비정규화한 발송 이력 읽기 모델
+-- 이메일 컬럼(발신자, 제목, 요청 시간, 상태)을 수신자 행마다 함께 저장하여 발송 이력을 조인과 별도 정렬 없이 읽습니다.
+-- EmailQueryProjector가 emails/email_recipients를 반영할 때 같은 트랜잭션에서 이메일 단위로 다시 만듭니다.
+CREATE TABLE email_history_view (
+    recipient_id VARCHAR(36) NOT NULL,
+    email_id VARCHAR(36) NOT NULL,
+    sender_email VARCHAR(100),
+    subject VARCHAR(255),
+    request_time TIMESTAMP NOT NULL,
+    status VARCHAR(20),
+    recipient_email VARCHAR(100),
+    recipient_status VARCHAR(20),
+    receive_time TIMESTAMP,
+    fail_reason VARCHAR(255),
+    PRIMARY KEY (recipient_id, request_time)
+) PARTITION BY RANGE (request_time);
+
+CREATE TABLE email_history_view_default PARTITION OF email_history_view DEFAULT;
+
+SELECT count(*) FROM ensure_monthly_partitions('email_history_view',
+        COALESCE((SELECT min(request_time) FROM emails)::date, CURRENT_DATE),
+        (CURRENT_DATE + INTERVAL '3 months')::date);
+
+INSERT INTO email_history_view (recipient_id, email_id, sender_email, subject, request_time, status,
+                                recipient_email, recipient_status, receive_time, fail_reason)
+SELECT r.id, e.id, e.sender_email, e.subject, e.request_time, e.status,
+       r.recipient_email, r.status, r.receive_time, r.fail_reason
+FROM emails e
+JOIN email_recipients r ON r.email_id = e.id AND r.created_at >= e.request_time;
+
+-- 발신자 조건 발송 이력: (sender_email, request_time) 순서의 범위 스캔 한 번으로 키셋 순서대로 읽습니다.
+CREATE INDEX idx_email_history_view_sender
+    ON email_history_view (sender_email, request_time DESC, email_id DESC, recipient_id DESC);
+
+-- 발신자 조건 없는 발송 이력
+CREATE INDEX idx_email_history_view_time
+    ON email_history_view (request_time DESC, email_id DESC, recipient_id DESC);
+
+-- 프로젝터가 이메일 단위로 행을 다시 만들 때 사용합니다.
+CREATE INDEX idx_email_history_view_email
+    ON email_history_view (email_id);
+
+-- 발송 이력 조회가 이 테이블로 옮겨졌으므로 조인용 인덱스를 정리합니다.
+DROP INDEX IF EXISTS idx_emails_history;
+DROP INDEX IF EXISTS idx_emails_sender_history;
+DROP INDEX IF EXISTS idx_email_recipients_recipient;
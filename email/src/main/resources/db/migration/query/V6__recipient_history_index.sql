@@ -0,0 +1,9 @@
+-- 수신자 조건 발송 이력의 역방향 인덱스
+-- 정규화한 수신자 주소(소문자, 앞뒤 공백 제거)를 생성 컬럼으로 두고
+-- (recipient_key, request_time, email_id) 순서로 인덱싱하여, 특정 수신자의 기간 내 발송 이력을
+-- 이메일마다 수신자를 확인하지 않고 범위 스캔 한 번으로 키셋 순서대로 읽습니다.
+ALTER TABLE email_history_view
+    ADD COLUMN recipient_key VARCHAR(100) GENERATED ALWAYS AS (lower(btrim(recipient_email))) STORED;
+
+CREATE INDEX idx_email_history_view_recipient
+    ON email_history_view (recipient_key, request_time DESC, email_id DESC, recipient_id DESC);
@@ -0,0 +1,12 @@
+-- 제목/본문 전문 검색
+-- search_vector는 저장 생성 컬럼이므로 프로젝터가 이메일을 INSERT/UPDATE할 때 함께 계산됩니다.
+-- 제목은 가중치 A, 본문은 B로 두어 제목에 검색어가 있는 이메일이 앞에 오도록 순위를 매깁니다.
+-- 한국어 형태소 사전이 없으므로 공백 단위로 토큰화하는 'simple' 설정을 사용하고,
+-- tsvector 크기 제한(1MB)을 넘지 않도록 본문은 앞부분만 색인합니다.
+ALTER TABLE emails
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(subject, '')), 'A') ||
+        setweight(to_tsvector('simple', left(coalesce(content, ''), 100000)), 'B')
+    ) STORED;
+
+CREATE INDEX idx_emails_search_vector ON emails USING GIN (search_vector);
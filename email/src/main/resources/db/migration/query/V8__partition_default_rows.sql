@@ -0,0 +1,68 @@
+-- 월 파티션 생성 시 DEFAULT 파티션에 쌓인 해당 월의 행 이동
+-- 해당 월 파티션이 없던 동안 들어온 행은 DEFAULT 파티션에 저장되며, 그런 행이 있으면
+-- CREATE TABLE ... PARTITION OF가 실패하여 이후 파티션 관리가 멈춥니다.
+-- 새 파티션을 만들기 전에 DEFAULT 파티션을 잠시 분리하고, 파티션을 만든 뒤 해당 월의 행을
+-- 상위 테이블로 다시 넣어 새 파티션으로 보낸 다음 DEFAULT 파티션을 다시 연결합니다.
+-- 분리/연결은 상위 테이블에 ACCESS EXCLUSIVE 잠금을 잡으므로 이동하는 동안 해당 테이블 쓰기는 대기합니다.
+--
+-- 파티션 테이블의 기본 키는 (id, 파티션 키)이므로 id 단독 유일성은 데이터베이스가 보장하지 않습니다.
+-- id는 애플리케이션이 UUID로 발급하며, 프로젝터는 같은 id의 다른 파티션 키 행을 지운 뒤 반영합니다.
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(parent TEXT, from_month DATE, to_month DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    month_end DATE;
+    partition_name TEXT;
+    default_name TEXT := parent || '_default';
+    key_column TEXT;
+    insert_columns TEXT;
+    has_default_rows BOOLEAN;
+    moved_rows BIGINT;
+BEGIN
+    -- 여러 인스턴스가 동시에 같은 파티션을 만들지 않도록 테이블별로 직렬화합니다.
+    PERFORM pg_advisory_xact_lock(hashtext('partition:' || parent));
+
+    -- RANGE (request_time) 형식의 파티션 키 정의에서 컬럼 이름을 꺼냅니다.
+    key_column := substring(pg_get_partkeydef(parent::regclass) FROM '\((.*)\)');
+
+    -- 생성 컬럼은 다시 넣을 수 없으므로 저장 컬럼만 옮깁니다.
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum)
+    INTO insert_columns
+    FROM pg_attribute
+    WHERE attrelid = parent::regclass AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+
+    WHILE month_start <= to_month LOOP
+        partition_name := parent || '_p' || to_char(month_start, 'YYYYMM');
+        month_end := (month_start + INTERVAL '1 month')::date;
+
+        IF to_regclass(partition_name) IS NULL THEN
+            has_default_rows := FALSE;
+            IF to_regclass(default_name) IS NOT NULL THEN
+                EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= %L AND %I < %L)',
+                        default_name, key_column, month_start, key_column, month_end)
+                INTO has_default_rows;
+            END IF;
+
+            IF has_default_rows THEN
+                EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, default_name);
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                        partition_name, parent, month_start, month_end);
+                EXECUTE format('INSERT INTO %I (%s) SELECT %s FROM %I WHERE %I >= %L AND %I < %L',
+                        parent, insert_columns, insert_columns, default_name,
+                        key_column, month_start, key_column, month_end);
+                GET DIAGNOSTICS moved_rows = ROW_COUNT;
+                EXECUTE format('DELETE FROM %I WHERE %I >= %L AND %I < %L',
+                        default_name, key_column, month_start, key_column, month_end);
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I DEFAULT', parent, default_name);
+                RAISE NOTICE 'moved % rows from % to %', moved_rows, default_name, partition_name;
+            ELSE
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                        partition_name, parent, month_start, month_end);
+            END IF;
+            RETURN NEXT partition_name;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,203 @@
+package com.email.email.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 읽기 라우팅 데이터 소스의 WAL 위치 변환, 복제 지연 계산, 복제본 선택과 대체 연결을 확인하는 테스트 클래스입니다.
+ * 복제본과 기본 서버는 상태 확인 쿼리 결과만 흉내 낸 모의 데이터 소스로 대신합니다.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MILLIS = 5_000;
+
+    @Test
+    void parseLsnCombinesHighAndLowHalves() {
+        assertThat(ReadReplicaRoutingDataSource.parseLsn("0/0")).isZero();
+        assertThat(ReadReplicaRoutingDataSource.parseLsn("0/16B3748")).isEqualTo(0x16B3748L);
+        assertThat(ReadReplicaRoutingDataSource.parseLsn("16/B374D848")).isEqualTo((0x16L << 32) | 0xB374D848L);
+
+        // 하위 32비트의 최상위 비트가 켜져 있어도 부호 확장 없이 상위 절반 다음 순서가 되어야 합니다.
+        long highLow = ReadReplicaRoutingDataSource.parseLsn("1/80000000");
+        assertThat(highLow).isEqualTo(0x180000000L);
+        assertThat(highLow).isGreaterThan(ReadReplicaRoutingDataSource.parseLsn("1/7FFFFFFF"));
+        assertThat(highLow).isLessThan(ReadReplicaRoutingDataSource.parseLsn("2/0"));
+        assertThat(ReadReplicaRoutingDataSource.parseLsn("1/FFFFFFFF")).isEqualTo(0x1FFFFFFFFL);
+    }
+
+    @Test
+    void measureLagIsUnknownUntilReplicaCatchesUp() {
+        ReadReplicaRoutingDataSource.Replica replica = new ReadReplicaRoutingDataSource.Replica("r", mock(DataSource.class));
+
+        assertThat(replica.measureLag(50, 100, 1_000)).isEqualTo(-1);
+        assertThat(replica.measureLag(90, 200, 2_000)).isEqualTo(-1);
+        // 첫 기록(100)까지 재생하면 그 기록 시각부터 지연을 잽니다.
+        assertThat(replica.measureLag(100, 300, 3_000)).isEqualTo(2_000);
+        assertThat(replica.measureLag(300, 300, 4_000)).isZero();
+    }
+
+    @Test
+    void measureLagUsesPrimarySamplesWhileBehind() {
+        ReadReplicaRoutingDataSource.Replica replica = new ReadReplicaRoutingDataSource.Replica("r", mock(DataSource.class));
+
+        assertThat(replica.measureLag(100, 100, 1_000)).isZero();
+        assertThat(replica.measureLag(150, 200, 2_000)).isEqualTo(1_000);
+        // 2초에 기록한 위치(200)까지 재생했으므로 지연은 그 이후 시간입니다.
+        assertThat(replica.measureLag(250, 300, 3_000)).isEqualTo(1_000);
+        // 재생이 멈추면 기본 서버가 앞서 나가는 동안 지연이 계속 늘어납니다.
+        assertThat(replica.measureLag(250, 400, 4_000)).isEqualTo(2_000);
+        assertThat(replica.measureLag(250, 500, 9_000)).isEqualTo(7_000);
+        assertThat(replica.measureLag(500, 500, 10_000)).isZero();
+    }
+
+    @Test
+    void replicaThatIsNotStreamingFallsBackToPrimary() throws SQLException {
+        DataSource replicaDataSource = replicaDataSource("replica", true, "stopping", "0/100");
+        DataSource primary = primaryDataSource("0/100");
+
+        try (ReadReplicaRoutingDataSource routing = routing(primary,
+                new ReadReplicaRoutingDataSource.Replica("replica", replicaDataSource))) {
+            routing.checkReplicas();
+
+            assertThat(routing.getConnection()).hasToString("primary");
+        }
+    }
+
+    @Test
+    void replicaBehindPrimaryIsExcludedUntilItCatchesUp() throws SQLException {
+        ResultSet status = statusResultSet(true, "streaming", "0/100");
+        DataSource primary = primaryDataSource("0/200");
+
+        try (ReadReplicaRoutingDataSource routing = routing(primary,
+                new ReadReplicaRoutingDataSource.Replica("replica", dataSource("replica", status)))) {
+            // 기본 서버 위치를 한 번도 따라잡지 못했으므로 지연을 알 수 없어 제외합니다.
+            routing.checkReplicas();
+            assertThat(routing.getConnection()).hasToString("primary");
+
+            when(status.getString(3)).thenReturn("0/200");
+            routing.checkReplicas();
+            assertThat(routing.getConnection()).hasToString("replica");
+        }
+    }
+
+    @Test
+    void selectsReplicaWithFewestOutstandingConnections() throws SQLException {
+        DataSource a = replicaDataSource("a", false, null, null);
+        DataSource b = replicaDataSource("b", false, null, null);
+
+        try (ReadReplicaRoutingDataSource routing = routing(primaryDataSource("0/100"),
+                new ReadReplicaRoutingDataSource.Replica("a", a),
+                new ReadReplicaRoutingDataSource.Replica("b", b))) {
+            routing.checkReplicas();
+
+            Connection first = routing.getConnection();
+            Connection second = routing.getConnection();
+            assertThat(List.of(first.toString(), second.toString())).containsExactlyInAnyOrder("a", "b");
+
+            // 먼저 받은 연결을 반납하면 그 복제본만 처리 중인 요청이 없으므로 다음 연결은 그쪽으로 갑니다.
+            first.close();
+            for (int i = 0; i < 4; i++) {
+                Connection next = routing.getConnection();
+                assertThat(next.toString()).isEqualTo(first.toString());
+                next.close();
+            }
+
+            // 반납을 두 번 해도 처리 중인 요청 수가 음수가 되지 않아야 합니다.
+            first.close();
+            second.close();
+            Connection third = routing.getConnection();
+            Connection fourth = routing.getConnection();
+            assertThat(List.of(third.toString(), fourth.toString())).containsExactlyInAnyOrder("a", "b");
+        }
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenAllReplicasAreUnavailable() throws SQLException {
+        DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        try (ReadReplicaRoutingDataSource routing = routing(primaryDataSource("0/100"),
+                new ReadReplicaRoutingDataSource.Replica("a", failing),
+                new ReadReplicaRoutingDataSource.Replica("b", replicaDataSource("b", true, null, null)))) {
+            // 첫 상태 확인 전에는 어떤 복제본도 사용하지 않습니다.
+            assertThat(routing.getConnection()).hasToString("primary");
+
+            routing.checkReplicas();
+
+            assertThat(routing.getConnection()).hasToString("primary");
+        }
+    }
+
+    @Test
+    void replicaThatFailsToConnectIsExcludedImmediately() throws SQLException {
+        DataSource flaky = replicaDataSource("a", false, null, null);
+
+        try (ReadReplicaRoutingDataSource routing = routing(primaryDataSource("0/100"),
+                new ReadReplicaRoutingDataSource.Replica("a", flaky))) {
+            routing.checkReplicas();
+            assertThat(routing.getConnection()).hasToString("a");
+
+            when(flaky.getConnection()).thenThrow(new SQLException("connection refused"));
+
+            assertThat(routing.getConnection()).hasToString("primary");
+            assertThat(routing.getConnection()).hasToString("primary");
+        }
+    }
+
+    private static ReadReplicaRoutingDataSource routing(DataSource primary, ReadReplicaRoutingDataSource.Replica... replicas) {
+        return new ReadReplicaRoutingDataSource(List.of(replicas), primary, MAX_LAG_MILLIS, 1, new SimpleMeterRegistry());
+    }
+
+    private static DataSource primaryDataSource(String currentLsn) throws SQLException {
+        return dataSource("primary", lsnResultSet(currentLsn));
+    }
+
+    private static DataSource replicaDataSource(String name, boolean inRecovery, String receiverStatus, String replayLsn)
+            throws SQLException {
+        return dataSource(name, statusResultSet(inRecovery, receiverStatus, replayLsn));
+    }
+
+    /**
+     * 이름으로 구분되는 연결을 돌려주고, 어떤 쿼리든 주어진 결과를 반환하는 모의 데이터 소스를 만듭니다.
+     */
+    private static DataSource dataSource(String name, ResultSet resultSet) throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            Connection connection = mock(Connection.class, name);
+            when(connection.createStatement()).thenReturn(statement);
+            return connection;
+        });
+        return dataSource;
+    }
+
+    private static ResultSet statusResultSet(boolean inRecovery, String receiverStatus, String replayLsn)
+            throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getBoolean(1)).thenReturn(inRecovery);
+        when(rs.getString(2)).thenReturn(receiverStatus);
+        when(rs.getString(3)).thenReturn(replayLsn);
+        return rs;
+    }
+
+    private static ResultSet lsnResultSet(String lsn) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getString(1)).thenReturn(lsn);
+        return rs;
+    }
+}
@@ -0,0 +1,112 @@
+package com.email.email.repository;
+
+import com.email.email.domain.EmailHistoryCursor;
+import com.email.email.domain.EmailHistoryFilter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 발송 이력 조회가 email_history_view의 인덱스를 사용하는지 실행 계획으로 확인하는 테스트 클래스입니다.
+ * 조회 DB 마이그레이션을 적용한 PostgreSQL 컨테이너에 데이터를 채운 뒤,
+ * 저장소가 실제로 실행하는 SQL과 바인드 값을 가로채 순차 스캔을 끄지 않은 채 EXPLAIN합니다. Docker가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EmailHistoryQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        DataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/query")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(
+                "INSERT INTO email_history_view (recipient_id, email_id, sender_email, subject, request_time, status, " +
+                        "recipient_email, recipient_status, receive_time, fail_reason) " +
+                        "SELECT 'r' || g, 'e' || (g / 5), 'sender' || (g % 50) || '@example.com', 'subject ' || g, " +
+                        "date_trunc('month', now()) + (g % 10000) * INTERVAL '1 minute', 'SENT', " +
+                        "'Rcpt' || (g % 5000) || '@example.com', 'DELIVERED', NULL, NULL " +
+                        "FROM generate_series(1, 50000) AS g");
+        jdbcTemplate.execute("ANALYZE email_history_view");
+    }
+
+    @Test
+    void unfilteredHistoryUsesTimeIndex() {
+        List<String> plan = explainHistory(currentMonth().build(), null);
+
+        assertUsesIndex(plan, "idx_email_history_view_time");
+        assertNoSort(plan);
+    }
+
+    @Test
+    void senderHistoryUsesSenderIndex() {
+        List<String> plan = explainHistory(currentMonth().senderEmail("sender7@example.com").build(), null);
+
+        assertUsesIndex(plan, "idx_email_history_view_sender");
+        assertNoSort(plan);
+    }
+
+    @Test
+    void recipientHistoryUsesRecipientIndex() {
+        List<String> plan = explainHistory(currentMonth().recipientEmail(" rcpt42@EXAMPLE.com ").build(), null);
+
+        // 수신자당 행이 적으면 비트맵 스캔 후 정렬하는 계획도 정상이므로 인덱스 사용만 확인합니다.
+        assertUsesIndex(plan, "idx_email_history_view_recipient");
+    }
+
+    @Test
+    void nextPageUsesIndexWithoutSorting() {
+        EmailHistoryCursor after = new EmailHistoryCursor(
+                LocalDate.now().withDayOfMonth(1).atStartOfDay().plusMinutes(5000), "e500", "r2500");
+
+        List<String> plan = explainHistory(currentMonth().senderEmail("sender7@example.com").build(), after);
+
+        assertUsesIndex(plan, "idx_email_history_view_sender");
+        assertNoSort(plan);
+    }
+
+    private static EmailHistoryFilter.EmailHistoryFilterBuilder currentMonth() {
+        LocalDate today = LocalDate.now();
+        return EmailHistoryFilter.builder()
+                .startDate(today.withDayOfMonth(1))
+                .endDate(today.withDayOfMonth(today.lengthOfMonth()));
+    }
+
+    /**
+     * 저장소가 실행하는 발송 이력 SQL을 가로채 같은 바인드 값으로 실행 계획을 조회합니다.
+     */
+    private static List<String> explainHistory(EmailHistoryFilter filter, EmailHistoryCursor after) {
+        QueryPlans.CapturingJdbcTemplate readDb = new QueryPlans.CapturingJdbcTemplate(jdbcTemplate.getDataSource());
+        EmailRepositoryImpl repository = new EmailRepositoryImpl(jdbcTemplate, jdbcTemplate, readDb);
+        repository.findEmailHistory(filter, after, 20);
+
+        return QueryPlans.explainLast(readDb);
+    }
+
+    private static void assertUsesIndex(List<String> plan, String parentIndex) {
+        QueryPlans.assertUsesIndex(jdbcTemplate, plan, parentIndex);
+    }
+
+    private static void assertNoSort(List<String> plan) {
+        QueryPlans.assertNoSort(plan);
+    }
+}
@@ -0,0 +1,129 @@
+package com.email.email.repository;
+
+import com.email.email.domain.EmailHistoryFilter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 발송 요약, 수신자 조회, 발송 대기 선점, 전문 검색이 각 인덱스를 사용하는지 실행 계획으로 확인하는 테스트 클래스입니다.
+ * 커맨드 DB와 조회 DB 마이그레이션을 각각 다른 스키마에 적용하고 운영과 비슷한 분포의 데이터를 채워 ANALYZE한 뒤,
+ * 저장소가 실제로 실행하는 SQL과 바인드 값을 가로채 순차 스캔을 끄지 않은 채 EXPLAIN합니다. Docker가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EmailQueryPlanTest {
+
+    private static final int EMAIL_COUNT = 100_000;
+    private static final int USER_COUNT = 500;
+    private static final int RECIPIENTS_PER_EMAIL = 3;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate commandDb;
+    private static JdbcTemplate queryDb;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        commandDb = migrate("command");
+        queryDb = migrate("query");
+
+        // 이번 달 1일부터 한 달 동안 이메일을 고르게 나누고, 수신자는 요청 직후에 저장된 것으로 둡니다.
+        // 커맨드 DB는 대부분 발송이 끝난(SENT) 상태이고 천 건 중 한 건만 발송 대기(QUEUED)입니다.
+        for (JdbcTemplate db : List.of(commandDb, queryDb)) {
+            db.update("INSERT INTO emails (id, user_id, subject, sender_email, content, request_time, status, created_at) " +
+                            "SELECT 'e' || g, 'user' || (g % " + USER_COUNT + "), " +
+                            "(ARRAY['monthly invoice', 'refund request', 'shipment notice', 'welcome'])[1 + g % 4] " +
+                            "|| ' word' || (g % 5000), " +
+                            "'sender' || (g % 200) || '@example.com', " +
+                            "repeat('lorem ipsum dolor sit amet ', 10) || 'word' || (g % 997), " +
+                            "date_trunc('month', now()) + (g % 2592000) * INTERVAL '1 second', " +
+                            "CASE WHEN g % 1000 = 0 THEN 'QUEUED' ELSE 'SENT' END, now() " +
+                            "FROM generate_series(1, ?) AS g",
+                    EMAIL_COUNT);
+            db.update("INSERT INTO email_recipients (id, email_id, recipient_email, status, created_at) " +
+                            "SELECT 'r' || g || '-' || n, 'e' || g, 'rcpt' || ((g * 7 + n) % 20000) || '@example.com', " +
+                            "'DELIVERED', date_trunc('month', now()) + (g % 2592000) * INTERVAL '1 second' " +
+                            "+ n * INTERVAL '1 millisecond' " +
+                            "FROM generate_series(1, ?) AS g, generate_series(1, ?) AS n",
+                    EMAIL_COUNT, RECIPIENTS_PER_EMAIL);
+            db.execute("VACUUM ANALYZE emails");
+            db.execute("VACUUM ANALYZE email_recipients");
+        }
+    }
+
+    @Test
+    void recentSummariesUseUserAndRecipientIndexes() {
+        QueryPlans.CapturingJdbcTemplate capturing = new QueryPlans.CapturingJdbcTemplate(queryDb.getDataSource());
+        new EmailRepositoryImpl(commandDb, capturing, queryDb).findRecentSummariesByUserId("user42", 10);
+
+        List<String> plan = QueryPlans.explainLast(capturing);
+
+        QueryPlans.assertUsesIndex(queryDb, plan, "idx_emails_user_request_time");
+        QueryPlans.assertUsesIndex(queryDb, plan, "idx_email_recipients_email_created");
+        QueryPlans.assertNoSeqScanOnPopulatedTables(queryDb, plan);
+    }
+
+    @Test
+    void recipientLookupUsesEmailIndex() {
+        QueryPlans.CapturingJdbcTemplate capturing = new QueryPlans.CapturingJdbcTemplate(queryDb.getDataSource());
+        List<?> recipients = new EmailRepositoryImpl(commandDb, queryDb, capturing).findRecipientsByEmailId("e4242");
+        assertThat(recipients).hasSize(RECIPIENTS_PER_EMAIL);
+
+        List<String> plan = QueryPlans.explainLast(capturing);
+
+        QueryPlans.assertUsesIndex(queryDb, plan, "idx_email_recipients_email_created");
+        QueryPlans.assertNoSeqScanOnPopulatedTables(queryDb, plan);
+    }
+
+    @Test
+    void claimQueuedEmailsUsesDispatchIndex() {
+        QueryPlans.CapturingJdbcTemplate capturing = new QueryPlans.CapturingJdbcTemplate(commandDb.getDataSource());
+        // 선점한 행은 PROCESSING이 되지만 부분 인덱스 대상이므로 계획에는 영향이 없습니다.
+        new EmailRepositoryImpl(capturing, queryDb, queryDb).claimQueuedEmails(10, 300);
+
+        List<String> plan = QueryPlans.explainLast(capturing);
+
+        QueryPlans.assertUsesIndex(commandDb, plan, "idx_emails_dispatch");
+        QueryPlans.assertNoSeqScanOnPopulatedTables(commandDb, plan);
+    }
+
+    @Test
+    void searchUsesSearchVectorIndex() {
+        QueryPlans.CapturingJdbcTemplate capturing = new QueryPlans.CapturingJdbcTemplate(queryDb.getDataSource());
+        LocalDate firstDay = LocalDate.now().withDayOfMonth(1);
+        EmailHistoryFilter filter = EmailHistoryFilter.builder()
+                .startDate(firstDay)
+                .endDate(firstDay.plusMonths(1).minusDays(1))
+                .build();
+        new EmailRepositoryImpl(commandDb, queryDb, capturing).searchEmails("word4999", filter, null, 20);
+
+        List<String> plan = QueryPlans.explainLast(capturing);
+
+        QueryPlans.assertUsesIndex(queryDb, plan, "idx_emails_search_vector");
+        QueryPlans.assertNoSeqScanOnPopulatedTables(queryDb, plan);
+    }
+
+    private static JdbcTemplate migrate(String location) {
+        String url = POSTGRES.getJdbcUrl() + (POSTGRES.getJdbcUrl().contains("?") ? "&" : "?") + "currentSchema=" + location;
+        DataSource dataSource = new DriverManagerDataSource(url, POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(location)
+                .locations("classpath:db/migration/" + location)
+                .load()
+                .migrate();
+        return new JdbcTemplate(dataSource);
+    }
+}
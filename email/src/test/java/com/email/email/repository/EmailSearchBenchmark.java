@@ -0,0 +1,142 @@
+package com.email.email.repository;
+
+import com.email.email.domain.EmailHistoryFilter;
+import com.email.email.domain.EmailSearchCursor;
+import com.email.email.domain.EmailSearchResult;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제목/본문 전문 검색의 응답 시간을 측정하는 벤치마크입니다.
+ * 조회 DB 마이그레이션을 적용한 PostgreSQL 컨테이너에 이메일 100만 건(benchmark.search.emails로 변경 가능)을 채운 뒤,
+ * 흔한 단어, 드문 단어, 구문, OR, 제외어 검색의 첫 페이지와 키셋 커서로 넘긴 10번째 페이지 지연 시간(p50/p95)을 출력합니다.
+ * 기본 테스트에서는 제외되며 ./gradlew :email:benchmark로 실행합니다. Docker가 없으면 건너뜁니다.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class EmailSearchBenchmark {
+
+    private static final int EMAIL_COUNT = Integer.getInteger("benchmark.search.emails", 1_000_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 10;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 30;
+
+    // 흔한 단어(invoice 등)는 네 건 중 한 건꼴로, 드문 단어(word4999)는 5000건 중 한 건꼴로 제목에 나옵니다.
+    private static final List<String> QUERIES = List.of(
+            "invoice",
+            "word4999",
+            "\"monthly invoice\"",
+            "refund or shipment",
+            "invoice -refund");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static EmailRepositoryImpl emailRepository;
+    private static EmailHistoryFilter filter;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        DataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/query")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long start = System.currentTimeMillis();
+        // 마이그레이션이 만든 이번 달부터 석 달 동안의 월 파티션에 고르게 나눠 넣습니다.
+        jdbcTemplate.update(
+                "INSERT INTO emails (id, user_id, subject, sender_email, content, request_time, status, created_at) " +
+                        "SELECT 'e' || g, 'user' || (g % 1000), " +
+                        "(ARRAY['monthly invoice', 'refund request', 'shipment notice', 'welcome'])[1 + g % 4] " +
+                        "|| ' word' || (g % 5000), " +
+                        "'sender' || (g % 200) || '@example.com', " +
+                        "repeat('lorem ipsum dolor sit amet ', 20) || 'word' || (g % 997) || ' ' || " +
+                        "(ARRAY['invoice', 'refund', 'shipment', 'account'])[1 + (g / 7) % 4], " +
+                        "date_trunc('month', now()) + (g % 7776000) * INTERVAL '1 second', " +
+                        "'SENT', now() " +
+                        "FROM generate_series(1, ?) AS g",
+                EMAIL_COUNT);
+        jdbcTemplate.execute("VACUUM ANALYZE emails");
+        System.out.printf("검색 벤치마크 데이터 준비: emails=%d, elapsedMs=%d%n",
+                EMAIL_COUNT, System.currentTimeMillis() - start);
+
+        emailRepository = new EmailRepositoryImpl(jdbcTemplate, jdbcTemplate, jdbcTemplate);
+        LocalDate firstDay = LocalDate.now().withDayOfMonth(1);
+        filter = EmailHistoryFilter.builder()
+                .startDate(firstDay)
+                .endDate(firstDay.plusMonths(3).minusDays(1))
+                .build();
+    }
+
+    @Test
+    void measureSearchLatency() {
+        System.out.printf("%-24s %12s %12s %16s %16s%n",
+                "query", "p50 (ms)", "p95 (ms)", "page10 p50 (ms)", "page10 p95 (ms)");
+
+        for (String query : QUERIES) {
+            assertThat(emailRepository.searchEmails(query, filter, null, PAGE_SIZE)).isNotEmpty();
+
+            double[] firstPage = measure(() -> emailRepository.searchEmails(query, filter, null, PAGE_SIZE));
+            EmailSearchCursor deepCursor = cursorBefore(query, DEEP_PAGE);
+            double[] deepPage = measure(() -> emailRepository.searchEmails(query, filter, deepCursor, PAGE_SIZE));
+
+            System.out.printf("%-24s %12.2f %12.2f %16.2f %16.2f%n", query,
+                    percentile(firstPage, 50), percentile(firstPage, 95),
+                    percentile(deepPage, 50), percentile(deepPage, 95));
+        }
+    }
+
+    /**
+     * page번째 페이지를 조회할 때 넘기는 커서를 앞 페이지를 차례로 읽어 구합니다.
+     */
+    private static EmailSearchCursor cursorBefore(String query, int page) {
+        EmailSearchCursor cursor = null;
+        for (int i = 1; i < page; i++) {
+            List<EmailSearchResult> results = emailRepository.searchEmails(query, filter, cursor, PAGE_SIZE);
+            if (results.isEmpty()) {
+                break;
+            }
+            cursor = EmailSearchCursor.of(results.get(results.size() - 1));
+        }
+        return cursor;
+    }
+
+    private static double[] measure(Runnable search) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            search.run();
+        }
+
+        double[] samples = new double[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            search.run();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static double percentile(double[] sortedSamples, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(0, index)];
+    }
+}
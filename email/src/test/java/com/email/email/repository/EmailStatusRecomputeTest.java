@@ -0,0 +1,123 @@
+package com.email.email.repository;
+
+import com.email.email.domain.Email;
+import com.email.email.domain.EmailRecipient;
+import com.email.email.domain.EmailStatus;
+import com.email.email.domain.RecipientStatus;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신자별 발송 결과를 반영한 뒤 이메일 상태를 다시 계산하는 쿼리를 확인하는 테스트 클래스입니다.
+ * 일부 수신자의 결과만 돌아온 경우 실패로 확정하지 않는지 확인합니다. Docker가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EmailStatusRecomputeTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static EmailRepositoryImpl emailRepository;
+
+    @BeforeAll
+    static void migrate() {
+        DataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/command")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        emailRepository = new EmailRepositoryImpl(jdbcTemplate, jdbcTemplate, jdbcTemplate);
+    }
+
+    @Test
+    void keepsStatusWhileFailedResultsArePartial() {
+        String emailId = saveProcessingEmail(3);
+
+        emailRepository.applyDeliveryResults(emailId, List.of(result(0, RecipientStatus.FAILED)));
+
+        assertThat(emailRepository.recomputeEmailStatus(emailId)).isEqualTo(EmailStatus.PROCESSING);
+
+        emailRepository.applyDeliveryResults(emailId, List.of(
+                result(1, RecipientStatus.FAILED),
+                result(2, RecipientStatus.FAILED)));
+
+        assertThat(emailRepository.recomputeEmailStatus(emailId)).isEqualTo(EmailStatus.FAILED);
+    }
+
+    @Test
+    void marksSentOnceAnyRecipientIsDelivered() {
+        String emailId = saveProcessingEmail(3);
+
+        emailRepository.applyDeliveryResults(emailId, List.of(
+                result(0, RecipientStatus.FAILED),
+                result(1, RecipientStatus.DELIVERED)));
+
+        assertThat(emailRepository.recomputeEmailStatus(emailId)).isEqualTo(EmailStatus.SENT);
+    }
+
+    @Test
+    void returnsNullWithoutRecipients() {
+        String emailId = saveProcessingEmail(0);
+
+        assertThat(emailRepository.recomputeEmailStatus(emailId)).isNull();
+    }
+
+    /**
+     * 처리 중 상태의 이메일과 결과를 받지 않은(PENDING) 수신자를 저장합니다.
+     */
+    private static String saveProcessingEmail(int recipientCount) {
+        String emailId = UUID.randomUUID().toString();
+        emailRepository.saveEmail(Email.builder()
+                .id(emailId)
+                .userId("user")
+                .subject("subject")
+                .senderEmail("sender@example.com")
+                .content("content")
+                .requestTime(LocalDateTime.now())
+                .status(EmailStatus.PROCESSING)
+                .build());
+
+        List<EmailRecipient> recipients = new ArrayList<>(recipientCount);
+        for (int i = 0; i < recipientCount; i++) {
+            recipients.add(EmailRecipient.builder()
+                    .id(UUID.randomUUID().toString())
+                    .emailId(emailId)
+                    .recipientEmail(recipientEmail(i))
+                    .status(RecipientStatus.PENDING)
+                    .build());
+        }
+        emailRepository.saveRecipients(recipients);
+        return emailId;
+    }
+
+    private static EmailRecipient result(int index, RecipientStatus status) {
+        return EmailRecipient.builder()
+                .recipientEmail(recipientEmail(index))
+                .status(status)
+                .receiveTime(status == RecipientStatus.FAILED ? null : LocalDateTime.now())
+                .failReason(status == RecipientStatus.FAILED ? "delivery failed" : null)
+                .build();
+    }
+
+    private static String recipientEmail(int index) {
+        return "recipient" + index + "@example.com";
+    }
+}
@@ -0,0 +1,90 @@
+package com.email.email.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월 파티션 생성 함수(ensure_monthly_partitions)가 DEFAULT 파티션에 쌓인 행을 새 파티션으로 옮기는지 확인하는 테스트 클래스입니다.
+ * 커맨드 DB와 조회 DB 마이그레이션을 각각 다른 스키마에 적용하여 두 함수 정의를 모두 확인합니다. Docker가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MonthlyPartitionMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate commandDb;
+    private static JdbcTemplate queryDb;
+
+    @BeforeAll
+    static void migrate() {
+        commandDb = migrate("command");
+        queryDb = migrate("query");
+    }
+
+    @Test
+    void commandPartitionTakesOverDefaultRows() {
+        LocalDate month = LocalDate.now().plusYears(2).withDayOfMonth(1);
+        commandDb.update("INSERT INTO emails (id, user_id, subject, request_time, status) VALUES (?, ?, ?, ?, ?)",
+                "partition-test-email", "user", "subject", Date.valueOf(month.plusDays(3)), "SENT");
+        assertThat(count(commandDb, "emails_default")).isEqualTo(1);
+
+        List<String> created = ensure(commandDb, "emails", month);
+
+        String partition = "emails_p" + month.getYear() + String.format("%02d", month.getMonthValue());
+        assertThat(created).containsExactly(partition);
+        assertThat(count(commandDb, partition)).isEqualTo(1);
+        assertThat(count(commandDb, "emails_default")).isZero();
+        assertThat(ensure(commandDb, "emails", month)).isEmpty();
+    }
+
+    @Test
+    void queryPartitionKeepsGeneratedColumns() {
+        LocalDate month = LocalDate.now().plusYears(3).withDayOfMonth(1);
+        queryDb.update("INSERT INTO email_history_view (recipient_id, email_id, request_time, recipient_email) " +
+                        "VALUES (?, ?, ?, ?)",
+                "partition-test-recipient", "partition-test-email", Date.valueOf(month.plusDays(1)), " Someone@Example.com ");
+
+        ensure(queryDb, "email_history_view", month);
+
+        String partition = "email_history_view_p" + month.getYear() + String.format("%02d", month.getMonthValue());
+        assertThat(queryDb.queryForObject("SELECT recipient_key FROM " + partition, String.class))
+                .isEqualTo("someone@example.com");
+        assertThat(count(queryDb, "email_history_view_default")).isZero();
+    }
+
+    private static JdbcTemplate migrate(String location) {
+        String url = POSTGRES.getJdbcUrl() + (POSTGRES.getJdbcUrl().contains("?") ? "&" : "?") + "currentSchema=" + location;
+        DataSource dataSource = new DriverManagerDataSource(url, POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(location)
+                .locations("classpath:db/migration/" + location)
+                .load()
+                .migrate();
+        return new JdbcTemplate(dataSource);
+    }
+
+    private static List<String> ensure(JdbcTemplate db, String table, LocalDate month) {
+        return db.queryForList("SELECT * FROM ensure_monthly_partitions(?, ?, ?)", String.class,
+                table, Date.valueOf(month), Date.valueOf(month));
+    }
+
+    private static long count(JdbcTemplate db, String table) {
+        Long count = db.queryForObject("SELECT count(*) FROM " + table, Long.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.email.email.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소가 실행한 SQL을 가로채 실행 계획을 확인하는 테스트 도우미입니다.
+ * 순차 스캔을 끄지 않고 ANALYZE한 통계 그대로 EXPLAIN하므로, 플래너가 실제 운영과 같은 기준으로 인덱스를 고르는지 봅니다.
+ */
+final class QueryPlans {
+
+    private static final Pattern SORT_NODE = Pattern.compile("Sort\\s+\\(cost");
+    private static final Pattern SEQ_SCAN_NODE = Pattern.compile("Seq Scan on (\\w+)");
+
+    private QueryPlans() {
+    }
+
+    /**
+     * 가로챈 마지막 SQL을 같은 바인드 값으로 EXPLAIN한 결과를 반환합니다.
+     */
+    static List<String> explainLast(CapturingJdbcTemplate db) {
+        assertThat(db.lastSql).as("no query was captured").isNotNull();
+
+        return db.execute((ConnectionCallback<List<String>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + db.lastSql)) {
+                for (int i = 0; i < db.lastArgs.length; i++) {
+                    ps.setObject(i + 1, db.lastArgs[i]);
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        lines.add(rs.getString(1));
+                    }
+                }
+                return lines;
+            }
+        });
+    }
+
+    /**
+     * 분할 테이블의 인덱스는 파티션마다 자동으로 이름이 붙으므로 상위 인덱스에 속한 파티션 인덱스 이름으로 확인합니다.
+     */
+    static void assertUsesIndex(JdbcTemplate db, List<String> plan, String parentIndex) {
+        List<String> partitionIndexes = db.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = ?::regclass",
+                String.class, parentIndex);
+        String planText = String.join("\n", plan);
+
+        assertThat(partitionIndexes).isNotEmpty();
+        assertThat(partitionIndexes)
+                .as("plan:%n%s", planText)
+                .anyMatch(planText::contains);
+    }
+
+    static void assertNoSort(List<String> plan) {
+        String planText = String.join("\n", plan);
+
+        assertThat(SORT_NODE.matcher(planText).find())
+                .as("keyset order should come from the index, plan:%n%s", planText)
+                .isFalse();
+    }
+
+    /**
+     * 데이터가 있는 테이블이나 파티션을 순차 스캔하지 않는지 확인합니다.
+     * 아직 비어 있는 미래 월 파티션과 DEFAULT 파티션은 순차 스캔 비용이 0이므로 제외합니다.
+     */
+    static void assertNoSeqScanOnPopulatedTables(JdbcTemplate db, List<String> plan) {
+        String planText = String.join("\n", plan);
+        Matcher matcher = SEQ_SCAN_NODE.matcher(planText);
+
+        while (matcher.find()) {
+            Long rows = db.queryForObject("SELECT count(*) FROM " + matcher.group(1), Long.class);
+            assertThat(rows)
+                    .as("sequential scan on %s, plan:%n%s", matcher.group(1), planText)
+                    .isZero();
+        }
+    }
+
+    /**
+     * 마지막으로 실행한 조회 SQL과 바인드 값을 기록하는 JdbcTemplate입니다.
+     */
+    static class CapturingJdbcTemplate extends JdbcTemplate {
+
+        private String lastSql;
+        private Object[] lastArgs;
+
+        CapturingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            this.lastSql = sql;
+            this.lastArgs = args;
+            return super.query(sql, rowMapper, args);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.email.email.repository;
+
+import com.email.email.domain.Email;
+import com.email.email.domain.EmailRecipient;
+import com.email.email.domain.EmailStatus;
+import com.email.email.domain.RecipientStatus;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이메일 발송 시 수신자 저장 지연 시간을 행 단위 INSERT(이전 방식)와 다중 행 일괄 INSERT로 비교하는 벤치마크입니다.
+ * sendEmail과 같이 이메일 한 건과 수신자 전체를 한 트랜잭션에서 저장하며, 수신자 10명, 1천 명, 1만 명에 대한 중앙값을 출력합니다.
+ * 기본 테스트에서는 제외되며 ./gradlew :email:benchmark로 실행합니다. Docker가 없으면 건너뜁니다.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class RecipientBatchInsertBenchmark {
+
+    private static final int[] RECIPIENT_COUNTS = {10, 1_000, 10_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 7;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static EmailRepositoryImpl emailRepository;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/command")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        emailRepository = new EmailRepositoryImpl(jdbcTemplate, jdbcTemplate, jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void compareRowByRowAndBatchedRecipientInserts() {
+        System.out.printf("%-12s %18s %18s %10s%n", "recipients", "row-by-row (ms)", "batched (ms)", "speedup");
+
+        for (int count : RECIPIENT_COUNTS) {
+            double rowByRow = medianMillis(count, false);
+            double batched = medianMillis(count, true);
+            System.out.printf("%-12d %18.2f %18.2f %9.1fx%n", count, rowByRow, batched, rowByRow / batched);
+
+            if (count == RECIPIENT_COUNTS[RECIPIENT_COUNTS.length - 1]) {
+                assertThat(batched).isLessThan(rowByRow);
+            }
+        }
+    }
+
+    private static double medianMillis(int recipientCount, boolean batched) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sendOnce(recipientCount, batched);
+        }
+
+        double[] samples = new double[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            samples[i] = sendOnce(recipientCount, batched);
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_ROUNDS / 2];
+    }
+
+    /**
+     * 이메일 한 건과 수신자를 한 트랜잭션에서 저장하고 걸린 시간(ms)을 반환합니다.
+     */
+    private static double sendOnce(int recipientCount, boolean batched) {
+        String emailId = UUID.randomUUID().toString();
+        List<EmailRecipient> recipients = new ArrayList<>(recipientCount);
+        for (int i = 0; i < recipientCount; i++) {
+            recipients.add(EmailRecipient.builder()
+                    .id(UUID.randomUUID().toString())
+                    .emailId(emailId)
+                    .recipientEmail("recipient" + i + "@example.com")
+                    .status(RecipientStatus.PENDING)
+                    .build());
+        }
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            emailRepository.saveEmail(Email.builder()
+                    .id(emailId)
+                    .userId("benchmark")
+                    .subject("benchmark")
+                    .senderEmail("sender@example.com")
+                    .content("benchmark")
+                    .requestTime(LocalDateTime.now())
+                    .status(EmailStatus.SENT)
+                    .build());
+
+            if (batched) {
+                emailRepository.saveRecipients(recipients);
+            } else {
+                recipients.forEach(emailRepository::saveRecipient);
+            }
+        });
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
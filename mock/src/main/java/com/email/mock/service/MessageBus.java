@@ -1,14 +1,14 @@
 package com.email.mock.service;
 
-import com.azure.messaging.servicebus.ServiceBusClientBuilder;
-import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import com.email.common.messaging.EventMessage;
+import com.email.common.messaging.EventPublisher;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import com.azure.messaging.servicebus.ServiceBusMessage;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
 * 메시지 버스 클래스입니다.
@@ -17,18 +17,20 @@ import java.util.Map;
 @Component
 public class MessageBus {
 
-   private final String connectionString;
+   private static final long PUBLISH_TIMEOUT_SECONDS = 10;
+
+   private final EventPublisher eventPublisher;
    private final String emailEventsQueue;
    private final String emailOpenEventsQueue;
    private final String attachmentClickEventsQueue;
    private final ObjectMapper objectMapper;
    
    public MessageBus(
-           @Value("${azure.servicebus.connection-string}") String connectionString,
+           EventPublisher eventPublisher,
            @Value("${azure.servicebus.queue.email-events}") String emailEventsQueue,
            @Value("${azure.servicebus.queue.email-open-events}") String emailOpenEventsQueue,
            @Value("${azure.servicebus.queue.attachment-click-events}") String attachmentClickEventsQueue) {
-       this.connectionString = connectionString;
+       this.eventPublisher = eventPublisher;
        this.emailEventsQueue = emailEventsQueue;
        this.emailOpenEventsQueue = emailOpenEventsQueue;
        this.attachmentClickEventsQueue = attachmentClickEventsQueue;
@@ -65,25 +67,17 @@ public class MessageBus {
 
     /**
      * 지정된 큐에 이벤트를 발행합니다.
+     * 공용 발행기가 큐별 발신자를 재사용하고 동시 요청을 배치로 묶어 전송합니다.
      *
      * @param queueName 큐 이름
      * @param event 이벤트 데이터
      */
     private void publish(String queueName, Map<String, Object> event) {
         try {
-            ServiceBusSenderClient sender = new ServiceBusClientBuilder()
-                    .connectionString(connectionString)
-                    .sender()
-                    .queueName(queueName)
-                    .buildClient();
-
             String eventJson = objectMapper.writeValueAsString(event);
 
-            // 문자열을 ServiceBusMessage 객체로 변환하여 전송
-            ServiceBusMessage message = new ServiceBusMessage(eventJson);
-            sender.sendMessage(message);
-
-            sender.close();
+            eventPublisher.publish(queueName, EventMessage.of(eventJson))
+                    .get(PUBLISH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
 
             log.info("이벤트 발행 성공: queue={}, eventType={}", queueName, event.get("eventType"));
         } catch (Exception e) {